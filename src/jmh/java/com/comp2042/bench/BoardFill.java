@@ -0,0 +1,61 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.GameBoard;
+import com.comp2042.logic.bricks.PieceTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Builds the partly filled boards shared by the benchmarks.
+ * The bottom {@code fillPercent} of the rows form a ragged stack: each stacked row
+ * is about 70% occupied and always keeps at least one hole, so no row is full and
+ * benchmarks that only read the board never trigger a clear.
+ */
+final class BoardFill {
+
+    /** Board width used by every benchmark, as in the real game. */
+    static final int WIDTH = 10;
+    /** Board height used by every benchmark, as in the real game. */
+    static final int HEIGHT = 25;
+    /** Seed of the stack pattern, fixed so every run measures the same boards. */
+    static final long SEED = 2042L;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BoardFill() { }
+
+    /**
+     * Creates a board whose bottom rows are stacked.
+     *
+     * @param fillPercent The share of the rows to stack, from 0 to 100.
+     * @return A new board.
+     */
+    static GameBoard board(int fillPercent) {
+        GameBoard board = new GameBoard(WIDTH, HEIGHT);
+        SplittableRandom random = new SplittableRandom(SEED);
+        int stacked = HEIGHT * fillPercent / 100;
+        for (int row = HEIGHT - stacked; row < HEIGHT; row++) {
+            int hole = random.nextInt(WIDTH);
+            for (int col = 0; col < WIDTH; col++) {
+                if (col != hole && random.nextInt(100) < 70) {
+                    int colour = 1 + random.nextInt(PieceTable.PIECE_COUNT);
+                    board.mergeBrick(col, row, BrickShape.of(new int[][]{{colour}}));
+                }
+            }
+        }
+        board.clearRows();
+        return board;
+    }
+
+    /**
+     * Creates the matrix form of {@link #board(int)}, for the matrix-based code paths.
+     *
+     * @param fillPercent The share of the rows to stack, from 0 to 100.
+     * @return A new board matrix.
+     */
+    static int[][] matrix(int fillPercent) {
+        return board(fillPercent).getGameMatrix();
+    }
+}
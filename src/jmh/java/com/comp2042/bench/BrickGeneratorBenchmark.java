@@ -0,0 +1,75 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.HistoryBrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing bricks and reading the preview queue of each generator mode, with the
+ * game's {@link RandomBrickGenerator} as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickGeneratorBenchmark {
+
+    /** The generator mode. */
+    @Param({"random", "sevenBag", "history"})
+    public String mode;
+
+    private BrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(BoardFill.SEED);
+        switch (mode) {
+            case "random": generator = new RandomBrickGenerator(); break;
+            case "sevenBag": generator = new SevenBagBrickGenerator(random); break;
+            case "history": generator = new HistoryBrickGenerator(BoardFill.SEED); break;
+            default: throw new IllegalArgumentException("Unknown generator mode: " + mode);
+        }
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public Brick getNextBrick() {
+        return generator.getNextBrick();
+    }
+
+    /**
+     * Reads the whole preview queue, as the next-brick panel does after every lock.
+     *
+     * @return The last brick of the preview.
+     */
+    @Benchmark
+    public Brick peekPreview() {
+        Brick last = null;
+        for (int i = 0; i < generator.getLookahead(); i++) {
+            last = generator.peek(i);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.GameBoard;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bitboard collision, full-row and merge-and-clear path of {@link GameBoard},
+ * the counterpart of {@link MatrixOperationsBenchmark}.
+ * Collision checks use the same sweep over every brick, column and row.
+ * {@link #mergeAndClear()} re-merges the same brick at the top of the board, which
+ * never completes a line, so each call pays only for the merge and the check of the
+ * touched rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    /** Share of the board rows that hold stacked blocks. */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private GameBoard board;
+    private BrickShape[] shapes;
+    /** Position in the sweep over (brick, column, row). */
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = BoardFill.board(fillPercent);
+        shapes = new BrickShape[PieceTable.PIECE_COUNT];
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            shapes[id - 1] = PieceTable.getShape(id, 0);
+        }
+    }
+
+    @Benchmark
+    public boolean isCollision() {
+        int step = next();
+        return board.isCollision(column(step), row(step), shapes[step % shapes.length]);
+    }
+
+    @Benchmark
+    public int fullRows() {
+        int full = 0;
+        for (int row = 0; row < BoardFill.HEIGHT; row++) {
+            if (board.isRowFull(row)) {
+                full++;
+            }
+        }
+        return full;
+    }
+
+    @Benchmark
+    public ClearRow mergeAndClear() {
+        board.mergeBrick(0, 0, shapes[0]);
+        return board.clearRows();
+    }
+
+    /**
+     * Advances the sweep.
+     *
+     * @return The new sweep position.
+     */
+    private int next() {
+        cursor = cursor == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    private static int column(int step) {
+        return (step / PieceTable.PIECE_COUNT) % (BoardFill.WIDTH - 2) - 1;
+    }
+
+    private static int row(int step) {
+        return (step / (PieceTable.PIECE_COUNT * (BoardFill.WIDTH - 2))) % (BoardFill.HEIGHT - 2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.GameBoard;
+import com.comp2042.logic.GhostCalculator;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ghost-row lookup for a brick at the spawn row, through the matrix stepping
+ * variant and the skyline variant of {@link GhostCalculator#computeGhostY}.
+ * Calls cycle through every brick and every column the brick fits in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostCalculatorBenchmark {
+
+    /** Share of the board rows that hold stacked blocks. */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private GameBoard board;
+    private int[][] matrix;
+    private Brick[] bricks;
+    private BrickShape[] shapes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = BoardFill.board(fillPercent);
+        matrix = board.getGameMatrix();
+        bricks = new Brick[PieceTable.PIECE_COUNT];
+        shapes = new BrickShape[PieceTable.PIECE_COUNT];
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            bricks[id - 1] = PieceTable.getBrick(id);
+            shapes[id - 1] = PieceTable.getShape(id, 0);
+        }
+    }
+
+    @Benchmark
+    public int matrixGhost() {
+        int step = next();
+        int brick = step % bricks.length;
+        return GhostCalculator.computeGhostY(matrix, bricks[brick], column(step, shapes[brick]), 0,
+                BoardFill.HEIGHT, 0);
+    }
+
+    @Benchmark
+    public int skylineGhost() {
+        int step = next();
+        BrickShape shape = shapes[step % shapes.length];
+        return GhostCalculator.computeGhostY(board, shape, column(step, shape), 0);
+    }
+
+    private int next() {
+        cursor = cursor == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    /**
+     * Picks a column at which the whole shape lies inside the board.
+     *
+     * @param step The sweep position.
+     * @param shape The shape being dropped.
+     * @return The column of the shape's top-left corner.
+     */
+    private static int column(int step, BrickShape shape) {
+        int span = BoardFill.WIDTH - shape.getBoundingWidth() + 1;
+        return (step / PieceTable.PIECE_COUNT) % span - shape.getMinColumn();
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The original matrix-based collision, merge and line-clear path of {@link MatrixOperations}.
+ * Each call tests one brick at the next position of a sweep over every column and
+ * row, so the measured cost is averaged over hits, misses and wall contacts.
+ * Merges sweep only the positions where the whole brick lies inside the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    /** Share of the board rows that hold stacked blocks. */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private int[][] board;
+    private int[][][] bricks;
+    private BrickShape[] shapes;
+    /** Position in the sweep over (brick, column, row). */
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = BoardFill.matrix(fillPercent);
+        bricks = new int[PieceTable.PIECE_COUNT][][];
+        shapes = new BrickShape[PieceTable.PIECE_COUNT];
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            shapes[id - 1] = PieceTable.getShape(id, 0);
+            bricks[id - 1] = shapes[id - 1].toMatrix();
+        }
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        int step = next();
+        return MatrixOperations.intersect(board, bricks[step % bricks.length], column(step), row(step));
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        int step = next();
+        BrickShape shape = shapes[step % shapes.length];
+        int column = (step / PieceTable.PIECE_COUNT) % (BoardFill.WIDTH - shape.getBoundingWidth() + 1)
+                - shape.getMinColumn();
+        int row = (step / (PieceTable.PIECE_COUNT * BoardFill.WIDTH)) % (BoardFill.HEIGHT - shape.getBoundingHeight() + 1)
+                - shape.getMinRow();
+        return MatrixOperations.merge(board, bricks[step % bricks.length], column, row);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(board);
+    }
+
+    /**
+     * Advances the sweep.
+     *
+     * @return The new sweep position.
+     */
+    private int next() {
+        cursor = cursor == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    private static int column(int step) {
+        return (step / PieceTable.PIECE_COUNT) % (BoardFill.WIDTH - 2) - 1;
+    }
+
+    private static int row(int step) {
+        return (step / (PieceTable.PIECE_COUNT * (BoardFill.WIDTH - 2))) % (BoardFill.HEIGHT - 2);
+    }
+}
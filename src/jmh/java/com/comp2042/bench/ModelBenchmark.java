@@ -0,0 +1,96 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the {@link ViewData} and {@link DownData} handed to the view after every
+ * input: fresh immutable instances against refreshing the engine-owned reusable ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    private BrickShape active;
+    private BrickShape[] preview;
+    private int[][] activeMatrix;
+    private int[][] nextMatrix;
+    private ViewData reusableView;
+    private DownData reusableDown;
+    private ClearRow noLines;
+    private int x;
+
+    @Setup
+    public void setUp() {
+        active = PieceTable.getShape(PieceTable.T, 0);
+        preview = new BrickShape[Constants.PREVIEW_COUNT];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = PieceTable.getShape(PieceTable.I + i, 0);
+        }
+        activeMatrix = active.toMatrix();
+        nextMatrix = preview[0].toMatrix();
+        reusableView = ViewData.createReusable();
+        reusableDown = DownData.createReusable();
+        noLines = new ClearRow(new int[0], 0);
+    }
+
+    /**
+     * The original constructor, which deep-copies both shape matrices.
+     *
+     * @return A new view.
+     */
+    @Benchmark
+    public ViewData newViewDataFromMatrices() {
+        return new ViewData(activeMatrix, step(), 2, nextMatrix, 20);
+    }
+
+    @Benchmark
+    public ViewData newViewDataWithPreview() {
+        return new ViewData(active, step(), 2, preview, preview.length, 20);
+    }
+
+    @Benchmark
+    public ViewData updateReusableViewData() {
+        return reusableView.update(active, step(), 2, preview, preview.length, 20);
+    }
+
+    @Benchmark
+    public DownData newDownData() {
+        return new DownData(noLines, new ViewData(active, step(), 2, preview, preview.length, 20), true);
+    }
+
+    @Benchmark
+    public DownData updateReusableDownData() {
+        return reusableDown.update(noLines, reusableView.update(active, step(), 2, preview, preview.length, 20), true);
+    }
+
+    /**
+     * Varies the column so the writes cannot be folded away.
+     *
+     * @return The next column.
+     */
+    private int step() {
+        x = (x + 1) & 7;
+        return x;
+    }
+}
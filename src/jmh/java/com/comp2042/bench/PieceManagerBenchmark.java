@@ -0,0 +1,87 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.PieceManager;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.model.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-input work of the active brick: sideways moves, rotations and gravity
+ * steps, each followed by the view refresh the controller does after every input.
+ * Nothing is merged, so the board keeps its fill level for the whole run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceManagerBenchmark {
+
+    /** Share of the board rows that hold stacked blocks. */
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private PieceManager pieces;
+
+    @Setup
+    public void setUp() {
+        pieces = new PieceManager(BoardFill.board(fillPercent),
+                new SevenBagBrickGenerator(new SplittableRandom(BoardFill.SEED)));
+        pieces.spawnNewBrick();
+    }
+
+    /**
+     * One step left and one back, so the brick stays put over the run.
+     *
+     * @return Whether both moves succeeded.
+     */
+    @Benchmark
+    public boolean moveLeftAndRight() {
+        return pieces.moveLeft() & pieces.moveRight();
+    }
+
+    @Benchmark
+    public boolean rotate() {
+        return pieces.rotateLeft();
+    }
+
+    /**
+     * One gravity step; a brick that has landed is replaced by the next one at the top.
+     *
+     * @return Whether the brick moved down.
+     */
+    @Benchmark
+    public boolean moveDown() {
+        if (pieces.moveDown()) {
+            return true;
+        }
+        pieces.spawnNewBrick();
+        return false;
+    }
+
+    @Benchmark
+    public ViewData moveAndRefresh() {
+        pieces.moveLeft();
+        pieces.moveRight();
+        return pieces.refreshViewData();
+    }
+
+    @Benchmark
+    public ViewData snapshotViewData() {
+        return pieces.getViewData();
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.model.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full lock-and-clear cycles of a {@link SimpleBoard}: move and rotate the brick,
+ * hard drop it, merge it, clear lines and spawn the next one. Placements follow a
+ * fixed pseudo-random schedule, so the stack grows, clears lines and tops out
+ * again and again; one measurement covers every fill level from empty to full.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    /** Length of the placement schedule; a power of two. */
+    private static final int SCHEDULE = 1 << 10;
+
+    private SimpleBoard board;
+    /** Sideways moves before each drop, negative for left. */
+    private int[] shifts;
+    /** Rotations before each drop. */
+    private int[] turns;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(BoardFill.WIDTH, BoardFill.HEIGHT,
+                new SevenBagBrickGenerator(new SplittableRandom(BoardFill.SEED)));
+        board.newGame();
+        SplittableRandom random = new SplittableRandom(BoardFill.SEED);
+        shifts = new int[SCHEDULE];
+        turns = new int[SCHEDULE];
+        for (int i = 0; i < SCHEDULE; i++) {
+            shifts[i] = random.nextInt(-5, 6);
+            turns[i] = random.nextInt(4);
+        }
+    }
+
+    /**
+     * Places one brick and starts a new game when the next one cannot spawn.
+     *
+     * @return The rows cleared by the placement.
+     */
+    @Benchmark
+    public ClearRow lockAndClear() {
+        int step = cursor++ & (SCHEDULE - 1);
+        for (int i = 0; i < turns[step]; i++) {
+            board.rotateLeftBrick();
+        }
+        for (int i = shifts[step]; i < 0; i++) {
+            board.moveBrickLeft();
+        }
+        for (int i = shifts[step]; i > 0; i--) {
+            board.moveBrickRight();
+        }
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        ClearRow cleared = board.clearRows();
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+        return cleared;
+    }
+}
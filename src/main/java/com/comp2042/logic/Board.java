@@ -1,8 +1,11 @@
 package com.comp2042.logic;
 
+import com.comp2042.logic.bricks.Brick;
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.ViewData;
 
+import java.util.BitSet;
+
 /**
  * Defines the contract for a game board in a Tetris-like game.
  * It specifies the operations related to brick movement, rotation,
@@ -17,6 +20,13 @@ public interface Board {
      */
     boolean moveBrickDown();
 
+    /**
+     * Drops the current brick straight down to where it would land, in a single step.
+     *
+     * @return The number of rows the brick fell.
+     */
+    int hardDropBrick();
+
     /**
      * Attempts to move the current brick left by one unit.
      *
@@ -45,6 +55,27 @@ public interface Board {
      */
     boolean createNewBrick();
 
+    /**
+     * Returns the brick currently falling, so callers can look up all of its rotations.
+     *
+     * @return The active {@code Brick}.
+     */
+    Brick getActiveBrick();
+
+    /**
+     * Returns the rotation the active brick is currently in.
+     *
+     * @return The rotation index into the brick's rotations, 0 right after spawning.
+     */
+    int getActiveRotation();
+
+    /**
+     * Returns the brick that will spawn after the active one, as shown in the preview.
+     *
+     * @return The next {@code Brick}.
+     */
+    Brick getNextBrick();
+
     /**
      * Returns the current state of the game board as a 2D integer array.
      * Each integer represents a block type or empty space.
@@ -53,6 +84,14 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns a read-only, copy-on-write view of the game board.
+     * It does not copy the board unless the board changes while the snapshot is open.
+     *
+     * @return A {@code BoardSnapshot}; close it after reading.
+     */
+    BoardSnapshot getBoardSnapshot();
+
     /**
      * Retrieves the current data needed for rendering the game view.
      * This includes the board matrix and the current brick's position and shape.
@@ -61,6 +100,15 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Refreshes and returns the board's reusable view data without allocating.
+     * The returned object is overwritten by the next call, so it must be consumed
+     * straight away rather than stored.
+     *
+     * @return The reusable ViewData, updated to the current state.
+     */
+    ViewData refreshViewData();
+
     /**
      * Merges the current brick into the background of the game board.
      * This typically happens when a brick lands and can no longer move down.
@@ -76,11 +124,18 @@ public interface Board {
     ClearRow clearRows();
 
     /**
-     * Retrieves the current score object for the game.
+     * Moves the set of board rows changed since the previous call into {@code target}.
+     *
+     * @param target The set to overwrite with the dirty row indices.
+     */
+    void drainDirtyRows(BitSet target);
+
+    /**
+     * Retrieves the plain score counters for the game.
      *
-     * @return The Score object.
+     * @return The {@code ScoreModel} of this board.
      */
-    Score getScore();
+    ScoreModel getScore();
 
     /**
      * Resets the game board and prepares for a new game.
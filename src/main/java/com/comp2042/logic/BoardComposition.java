@@ -0,0 +1,125 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ViewData;
+
+/**
+ * What each cell of a {@link RenderFrame}'s board shows once the pieces are drawn
+ * over it: the active brick over the ghost piece over the landed blocks.
+ * A cell's content is its colour id, with {@link #GHOST} set when the ghost covers
+ * it, and 0 when it is empty. Renderers compare the contents of consecutive frames
+ * to find the cells they have to redraw.
+ */
+public final class BoardComposition {
+
+    /** Flag set on a cell's content when it shows the ghost piece; the low bits hold the colour id. */
+    public static final int GHOST = 1 << 8;
+
+    private final int rows;
+    private final int columns;
+    /** The landed blocks of the newest board version seen. */
+    private final int[][] landed;
+    /** The composed contents. */
+    private final int[][] contents;
+    /** Board version {@link #landed} was copied from. */
+    private long boardVersion = -1;
+
+    /**
+     * Creates an empty composition.
+     *
+     * @param rows The number of board rows, including the hidden ones.
+     * @param columns The number of board columns.
+     */
+    public BoardComposition(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Board must have at least one row and column: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.landed = new int[rows][columns];
+        this.contents = new int[rows][columns];
+    }
+
+    /**
+     * Composes a frame. The landed blocks are only read from the frame when its
+     * board version differs from the last one composed.
+     *
+     * @param frame The frame; its board must have this composition's size.
+     * @param ghostVisible Whether the ghost piece is drawn.
+     */
+    public void compose(RenderFrame frame, boolean ghostVisible) {
+        if (frame.getBoardVersion() != boardVersion) {
+            boardVersion = frame.getBoardVersion();
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    landed[i][j] = frame.getCell(i, j);
+                }
+            }
+        }
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(landed[i], 0, contents[i], 0, columns);
+        }
+
+        ViewData brick = frame.getActiveBrick();
+        BrickShape shape = brick.getBrickShape();
+        if (ghostVisible) {
+            place(shape, brick.getxPosition(), brick.getGhostYPosition(), GHOST);
+        }
+        place(shape, brick.getxPosition(), brick.getyPosition(), 0);
+    }
+
+    /**
+     * Returns the composed content of a cell.
+     *
+     * @param row The board row.
+     * @param col The board column.
+     * @return The colour id, with {@link #GHOST} set for a ghost cell; 0 if empty.
+     */
+    public int get(int row, int col) {
+        return contents[row][col];
+    }
+
+    /**
+     * Returns the number of rows, including the hidden ones.
+     *
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The column count.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Forgets the landed blocks, so the next frame is read in full.
+     */
+    public void reset() {
+        boardVersion = -1;
+    }
+
+    /**
+     * Marks the cells of a brick shape, skipping cells outside the board.
+     *
+     * @param shape The brick's shape.
+     * @param x The board column of the shape's left edge.
+     * @param y The board row of the shape's top edge.
+     * @param flag {@link #GHOST} for the ghost piece, 0 for the active brick.
+     */
+    private void place(BrickShape shape, int x, int y, int flag) {
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int shapeRow = shape.getCellRow(cell);
+            int shapeCol = shape.getCellColumn(cell);
+            int row = y + shapeRow;
+            int col = x + shapeCol;
+            if (row >= 0 && row < rows && col >= 0 && col < columns) {
+                contents[row][col] = shape.getCell(shapeRow, shapeCol) | flag;
+            }
+        }
+    }
+}
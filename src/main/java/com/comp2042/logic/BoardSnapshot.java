@@ -0,0 +1,159 @@
+package com.comp2042.logic;
+
+/**
+ * A read-only view of a {@link GameBoard} at one version.
+ * While the board is unchanged the snapshot reads straight from the board's own
+ * storage, so taking one costs no copy. If the board is about to change while the
+ * snapshot is still open, the board first copies its current cells into the
+ * snapshot, which keeps seeing the version it was taken at.
+ * Close snapshots as soon as they have been read (try-with-resources) so that
+ * later board changes do not have to copy for them.
+ * Not thread-safe: snapshots must be used on the thread that drives the board.
+ */
+public final class BoardSnapshot implements AutoCloseable {
+
+    private final int width;
+    private final int height;
+    private final long version;
+    /** The board's Zobrist hash at {@link #version}. */
+    private final long hash;
+    /** The board being read, or null once the snapshot has been detached or closed. */
+    private GameBoard board;
+    /** Private copy of the cells, set when the board changed while this snapshot was open. */
+    private int[][] cells;
+    /** Private copy of the row masks, set together with {@code cells}. */
+    private long[] rowMasks;
+    private boolean closed;
+
+    /**
+     * Creates a snapshot that shares the board's storage.
+     * Only {@link GameBoard#snapshot()} creates snapshots, so it can register them.
+     *
+     * @param board The board to read.
+     */
+    BoardSnapshot(GameBoard board) {
+        this.board = board;
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+        this.version = board.getVersion();
+        this.hash = board.getHash();
+    }
+
+    /**
+     * Copies the board's current contents into this snapshot and stops sharing.
+     * Called by the board just before it changes.
+     */
+    void detach() {
+        cells = board.getGameMatrix();
+        rowMasks = new long[height];
+        for (int row = 0; row < height; row++) {
+            rowMasks[row] = board.getRowMask(row);
+        }
+        board = null;
+    }
+
+    /**
+     * Returns the colour id stored at one board cell.
+     *
+     * @param row The board row index.
+     * @param col The board column index.
+     * @return The colour id, or 0 for an empty cell.
+     * @throws IllegalStateException if the snapshot has been closed.
+     */
+    public int getCell(int row, int col) {
+        ensureOpen();
+        return board != null ? board.getCell(row, col) : cells[row][col];
+    }
+
+    /**
+     * Returns the occupancy bitmask of a board row.
+     *
+     * @param row The board row index.
+     * @return The row bitmask, bit {@code c} set when column {@code c} is occupied.
+     * @throws IllegalStateException if the snapshot has been closed.
+     */
+    public long getRowMask(int row) {
+        ensureOpen();
+        return board != null ? board.getRowMask(row) : rowMasks[row];
+    }
+
+    /**
+     * Returns a deep copy of the board as it was when the snapshot was taken.
+     *
+     * @return A new 2D array of colour ids.
+     * @throws IllegalStateException if the snapshot has been closed.
+     */
+    public int[][] toMatrix() {
+        ensureOpen();
+        return board != null ? board.getGameMatrix() : MatrixOperations.copy(cells);
+    }
+
+    /**
+     * Returns the board width.
+     *
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the board height.
+     *
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the board version this snapshot shows (see {@link GameBoard#getVersion()}).
+     *
+     * @return The board's modification version when the snapshot was taken.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the board's Zobrist hash at the snapshot's version (see {@link GameBoard#getHash()}).
+     *
+     * @return The hash of the occupied cells.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Checks whether the snapshot had to copy the board because the board changed while it was open.
+     *
+     * @return True if the snapshot now reads from its own copy.
+     */
+    public boolean isDetached() {
+        return cells != null;
+    }
+
+    /**
+     * Releases the snapshot. Later board changes no longer copy for it,
+     * and reading from it afterwards throws.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (board != null) {
+            board.release(this);
+            board = null;
+        }
+        cells = null;
+        rowMasks = null;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Board snapshot has been closed");
+        }
+    }
+}
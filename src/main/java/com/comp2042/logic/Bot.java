@@ -0,0 +1,34 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.EventType;
+
+/**
+ * A computer player that plays the active brick of a {@link Board} one input at a time.
+ * The game logic only needs this interface; the bots themselves live in the
+ * {@code logic.sim} package, which depends on this one and not the other way round.
+ */
+public interface Bot {
+
+    /**
+     * Returns the bot's next input for the active brick, without sending it.
+     *
+     * @return {@code ROTATE}, {@code LEFT}, {@code RIGHT} or {@code HARD_DROP}.
+     */
+    EventType nextMove();
+
+    /**
+     * Creates a bot for a game once its board and controller exist.
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * Creates a bot.
+         *
+         * @param board The board whose active brick is played.
+         * @param listener The controller acting on {@code board}.
+         * @return A new bot.
+         */
+        Bot create(Board board, InputEventListener listener);
+    }
+}
@@ -1,8 +1,11 @@
 package com.comp2042.logic;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceTable;
 import com.comp2042.model.NextShapeInfo;
 
+import java.util.List;
+
 /**
  - Handles rotation state of the current falling brick.
  - Provides controlled access to rotation transitions while
@@ -13,6 +16,8 @@ public class BrickRotator {
 
     private Brick brick;
     private int currentShape = 0;
+    /** Rotations of the current brick, shared from the {@link PieceTable} for built-in bricks. */
+    private List<BrickShape> shapes = List.of();
 
     /**
      * Calculates and returns information about the next rotation state of the current brick.
@@ -21,9 +26,18 @@ public class BrickRotator {
      * @return A {@code NextShapeInfo} object containing the matrix and index of the next shape.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = (currentShape + 1) % brick.getShapeMatrix().size();
+        int nextShape = getNextShapeIndex();
+
+        return new NextShapeInfo(shapes.get(nextShape).toMatrix(), nextShape);
+    }
 
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+    /**
+     * Returns the rotation index that follows the current one, without allocating.
+     *
+     * @return The index of the next rotation state.
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % shapes.size();
     }
 
     /**
@@ -32,7 +46,26 @@ public class BrickRotator {
      * @return A 2D integer array representing the current brick shape.
      */
     public int[][] getCurrentShape() {
-        return MatrixOperations.copy(brick.getShapeMatrix().get(currentShape));
+        return shapes.get(currentShape).toMatrix();
+    }
+
+    /**
+     * Returns the bitmask form of the current rotation. The returned object is
+     * immutable and shared, so no copy is made.
+     *
+     * @return The current {@code BrickShape}.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return shapes.get(currentShape);
+    }
+
+    /**
+     * Returns the bitmask form of the rotation that {@link #getNextShape()} describes.
+     *
+     * @return The next {@code BrickShape}.
+     */
+    public BrickShape getNextBrickShape() {
+        return shapes.get(getNextShapeIndex());
     }
 
     /**
@@ -53,6 +86,7 @@ public class BrickRotator {
     public void setBrick(Brick brick) {
         this.brick = brick;
         this.currentShape = 0;
+        this.shapes = PieceTable.shapesOf(brick);
     }
 
     /**
@@ -0,0 +1,271 @@
+package com.comp2042.logic;
+
+import java.util.Arrays;
+
+/**
+ - Immutable bitboard form of a single brick rotation.
+ - Each row of the shape is stored as a bitmask (bit {@code c} set means
+   column {@code c} is occupied), so collision and merge checks against a
+   {@link GameBoard} become a few AND/OR operations per row instead of a
+   nested loop over every cell.
+ - The original cell values are kept so that merging still writes the
+   brick's colour id into the board.
+ - Also carries the trimmed bounding box, a flat list of occupied cells, the
+   bottom profile (lowest occupied row per column) and the spawn offset, so the built-in rotations can be precomputed once in
+   {@link com.comp2042.logic.bricks.PieceTable} and shared without copying.
+ */
+public final class BrickShape {
+
+    /** The maximum number of columns a shape (or board) row mask can hold. */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    /** Private copy of the shape's cell values (colour ids, 0 = empty). */
+    private final int[][] cells;
+    /** One bitmask per shape row, bit {@code c} set when column {@code c} is occupied. */
+    private final long[] rowMasks;
+    /** Index of the left-most occupied column, or -1 if the shape is empty. */
+    private final int minColumn;
+    /** Index of the right-most occupied column, or -1 if the shape is empty. */
+    private final int maxColumn;
+    /** Index of the top-most occupied row, or -1 if the shape is empty. */
+    private final int minRow;
+    /** Index of the bottom-most occupied row, or -1 if the shape is empty. */
+    private final int maxRow;
+    /** Number of columns in the (untrimmed) shape matrix. */
+    private final int width;
+    /** Row of each occupied cell, in row-major order. */
+    private final int[] cellRows;
+    /** Column of each occupied cell, in row-major order. */
+    private final int[] cellColumns;
+    /** Lowest occupied row of each matrix column, or -1 for an empty column. */
+    private final int[] columnBottoms;
+
+    /**
+     * Builds the bitmask form of a shape matrix.
+     *
+     * @param matrix The shape matrix (rows of colour ids, 0 = empty). It is copied.
+     */
+    private BrickShape(int[][] matrix) {
+        this.cells = MatrixOperations.copy(matrix);
+        this.rowMasks = new long[matrix.length];
+
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        int top = -1;
+        int bottom = -1;
+        int matrixWidth = 0;
+        int cellCount = 0;
+
+        for (int row = 0; row < cells.length; row++) {
+            if (cells[row].length > MAX_WIDTH) {
+                throw new IllegalArgumentException("Shape rows cannot be wider than " + MAX_WIDTH + " cells");
+            }
+            matrixWidth = Math.max(matrixWidth, cells[row].length);
+            long mask = 0L;
+            for (int col = 0; col < cells[row].length; col++) {
+                if (cells[row][col] != 0) {
+                    mask |= 1L << col;
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                }
+            }
+            rowMasks[row] = mask;
+            cellCount += Long.bitCount(mask);
+            if (mask != 0L) {
+                if (top < 0) top = row;
+                bottom = row;
+            }
+        }
+
+        this.minColumn = right < 0 ? -1 : left;
+        this.maxColumn = right;
+        this.minRow = top;
+        this.maxRow = bottom;
+        this.width = matrixWidth;
+
+        this.cellRows = new int[cellCount];
+        this.cellColumns = new int[cellCount];
+        this.columnBottoms = new int[matrixWidth];
+        Arrays.fill(columnBottoms, -1);
+        int cell = 0;
+        for (int row = 0; row < rowMasks.length; row++) {
+            for (long bits = rowMasks[row]; bits != 0L; bits &= bits - 1) {
+                int col = Long.numberOfTrailingZeros(bits);
+                cellRows[cell] = row;
+                cellColumns[cell] = col;
+                columnBottoms[col] = row;
+                cell++;
+            }
+        }
+    }
+
+    /**
+     * Creates the bitmask form of the given shape matrix.
+     *
+     * @param matrix The shape matrix to convert.
+     * @return A new immutable {@code BrickShape}.
+     */
+    public static BrickShape of(int[][] matrix) {
+        return new BrickShape(matrix);
+    }
+
+    /**
+     * Returns the number of rows in the shape matrix.
+     *
+     * @return The shape height, including empty rows.
+     */
+    public int getHeight() {
+        return rowMasks.length;
+    }
+
+    /**
+     * Returns the number of columns in the shape matrix.
+     *
+     * @return The shape width, including empty columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the occupancy mask of one shape row.
+     *
+     * @param row The shape row index.
+     * @return The row bitmask, bit {@code c} set when column {@code c} is occupied.
+     */
+    public long getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Returns the colour id stored at the given cell of the shape.
+     *
+     * @param row The shape row index.
+     * @param col The shape column index.
+     * @return The colour id, or 0 for an empty cell.
+     */
+    public int getCell(int row, int col) {
+        return cells[row][col];
+    }
+
+    /**
+     * Returns a deep copy of the shape matrix.
+     *
+     * @return A new 2D array with the shape's cell values.
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(cells);
+    }
+
+    /**
+     * Returns the left-most occupied column.
+     *
+     * @return The column index, or -1 if the shape is empty.
+     */
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    /**
+     * Returns the right-most occupied column.
+     *
+     * @return The column index, or -1 if the shape is empty.
+     */
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     * Returns the top-most occupied row.
+     *
+     * @return The row index, or -1 if the shape is empty.
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Returns the bottom-most occupied row.
+     *
+     * @return The row index, or -1 if the shape is empty.
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Returns the width of the trimmed bounding box around the occupied cells.
+     *
+     * @return The number of occupied columns spanned, or 0 if the shape is empty.
+     */
+    public int getBoundingWidth() {
+        return isEmpty() ? 0 : maxColumn - minColumn + 1;
+    }
+
+    /**
+     * Returns the height of the trimmed bounding box around the occupied cells.
+     *
+     * @return The number of occupied rows spanned, or 0 if the shape is empty.
+     */
+    public int getBoundingHeight() {
+        return isEmpty() ? 0 : maxRow - minRow + 1;
+    }
+
+    /**
+     * Returns the number of occupied cells in the shape.
+     *
+     * @return The cell count.
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Returns the shape row of an occupied cell.
+     *
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The row of the cell within the shape matrix.
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Returns the shape column of an occupied cell.
+     *
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The column of the cell within the shape matrix.
+     */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     * Returns the lowest occupied row of a shape column (the shape's bottom profile).
+     *
+     * @param col The shape column index.
+     * @return The row index, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Returns the column offset, relative to the board's centre column, at which
+     * the shape matrix is placed when the brick spawns.
+     *
+     * @return The spawn column offset (negative half the matrix width).
+     */
+    public int getSpawnColumnOffset() {
+        return -(width / 2);
+    }
+
+    /**
+     * Checks whether the shape has no occupied cells.
+     *
+     * @return True if every cell is empty.
+     */
+    public boolean isEmpty() {
+        return maxRow < 0;
+    }
+}
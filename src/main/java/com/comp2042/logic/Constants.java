@@ -17,9 +17,28 @@ public final class Constants {
     /** The height of the game board in blocks. */
     public static final int BOARD_HEIGHT = 25;
 
+    // Piece preview
+    /** The number of upcoming bricks shown in the preview (the next brick plus the queue behind it). */
+    public static final int PREVIEW_COUNT = 5;
+    /** The deepest lookahead a brick generator can be configured with. */
+    public static final int MAX_LOOKAHEAD = 14;
+
     // Speed (ms per tick)
     /** The initial delay (in milliseconds) between game ticks. */
     public static final int INITIAL_TICK = 400;
+    /** The most game ticks run in one frame to catch up after a stall; older backlog is dropped. */
+    public static final int MAX_CATCH_UP_TICKS = 4;
+
+    /** Interval in milliseconds between two bot inputs while bot mode is on. */
+    public static final int BOT_MOVE_MILLIS = 40;
+
+    // Input repeat (ms)
+    /** Delayed auto-shift: how long a sideways key is held before it starts repeating. */
+    public static final int DAS_MILLIS = 170;
+    /** Auto-repeat rate: the interval between repeated sideways moves once DAS has passed. */
+    public static final int ARR_MILLIS = 50;
+    /** The interval between soft-drop steps while the down key is held. */
+    public static final int SOFT_DROP_MILLIS = 50;
 
     // Leveling
     /** The number of lines required to clear to advance to the next level. */
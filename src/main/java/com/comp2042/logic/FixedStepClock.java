@@ -0,0 +1,125 @@
+package com.comp2042.logic;
+
+/**
+ * Turns a stream of frame timestamps into a whole number of fixed-length steps.
+ * Elapsed time is accumulated in nanoseconds and paid out one step at a time, so
+ * steps stay exactly {@code stepNanos} apart on average however irregular the
+ * frames are. After a stall at most {@code maxStepsPerAdvance} steps are paid out
+ * and the rest of the backlog is dropped, instead of fast-forwarding the game.
+ * The step length can change at any time without losing the progress towards
+ * the next step. Not thread-safe; it is meant to be driven by one frame loop.
+ */
+public final class FixedStepClock {
+
+    /** The most steps paid out by one {@link #advance(long)}. */
+    private final int maxStepsPerAdvance;
+    /** The current step length in nanoseconds. */
+    private long stepNanos;
+    /** Time accumulated towards the next step, always below {@link #stepNanos} between calls. */
+    private long accumulated;
+    /** Timestamp of the previous {@link #advance(long)}. */
+    private long lastNanos;
+    /** False until the first timestamp after creation, {@link #pause()} or {@link #reset()}. */
+    private boolean running;
+
+    /**
+     * Creates a clock.
+     *
+     * @param stepNanos The step length in nanoseconds.
+     * @param maxStepsPerAdvance The most steps one {@link #advance(long)} pays out.
+     * @throws IllegalArgumentException if either value is not positive.
+     */
+    public FixedStepClock(long stepNanos, int maxStepsPerAdvance) {
+        if (maxStepsPerAdvance <= 0) {
+            throw new IllegalArgumentException("Max steps per advance must be positive");
+        }
+        this.maxStepsPerAdvance = maxStepsPerAdvance;
+        setStepNanos(stepNanos);
+    }
+
+    /**
+     * Adds the time since the previous call and returns how many steps are due.
+     * The first call after creation, {@link #pause()} or {@link #reset()} only
+     * records the timestamp.
+     *
+     * @param nowNanos The current frame's timestamp, e.g. from {@code System.nanoTime()}.
+     * @return The number of steps to run now, from 0 to {@code maxStepsPerAdvance}.
+     */
+    public int advance(long nowNanos) {
+        if (!running) {
+            running = true;
+            lastNanos = nowNanos;
+            return 0;
+        }
+        long elapsed = Math.max(nowNanos - lastNanos, 0L);
+        lastNanos = nowNanos;
+        accumulated += elapsed;
+        long due = accumulated / stepNanos;
+        if (due > maxStepsPerAdvance) {
+            accumulated %= stepNanos;
+            return maxStepsPerAdvance;
+        }
+        accumulated -= due * stepNanos;
+        return (int) due;
+    }
+
+    /**
+     * Changes the step length. Progress towards the next step is kept, but never
+     * more than one new step, so speeding up cannot cause a burst of steps.
+     *
+     * @param stepNanos The new step length in nanoseconds.
+     * @throws IllegalArgumentException if the length is not positive.
+     */
+    public void setStepNanos(long stepNanos) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Step length must be positive: " + stepNanos);
+        }
+        this.stepNanos = stepNanos;
+        accumulated = Math.min(accumulated, stepNanos - 1);
+    }
+
+    /**
+     * Returns the current step length.
+     *
+     * @return The step length in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Returns how far the clock is towards the next step, e.g. to interpolate rendering.
+     *
+     * @return A fraction from 0 (inclusive) to 1 (exclusive).
+     */
+    public double getProgress() {
+        return (double) accumulated / stepNanos;
+    }
+
+    /**
+     * Returns how long after the latest {@link #advance(long)} the next step falls due,
+     * for a loop that sleeps between steps.
+     *
+     * @return The nanoseconds left in the current step.
+     */
+    public long getNanosUntilNextStep() {
+        return stepNanos - accumulated;
+    }
+
+    /**
+     * Stops counting time until the next {@link #advance(long)}; the time in between
+     * is ignored and progress towards the next step is kept.
+     */
+    public void pause() {
+        running = false;
+    }
+
+    /**
+     * Forgets any progress towards the next step and stops counting time until the
+     * next {@link #advance(long)}, so a full step passes before the first one is due.
+     */
+    public void reset() {
+        running = false;
+        accumulated = 0L;
+    }
+}
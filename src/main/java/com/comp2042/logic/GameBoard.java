@@ -2,16 +2,58 @@ package com.comp2042.logic;
 
 import com.comp2042.model.ClearRow;
 import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Represents the game board logic for a Tetris-like game.
  * Manages the grid, detects collisions, merges bricks, and clears completed rows.
+ * Alongside the colour matrix every row is mirrored as a bitmask, so collision,
+ * merge and full-row checks work on whole rows at once (see {@link BrickShape}).
+ * Rows live in a fixed pool of slots that is allocated once. Board row {@code r}
+ * is found through a ring over a slot-order table, so clearing rows only compacts
+ * slot indices in place, and pushing a row in at the bottom just advances the ring.
+ * A column skyline (the top-most occupied row of each column) is kept as well, so
+ * the drop distance of a brick is found in O(brick width) (see {@link #dropDistance}).
  */
 public class GameBoard {
 
+    private static final int[] NO_ROWS = new int[0];
+
     private final int width;
     private final int height;
-    private int[][] gameMatrix;
+    /** Mask with the lowest {@code width} bits set, i.e. a completely filled row. */
+    private final long fullRowMask;
+    /** Cell values (colour ids, 0 = empty) per row slot; slots are reused, never reallocated. */
+    private final int[][] slots;
+    /** One occupancy bitmask per row slot, kept in sync with {@code slots}. */
+    private final long[] slotMasks;
+    /** Slot indices in ring order; board row {@code r} uses {@code slotOrder[(ringHead + r) % height]}. */
+    private final int[] slotOrder;
+    /** Scratch buffers for {@link #clearRows()}, sized once to the board height. */
+    private final int[] freedSlots;
+    private final int[] clearedScratch;
+    /** Ring position of board row 0. */
+    private int ringHead;
+    /**
+     * Board rows written by {@code mergeBrick} since the last {@link #clearRows()}.
+     * Only merges can complete a row, so line detection only has to look here.
+     * The range is empty when {@code touchedBottom < touchedTop}.
+     */
+    private int touchedTop;
+    private int touchedBottom = -1;
+    /** Top-most occupied row of each column, or {@code height} for an empty column. */
+    private final int[] columnTops;
+    /** Modification counter, bumped whenever a cell of the board changes. */
+    private long version;
+    /** Zobrist hash of the occupied cells, kept up to date by every change. */
+    private long hash;
+    /** Rows whose cells changed since the last {@link #drainDirtyRows(BitSet)}. */
+    private final BitSet dirtyRows;
+    /** Open snapshots still sharing this board's storage; detached before any change. */
+    private final List<BoardSnapshot> sharedSnapshots = new ArrayList<>();
 
     /**
      * Constructs a new GameBoard with the specified width and height.
@@ -19,11 +61,27 @@ public class GameBoard {
      *
      * @param width The width of the game board.
      * @param height The height of the game board.
+     * @throws IllegalArgumentException if the width does not fit in a row bitmask.
      */
     public GameBoard(int width, int height) {
+        if (width <= 0 || width > BrickShape.MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must be between 1 and " + BrickShape.MAX_WIDTH);
+        }
         this.width = width;
         this.height = height;
-        this.gameMatrix = new int[height][width];
+        this.fullRowMask = width == Long.SIZE ? -1L : (1L << width) - 1;
+        this.slots = new int[height][width];
+        this.slotMasks = new long[height];
+        this.slotOrder = new int[height];
+        this.freedSlots = new int[height];
+        this.clearedScratch = new int[height];
+        for (int i = 0; i < height; i++) {
+            slotOrder[i] = i;
+        }
+        this.touchedTop = height;
+        this.columnTops = new int[width];
+        Arrays.fill(columnTops, height);
+        this.dirtyRows = new BitSet(height);
     }
 
     /**
@@ -33,7 +91,11 @@ public class GameBoard {
      * @return A deep copy of the game matrix.
      */
     public int[][] getGameMatrix() {
-        return MatrixOperations.copy(gameMatrix);
+        int[][] copy = new int[height][];
+        for (int row = 0; row < height; row++) {
+            copy[row] = slots[slotOf(row)].clone();
+        }
+        return copy;
     }
 
     /**
@@ -45,7 +107,41 @@ public class GameBoard {
      * @return True if a collision is detected, false otherwise.
      */
     public boolean isCollision(Point offset, int[][] shape) {
-        return MatrixOperations.intersect(gameMatrix, shape, (int) offset.getX(), (int) offset.getY());
+        return isCollision(offset.x, offset.y, BrickShape.of(shape));
+    }
+
+    /**
+     * Checks if a brick shape placed with its top-left corner at (x, y) would leave
+     * the board or overlap existing blocks. Works on row bitmasks, so the cost is
+     * one AND per occupied shape row.
+     *
+     * @param x The column of the shape's top-left corner.
+     * @param y The row of the shape's top-left corner.
+     * @param shape The bitmask form of the brick shape.
+     * @return True if a collision is detected, false otherwise.
+     */
+    public boolean isCollision(int x, int y, BrickShape shape) {
+        if (shape.isEmpty()) {
+            return false;
+        }
+        if (x + shape.getMinColumn() < 0 || x + shape.getMaxColumn() >= width) {
+            return true;
+        }
+
+        for (int row = shape.getMinRow(); row <= shape.getMaxRow(); row++) {
+            long mask = shape.getRowMask(row);
+            if (mask == 0L) {
+                continue;
+            }
+            int boardRow = y + row;
+            if (boardRow < 0 || boardRow >= height) {
+                return true;
+            }
+            if ((slotMasks[slotOf(boardRow)] & shift(mask, x)) != 0L) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -56,28 +152,439 @@ public class GameBoard {
      * @param shape The 2D integer array representing the brick's shape to merge.
      */
     public void mergeBrick(Point offset, int[][] shape) {
-        gameMatrix = MatrixOperations.merge(gameMatrix, shape, (int) offset.getX(), (int) offset.getY());
+        mergeBrick(offset.x, offset.y, BrickShape.of(shape));
+    }
+
+    /**
+     * Merges a brick shape into the board with its top-left corner at (x, y).
+     * Callers are expected to have checked {@link #isCollision(int, int, BrickShape)} first.
+     *
+     * @param x The column of the shape's top-left corner.
+     * @param y The row of the shape's top-left corner.
+     * @param shape The bitmask form of the brick shape.
+     */
+    public void mergeBrick(int x, int y, BrickShape shape) {
+        if (shape.isEmpty()) {
+            return;
+        }
+        detachSnapshots();
+        for (int row = shape.getMinRow(); row <= shape.getMaxRow(); row++) {
+            long mask = shape.getRowMask(row);
+            if (mask == 0L) {
+                continue;
+            }
+            int boardRow = y + row;
+            int slot = slotOf(boardRow);
+            int[] target = slots[slot];
+            for (long bits = mask; bits != 0L; bits &= bits - 1) {
+                int col = Long.numberOfTrailingZeros(bits);
+                target[x + col] = shape.getCell(row, col);
+                if (boardRow < columnTops[x + col]) {
+                    columnTops[x + col] = boardRow;
+                }
+                if ((slotMasks[slot] & (1L << (x + col))) == 0L) {
+                    hash ^= Zobrist.cellKey(boardRow, x + col);
+                }
+            }
+            slotMasks[slot] |= shift(mask, x);
+            dirtyRows.set(boardRow);
+        }
+        version++;
+        touchedTop = Math.min(touchedTop, y + shape.getMinRow());
+        touchedBottom = Math.max(touchedBottom, y + shape.getMaxRow());
     }
 
     /**
      * Checks the game board for any completed rows, removes them, and shifts
      * the remaining blocks down.
+     * Only the rows touched by merges since the last call are inspected, so detection
+     * costs O(piece height) rather than a scan of the whole board.
+     * Only slot indices move: surviving rows are compacted towards the bottom of the
+     * slot-order table and the freed slots are blanked and reused as the new top rows.
      *
-     * @return A {@code ClearRow} object containing information about the cleared rows
-     *         and the new state of the game board.
+     * @return A {@code ClearRow} object containing the number of cleared rows,
+     *         their indices (before the clear) and the score bonus.
      */
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(gameMatrix);
-        gameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int top = touchedTop;
+        int lowestFull = -1;
+        for (int row = touchedBottom; row >= top; row--) {
+            if (slotMasks[slotOf(row)] == fullRowMask) {
+                lowestFull = row;
+                break;
+            }
+        }
+        touchedTop = height;
+        touchedBottom = -1;
+        if (lowestFull < 0) {
+            return new ClearRow(NO_ROWS, 0);
+        }
+
+        detachSnapshots();
+        // Rows at and above the lowest full row are about to move: take their keys out.
+        int stackTop = stackTop();
+        for (int row = stackTop; row <= lowestFull; row++) {
+            hash ^= Zobrist.rowHash(row, slotMasks[slotOf(row)]);
+        }
+        int removed = 0;
+        int writeRow = lowestFull;
+
+        // Rows below the lowest full row stay put; walk up from it, dropping full rows.
+        for (int readRow = lowestFull; readRow >= 0; readRow--) {
+            int slot = slotOf(readRow);
+            if (readRow >= top && slotMasks[slot] == fullRowMask) {
+                freedSlots[removed] = slot;
+                clearedScratch[height - 1 - removed] = readRow;
+                removed++;
+                continue;
+            }
+            if (writeRow != readRow) {
+                slotOrder[ringIndex(writeRow)] = slot;
+            }
+            writeRow--;
+        }
+
+        for (int i = 0; i < removed; i++) {
+            int slot = freedSlots[i];
+            Arrays.fill(slots[slot], 0);
+            slotMasks[slot] = 0L;
+            slotOrder[ringIndex(i)] = slot;
+        }
+
+        for (int row = stackTop + removed; row <= lowestFull; row++) {
+            hash ^= Zobrist.rowHash(row, slotMasks[slotOf(row)]);
+        }
+        rebuildSkyline();
+        version++;
+        // Every row from the top down to the lowest cleared row has moved or been blanked.
+        dirtyRows.set(0, lowestFull + 1);
+
+        int scoreBonus = 50 * removed * removed;
+        return new ClearRow(clearedScratch, height - removed, height, scoreBonus);
+    }
+
+    /**
+     * Pushes a garbage row in at the bottom of the board, moving every other row up by one.
+     * The new row is filled with {@code colourId} except for a single hole at {@code holeColumn}.
+     * The row pushed out of the top is discarded. Rows are not copied: the ring simply
+     * advances and the top row's slot is refilled as the new bottom row. The skyline
+     * moves up in O(width) and the hash is rotated (see {@link Zobrist#shiftUp}), so
+     * only a top-out, which rescans the columns it emptied at the top, costs more.
+     * Every row moves on screen, so every row is marked dirty.
+     * The caller is responsible for moving any active brick to match.
+     *
+     * @param holeColumn The column left empty in the new row.
+     * @param colourId The colour id used for the filled cells.
+     * @return True if the discarded top row had any occupied cells (a top-out).
+     * @throws IllegalArgumentException if the hole column is outside the board
+     *                                  or the colour id is not positive.
+     */
+    public boolean insertGarbageRow(int holeColumn, int colourId) {
+        if (holeColumn < 0 || holeColumn >= width) {
+            throw new IllegalArgumentException("Hole column must be between 0 and " + (width - 1));
+        }
+        if (colourId <= 0) {
+            throw new IllegalArgumentException("Garbage colour id must be positive");
+        }
+
+        detachSnapshots();
+        int slot = slotOf(0);
+        long discarded = slotMasks[slot];
+        boolean toppedOut = discarded != 0L;
+        hash = Zobrist.shiftUp(hash ^ Zobrist.rowHash(0, discarded), 1);
+        ringHead = ringIndex(1);
+        if (touchedBottom >= touchedTop) {
+            touchedTop = Math.max(0, touchedTop - 1);
+            touchedBottom--;
+        }
+
+        int[] cells = slots[slot];
+        Arrays.fill(cells, colourId);
+        cells[holeColumn] = 0;
+        long garbage = fullRowMask & ~(1L << holeColumn);
+        slotMasks[slot] = garbage;
+        hash ^= Zobrist.rowHash(height - 1, garbage);
+        for (int col = 0; col < width; col++) {
+            int top = columnTops[col];
+            if (top == 0) {
+                columnTops[col] = columnTop(col);
+            } else if (top < height) {
+                columnTops[col] = top - 1;
+            } else if (col != holeColumn) {
+                columnTops[col] = height - 1;
+            }
+        }
+        version++;
+        dirtyRows.set(0, height);
+        return toppedOut;
+    }
+
+    /**
+     * Returns how far a brick at (x, y) can fall before it would collide.
+     * Uses the column skyline and the shape's bottom profile, so the common case costs
+     * one comparison per shape column. If a column is already occupied at or above the
+     * brick's lowest cell there (the brick is tucked under an overhang), the skyline
+     * cannot answer and the distance is found by stepping {@link #isCollision} down.
+     *
+     * @param x The column of the shape's top-left corner.
+     * @param y The row of the shape's top-left corner.
+     * @param shape The bitmask form of the brick shape.
+     * @return The number of rows the brick can move down, 0 if it is already resting.
+     */
+    public int dropDistance(int x, int y, BrickShape shape) {
+        if (shape.isEmpty()) {
+            return 0;
+        }
+        int distance = Integer.MAX_VALUE;
+        for (int col = shape.getMinColumn(); col <= shape.getMaxColumn(); col++) {
+            int bottom = shape.getColumnBottom(col);
+            if (bottom < 0) {
+                continue;
+            }
+            int pieceRow = y + bottom;
+            int top = columnTops[x + col];
+            if (top <= pieceRow) {
+                return scanDropDistance(x, y, shape);
+            }
+            distance = Math.min(distance, top - 1 - pieceRow);
+        }
+        return distance;
+    }
+
+    /**
+     * Fallback for {@link #dropDistance}: steps the brick down one row at a time.
+     *
+     * @param x The column of the shape's top-left corner.
+     * @param y The row of the shape's top-left corner.
+     * @param shape The bitmask form of the brick shape.
+     * @return The number of rows the brick can move down.
+     */
+    private int scanDropDistance(int x, int y, BrickShape shape) {
+        int distance = 0;
+        while (!isCollision(x, y + distance + 1, shape)) {
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the height of a column's stack, measured from the floor to its top-most block.
+     *
+     * @param col The board column index.
+     * @return The column height, 0 for an empty column.
+     */
+    public int getColumnHeight(int col) {
+        return height - columnTops[col];
+    }
+
+    /**
+     * Checks whether a board row is completely filled.
+     *
+     * @param row The board row index.
+     * @return True if every cell in the row is occupied.
+     */
+    public boolean isRowFull(int row) {
+        return slotMasks[slotOf(row)] == fullRowMask;
+    }
+
+    /**
+     * Returns the occupancy bitmask of a board row.
+     *
+     * @param row The board row index.
+     * @return The row bitmask, bit {@code c} set when column {@code c} is occupied.
+     */
+    public long getRowMask(int row) {
+        return slotMasks[slotOf(row)];
+    }
+
+    /**
+     * Returns how many cells of a board row are occupied.
+     * The row mask doubles as the counter, so this is a single popcount.
+     *
+     * @param row The board row index.
+     * @return The number of occupied cells, from 0 to the board width.
+     */
+    public int getRowFillCount(int row) {
+        return Long.bitCount(slotMasks[slotOf(row)]);
+    }
+
+    /**
+     * Returns the colour id stored at one board cell.
+     *
+     * @param row The board row index.
+     * @param col The board column index.
+     * @return The colour id, or 0 for an empty cell.
+     */
+    public int getCell(int row, int col) {
+        return slots[slotOf(row)][col];
     }
 
     /**
      * Resets the game board to an empty state.
-     * All cells in the game matrix will be reinitialized to zero.
+     * All cells are zeroed in place and the row order is restored.
      */
     public void reset() {
-        this.gameMatrix = new int[height][width];
+        detachSnapshots();
+        for (int i = 0; i < height; i++) {
+            Arrays.fill(slots[i], 0);
+            slotMasks[i] = 0L;
+            slotOrder[i] = i;
+        }
+        ringHead = 0;
+        touchedTop = height;
+        touchedBottom = -1;
+        Arrays.fill(columnTops, height);
+        hash = 0L;
+        version++;
+        dirtyRows.set(0, height);
+    }
+
+    /**
+     * Returns the board's modification version. It increases every time a merge,
+     * row clear, garbage row or reset changes the board, and never goes back, so
+     * anything derived from the board can be cached against it.
+     *
+     * @return The current modification version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the Zobrist hash of the board's occupancy (see {@link Zobrist}).
+     * Merges update it per placed cell and row clears per moved row, so reading it is free.
+     *
+     * @return The board hash; 0 for an empty board.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns a read-only view of the board at its current version. The view shares
+     * this board's storage until the board next changes, at which point the board
+     * copies itself into every snapshot that is still open. Close snapshots after use.
+     *
+     * @return A new {@code BoardSnapshot}.
+     */
+    public BoardSnapshot snapshot() {
+        BoardSnapshot snapshot = new BoardSnapshot(this);
+        sharedSnapshots.add(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Stops tracking a snapshot that has been closed.
+     *
+     * @param snapshot The snapshot being closed.
+     */
+    void release(BoardSnapshot snapshot) {
+        sharedSnapshots.remove(snapshot);
+    }
+
+    /**
+     * Gives every open snapshot its own copy of the board before the board changes.
+     */
+    private void detachSnapshots() {
+        if (sharedSnapshots.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < sharedSnapshots.size(); i++) {
+            sharedSnapshots.get(i).detach();
+        }
+        sharedSnapshots.clear();
+    }
+
+    /**
+     * Copies the set of rows changed since the previous call into {@code target}
+     * and starts a new, empty set. Rows are marked by merges, by the rows shifted or
+     * blanked in a clear, and by garbage rows and resets (which touch every row).
+     * A renderer only needs to restyle these rows.
+     *
+     * @param target The set to overwrite with the dirty row indices; reused by the caller.
+     */
+    public void drainDirtyRows(BitSet target) {
+        target.clear();
+        target.or(dirtyRows);
+        dirtyRows.clear();
+    }
+
+    /**
+     * Recomputes the column skyline after rows have moved.
+     * Walks down from the top until every column has been seen, one row mask at a time.
+     */
+    private void rebuildSkyline() {
+        Arrays.fill(columnTops, height);
+        long unseen = fullRowMask;
+        for (int row = 0; row < height && unseen != 0L; row++) {
+            long hit = slotMasks[slotOf(row)] & unseen;
+            unseen &= ~hit;
+            for (; hit != 0L; hit &= hit - 1) {
+                columnTops[Long.numberOfTrailingZeros(hit)] = row;
+            }
+        }
+    }
+
+    /**
+     * Finds the top-most occupied row of one column by scanning down from the top.
+     *
+     * @param col The board column index.
+     * @return The row index, or {@code height} for an empty column.
+     */
+    private int columnTop(int col) {
+        long bit = 1L << col;
+        for (int row = 0; row < height; row++) {
+            if ((slotMasks[slotOf(row)] & bit) != 0L) {
+                return row;
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Returns the top-most occupied row, from the skyline.
+     *
+     * @return The row index, or {@code height} for an empty board.
+     */
+    private int stackTop() {
+        int top = height;
+        for (int col = 0; col < width; col++) {
+            top = Math.min(top, columnTops[col]);
+        }
+        return top;
+    }
+
+    /**
+     * Maps a board row to its position in the slot-order ring.
+     *
+     * @param row The board row index (0 = top).
+     * @return The ring position of that row.
+     */
+    private int ringIndex(int row) {
+        int index = ringHead + row;
+        return index >= height ? index - height : index;
+    }
+
+    /**
+     * Maps a board row to the slot holding its cells and mask.
+     *
+     * @param row The board row index (0 = top).
+     * @return The slot index.
+     */
+    private int slotOf(int row) {
+        return slotOrder[ringIndex(row)];
+    }
+
+    /**
+     * Moves a shape row mask to board column {@code x}.
+     * Negative offsets shift right; the caller guarantees no occupied bits are lost.
+     *
+     * @param mask The shape row mask.
+     * @param x The board column of the shape's left edge.
+     * @return The mask aligned to board columns.
+     */
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
     }
 
     /**
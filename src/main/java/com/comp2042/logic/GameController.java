@@ -4,38 +4,54 @@ import com.comp2042.model.ClearRow;
 import com.comp2042.model.DownData;
 import com.comp2042.model.MoveEvent;
 import com.comp2042.model.ViewData;
-import com.comp2042.ui.GuiController;
+
+import java.util.BitSet;
 
 /**
  - Acts as the controller for core gameplay actions.
  - Receives input events from the UI and delegates all game logic
   to the Board implementation. Ensures UI never directly modifies
   game state, maintaining clean separation of responsibilities.
+ - Talks to the view only through {@link GameView}, so the same rules can
+  run headless with any board and a no-op view.
  */
 
 
 public class GameController implements InputEventListener {
 
-    private final Board board = new SimpleBoard(10, 25);
-    private final GuiController viewGuiController;
+    private final Board board;
+    private final GameView viewGuiController;
     private int previousLevel = 1;
+    /** Reusable result for down and hard-drop events, so gravity ticks do not allocate. */
+    private final DownData downData = DownData.createReusable();
+    /** Reusable set of board rows that changed since the view was last refreshed. */
+    private final BitSet dirtyRows = new BitSet();
 
     /**
-     * Constructs a new GameController, initializing the game board and connecting it to the GUI.
-     * Sets up event listeners, binds score and level properties, and sets the initial game speed.
+     * Constructs a new GameController on a standard-size board and connects it to the view.
      *
-     * @param c The GuiController responsible for rendering the game view and handling UI interactions.
+     * @param c The view responsible for rendering the game and handling UI interactions.
      */
-    public GameController(GuiController c) {
+    public GameController(GameView c) {
+        this(c, new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT));
+    }
+
+    /**
+     * Constructs a new GameController, initializing the game board and connecting it to the view.
+     * Sets up event listeners, binds the score counters, and sets the initial game speed.
+     *
+     * @param c The view responsible for rendering the game and handling UI interactions.
+     * @param board The board holding the game rules and state.
+     */
+    public GameController(GameView c, Board board) {
+        this.board = board;
         viewGuiController = c;
         board.createNewBrick();
         viewGuiController.setEventListener(this);
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
 
-        //Bind current score + high score to sidebar labels
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindHighScore(board.getScore().highScoreProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty());
+        //Bind current score, high score and level to the view
+        viewGuiController.bindScore(board.getScore());
 
         //Set initial game speed
         viewGuiController.updateGameSpeed(Constants.LEVEL_SPEED[0]);
@@ -47,7 +63,7 @@ public class GameController implements InputEventListener {
      * and game over conditions.
      *
      * @param event The MoveEvent triggering the down action.
-     * @return A {@code DownData} object containing information about cleared rows,
+     * @return The controller's reusable {@code DownData}, holding information about cleared rows,
      *         current view data, and whether the brick was locked in place.
      */
     @Override
@@ -79,10 +95,10 @@ public class GameController implements InputEventListener {
                 viewGuiController.gameOver();
             }
 
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+            refreshChangedRows();
         }
 
-        return new DownData(clearRow, board.getViewData(), !canMove);
+        return downData.update(clearRow, board.refreshViewData(), !canMove);
     }
 
     /**
@@ -94,7 +110,7 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
         board.moveBrickLeft();
-        return board.getViewData();
+        return board.refreshViewData();
     }
 
     /**
@@ -106,7 +122,7 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onRightEvent(MoveEvent event) {
         board.moveBrickRight();
-        return board.getViewData();
+        return board.refreshViewData();
     }
 
     /**
@@ -118,24 +134,22 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
         board.rotateLeftBrick();
-        return board.getViewData();
+        return board.refreshViewData();
     }
 
     /**
-     * Handles the hard drop event, instantly moving the current brick down
-     * until it collides, then locks it in place.
+     * Handles the hard drop event, instantly moving the current brick to its
+     * landing row in one step, then locks it in place.
      * Manages row clearing, score updates, level changes, and game over conditions.
      *
      * @param event The MoveEvent triggering the hard drop action.
      * @return A {@code DownData} object containing information about cleared rows,
-     *         current view data, the board matrix, and a flag indicating a hard drop.
+     *         current view data, and a flag indicating a hard drop.
      */
     @Override
     public DownData onHardDrop(MoveEvent event) {
-        // Move down until blocked
-        while (board.moveBrickDown()) {
-            //just keep dropping
-        }
+        // Jump straight to the landing row
+        board.hardDropBrick();
 
         //Lock the piece
         board.mergeBrickToBackground();
@@ -156,10 +170,9 @@ public class GameController implements InputEventListener {
         }
 
         //Update background for locked piece
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        refreshChangedRows();
 
-        //For hard drop we also pass the board matrix (if GUI ever wants it)
-        return new DownData(clearRow, board.getViewData(), board.getBoardMatrix(), true);
+        return downData.update(clearRow, board.refreshViewData(), true);
     }
 
     /**
@@ -170,7 +183,10 @@ public class GameController implements InputEventListener {
     public void createNewGame() {
         board.newGame();
         this.previousLevel = 1;
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        board.drainDirtyRows(dirtyRows);
+        try (BoardSnapshot snapshot = board.getBoardSnapshot()) {
+            viewGuiController.refreshGameBackground(snapshot);
+        }
 
         viewGuiController.updateGameSpeed(Constants.LEVEL_SPEED[0]);
     }
@@ -184,6 +200,16 @@ public class GameController implements InputEventListener {
         board.getScore().add(0);
     }
 
+    /**
+     * Pushes only the board rows that changed since the last refresh to the view.
+     */
+    private void refreshChangedRows() {
+        board.drainDirtyRows(dirtyRows);
+        try (BoardSnapshot snapshot = board.getBoardSnapshot()) {
+            viewGuiController.refreshGameRows(snapshot, dirtyRows);
+        }
+    }
+
     /**
      * Checks if the game level has changed and, if so, updates the game speed
      * accordingly based on the new level.
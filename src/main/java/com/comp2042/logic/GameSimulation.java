@@ -0,0 +1,442 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.EventType;
+import com.comp2042.model.MoveEvent;
+import com.comp2042.model.ViewData;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link GameController} on its own thread, so line clears, the bot and large
+ * boards never take time from the UI's frames.
+ * The UI thread only queues commands ({@link #submit}, {@link #newGame()},
+ * {@link #setPaused}, {@link #setBotEnabled}) on a lock-free ring and, once per
+ * frame, {@link #acquireFrame() acquires} the newest {@link RenderFrame} from a
+ * {@link TripleBuffer}. The simulation thread owns the board, the controller and
+ * the bot: it applies the queued commands, runs the gravity ticks and bot inputs
+ * that fell due on its {@link FixedStepClock}s, publishes a frame if anything
+ * changed, and parks until the next tick or the next command.
+ * The controller's view callbacks are recorded into the frame, so the same rules
+ * and the same {@link GameView} contract serve both this class and headless tools.
+ * Commands must come from one thread at a time, normally the JavaFX thread.
+ */
+public final class GameSimulation {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    /** Commands that can wait in the queue; a power of two. */
+    private static final int COMMAND_CAPACITY = 256;
+    /** The longest the thread parks without a tick due, so it notices {@link #stop()} promptly. */
+    private static final long MAX_PARK_NANOS = 100 * NANOS_PER_MILLI;
+
+    // Command codes; player inputs use their EventType ordinal
+    private static final int NEW_GAME = 16;
+    private static final int PAUSE = 17;
+    private static final int RESUME = 18;
+    private static final int BOT_ON = 19;
+    private static final int BOT_OFF = 20;
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final MoveEvent GRAVITY = MoveEvent.of(EventType.DOWN, EventSource.THREAD);
+
+    private final Board board;
+    private final GameController controller;
+    private final Bot bot;
+    private final boolean persistHighScore;
+
+    /** The frame the controller's callbacks write to; copied into a buffer slot on publish. */
+    private final RenderFrame live;
+    private final TripleBuffer<RenderFrame> frames;
+    private final FixedStepClock gravityClock;
+    private final FixedStepClock botClock;
+    private long sequence;
+
+    // Single-producer, single-consumer command ring
+    private final int[] commandCodes = new int[COMMAND_CAPACITY];
+    private final AtomicLong commandHead = new AtomicLong();
+    private final AtomicLong commandTail = new AtomicLong();
+
+    // Simulation-thread state
+    private boolean paused;
+    private boolean botEnabled;
+    private boolean over;
+
+    /** Called on the simulation thread with every published frame, or null. */
+    private volatile Consumer<RenderFrame> frameObserver;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    /**
+     * Creates a stopped simulation of a standard-size board, with high score persistence.
+     *
+     * @param botFactory Creates the bot that plays while bot mode is on.
+     */
+    public GameSimulation(Bot.Factory botFactory) {
+        this(new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT), botFactory, true);
+    }
+
+    /**
+     * Creates a stopped simulation and publishes the first frame.
+     *
+     * @param board The board holding the game rules and state; from now on only the simulation touches it.
+     * @param botFactory Creates the bot that plays while bot mode is on.
+     * @param persistHighScore True to load and save the high score on disk.
+     */
+    public GameSimulation(Board board, Bot.Factory botFactory, boolean persistHighScore) {
+        this.board = board;
+        this.persistHighScore = persistHighScore;
+        int width;
+        int height;
+        try (BoardSnapshot snapshot = board.getBoardSnapshot()) {
+            width = snapshot.getWidth();
+            height = snapshot.getHeight();
+        }
+        this.live = new RenderFrame(width, height);
+        this.frames = new TripleBuffer<>(() -> new RenderFrame(width, height));
+        this.gravityClock = new FixedStepClock(Constants.LEVEL_SPEED[0] * NANOS_PER_MILLI, Constants.MAX_CATCH_UP_TICKS);
+        this.botClock = new FixedStepClock(Constants.BOT_MOVE_MILLIS * NANOS_PER_MILLI, Constants.MAX_CATCH_UP_TICKS);
+        this.controller = new GameController(new FrameRecorder(), board);
+        this.bot = botFactory.create(board, controller);
+        publish();
+    }
+
+    /**
+     * Starts the simulation thread.
+     *
+     * @throws IllegalStateException if it was already started.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Simulation already started");
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("game-simulation").daemon().start(this::run);
+    }
+
+    /**
+     * Stops the simulation thread after it finishes its current step, and waits for it briefly.
+     * The game's exit hook runs on the simulation thread before it ends.
+     */
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues one player input.
+     *
+     * @param type The input.
+     * @return False if the queue was full and the input was dropped.
+     */
+    public boolean submit(EventType type) {
+        return enqueue(type.ordinal());
+    }
+
+    /**
+     * Queues the start of a new game.
+     *
+     * @return False if the queue was full.
+     */
+    public boolean newGame() {
+        return enqueue(NEW_GAME);
+    }
+
+    /**
+     * Queues pausing or resuming gravity and the bot; player inputs are ignored while paused.
+     *
+     * @param pause True to pause.
+     * @return False if the queue was full.
+     */
+    public boolean setPaused(boolean pause) {
+        return enqueue(pause ? PAUSE : RESUME);
+    }
+
+    /**
+     * Queues turning bot mode on or off.
+     *
+     * @param enabled True to let the bot play.
+     * @return False if the queue was full.
+     */
+    public boolean setBotEnabled(boolean enabled) {
+        return enqueue(enabled ? BOT_ON : BOT_OFF);
+    }
+
+    /**
+     * Returns the newest published frame. Call from one thread only, normally the
+     * JavaFX thread once per pulse; the frame stays unchanged until the next call.
+     *
+     * @return The newest frame.
+     */
+    public RenderFrame acquireFrame() {
+        return frames.acquire();
+    }
+
+    /**
+     * Sets a callback that receives every frame as it is published, on the
+     * simulation thread, e.g. to rasterize the board off the UI thread. The frame
+     * is only valid during the call, and the callback delays the simulation for
+     * as long as it runs. Frames published before the call are not replayed.
+     *
+     * @param observer The callback, or null to remove it.
+     */
+    public void setFrameObserver(Consumer<RenderFrame> observer) {
+        this.frameObserver = observer;
+    }
+
+    /**
+     * Runs the simulation until {@link #stop()}.
+     */
+    private void run() {
+        while (running) {
+            long now = System.nanoTime();
+            step(now);
+            LockSupport.parkNanos(this, nanosUntilDue());
+        }
+        controller.onGameExit();
+    }
+
+    /**
+     * Applies the queued commands, then the gravity ticks and bot inputs due at
+     * {@code now}, and publishes a frame if anything happened.
+     * Runs on the simulation thread, or on a test's thread if the simulation was never started.
+     *
+     * @param now The current time in nanoseconds.
+     * @return True if a frame was published.
+     */
+    boolean step(long now) {
+        boolean changed = drainCommands();
+        if (!paused && !over) {
+            int ticks = gravityClock.advance(now);
+            for (int i = 0; i < ticks && !over; i++) {
+                landed(controller.onDownEvent(GRAVITY));
+            }
+            changed |= ticks > 0;
+            if (botEnabled) {
+                int moves = botClock.advance(now);
+                for (int i = 0; i < moves && !over; i++) {
+                    apply(bot.nextMove(), EventSource.THREAD);
+                }
+                changed |= moves > 0;
+            }
+        }
+        if (changed) {
+            publish();
+        }
+        return changed;
+    }
+
+    /**
+     * Returns how long the thread may park before the next tick or bot input is due.
+     *
+     * @return The time in nanoseconds.
+     */
+    private long nanosUntilDue() {
+        if (paused || over) {
+            return MAX_PARK_NANOS;
+        }
+        long due = gravityClock.getNanosUntilNextStep();
+        if (botEnabled) {
+            due = Math.min(due, botClock.getNanosUntilNextStep());
+        }
+        return Math.min(due, MAX_PARK_NANOS);
+    }
+
+    /**
+     * Adds a command to the ring and wakes the simulation thread.
+     *
+     * @param code The command code.
+     * @return False if the ring was full.
+     */
+    private boolean enqueue(int code) {
+        long tail = commandTail.get();
+        if (tail - commandHead.get() == COMMAND_CAPACITY) {
+            return false;
+        }
+        commandCodes[(int) tail & (COMMAND_CAPACITY - 1)] = code;
+        commandTail.set(tail + 1);
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+        return true;
+    }
+
+    /**
+     * Applies every queued command.
+     *
+     * @return True if there was at least one.
+     */
+    private boolean drainCommands() {
+        long head = commandHead.get();
+        long tail = commandTail.get();
+        if (head == tail) {
+            return false;
+        }
+        for (; head < tail; head++) {
+            execute(commandCodes[(int) head & (COMMAND_CAPACITY - 1)]);
+        }
+        commandHead.set(head);
+        return true;
+    }
+
+    /**
+     * Applies one command.
+     *
+     * @param code The command code.
+     */
+    private void execute(int code) {
+        switch (code) {
+            case NEW_GAME:
+                controller.createNewGame();
+                live.startGame();
+                over = false;
+                gravityClock.reset();
+                botClock.reset();
+                break;
+            case PAUSE:
+                paused = true;
+                gravityClock.pause();
+                botClock.pause();
+                break;
+            case RESUME:
+                paused = false;
+                break;
+            case BOT_ON:
+                if (!botEnabled) {
+                    botClock.reset();
+                }
+                botEnabled = true;
+                break;
+            case BOT_OFF:
+                botEnabled = false;
+                break;
+            default:
+                live.inputApplied();
+                if (!paused && !over) {
+                    apply(EVENT_TYPES[code], EventSource.USER);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Sends one input to the controller.
+     *
+     * @param type The input.
+     * @param source Who sent it.
+     */
+    private void apply(EventType type, EventSource source) {
+        MoveEvent event = MoveEvent.of(type, source);
+        switch (type) {
+            case LEFT: controller.onLeftEvent(event); break;
+            case RIGHT: controller.onRightEvent(event); break;
+            case ROTATE: controller.onRotateEvent(event); break;
+            case DOWN: landed(controller.onDownEvent(event)); break;
+            case HARD_DROP: landed(controller.onHardDrop(event)); break;
+            default: break;
+        }
+    }
+
+    /**
+     * Counts a lock, if the last down or hard drop locked the brick.
+     *
+     * @param downData The controller's result.
+     */
+    private void landed(DownData downData) {
+        if (downData.isPieceLanded()) {
+            live.recordLock(downData.getClearRow());
+        }
+    }
+
+    /**
+     * Copies the current state into the back frame and hands it to the reader.
+     */
+    private void publish() {
+        live.setActiveBrick(board.refreshViewData());
+        live.setScore(board.getScore());
+        live.setSequence(++sequence);
+        frames.getWriteSlot().copyFrom(live);
+        frames.publish();
+        Consumer<RenderFrame> observer = frameObserver;
+        if (observer != null) {
+            observer.accept(live);
+        }
+    }
+
+    /**
+     * The controller's view: records its callbacks into the live frame, on the simulation thread.
+     * Inputs reach the controller through the command queue, so the event listener is ignored.
+     * With persistence on it also listens to the score and saves a beaten high score,
+     * without any JavaFX properties on the simulation thread.
+     */
+    private final class FrameRecorder extends HeadlessGameView implements ScoreListener {
+
+        /** The high score last written to (or read from) disk. */
+        private int persistedHighScore;
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+            live.copyBoard(boardMatrix);
+        }
+
+        @Override
+        public void bindScore(ScoreModel score) {
+            if (!persistHighScore) {
+                return;
+            }
+            persistedHighScore = HighScorePersistence.loadHighScore();
+            if (persistedHighScore > score.getHighScore()) {
+                score.setHighScore(persistedHighScore);
+            }
+            score.setListener(this);
+        }
+
+        @Override
+        public void onScoreChanged(ScoreModel score) {
+            if (score.getHighScore() > persistedHighScore) {
+                persistedHighScore = score.getHighScore();
+                HighScorePersistence.saveHighScore(persistedHighScore);
+            }
+        }
+
+        @Override
+        public void updateGameSpeed(int newSpeed) {
+            gravityClock.setStepNanos(newSpeed * NANOS_PER_MILLI);
+        }
+
+        @Override
+        public void recordCombo(int linesCleared) {
+            live.recordCombo(linesCleared);
+        }
+
+        @Override
+        public void gameOver() {
+            super.gameOver();
+            over = true;
+            live.endGame();
+        }
+
+        @Override
+        public void refreshGameBackground(BoardSnapshot snapshot) {
+            live.copyBoard(snapshot);
+        }
+
+        @Override
+        public void refreshGameRows(BoardSnapshot snapshot, BitSet dirtyRows) {
+            live.copyRows(snapshot, dirtyRows);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ViewData;
+
+import java.util.BitSet;
+
+/**
+ * The callbacks {@link GameController} uses to drive a view of the game.
+ * The JavaFX {@code GuiController} is one implementation; tests and tools can
+ * supply their own (or a no-op one) to run the rules without the FX toolkit.
+ */
+public interface GameView {
+
+    /**
+     * Registers the listener that receives the player's input events.
+     *
+     * @param eventListener The controller handling input.
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Builds the view for a new board.
+     *
+     * @param boardMatrix The initial board state.
+     * @param brick The view data of the first brick.
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Connects the view to the game's score counters.
+     *
+     * @param score The plain score model; the view may attach a {@link ScoreListener}.
+     */
+    void bindScore(ScoreModel score);
+
+    /**
+     * Changes the gravity interval.
+     *
+     * @param newSpeed The interval in milliseconds between gravity ticks.
+     */
+    void updateGameSpeed(int newSpeed);
+
+    /**
+     * Reports a line clear, for combo statistics.
+     *
+     * @param linesCleared The number of lines cleared at once.
+     */
+    void recordCombo(int linesCleared);
+
+    /**
+     * Reports that the game is over.
+     */
+    void gameOver();
+
+    /**
+     * Redraws every cell of the board.
+     *
+     * @param board A read-only view of the game board.
+     */
+    void refreshGameBackground(BoardSnapshot board);
+
+    /**
+     * Redraws the board rows that changed since the last refresh. After a line clear
+     * every row that shifted is among them.
+     *
+     * @param board A read-only view of the game board.
+     * @param dirtyRows The rows whose cells may have changed.
+     */
+    void refreshGameRows(BoardSnapshot board, BitSet dirtyRows);
+}
@@ -1,6 +1,7 @@
 package com.comp2042.logic;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceTable;
 
 /**
  * A utility class responsible for calculating the position of the "ghost" piece
@@ -35,7 +36,7 @@ public final class GhostCalculator {
     ) {
 
         int ghostY = brickY;
-        int[][] shape = brick.getShapeMatrix().get(currentShapeIndex);
+        int[][] shape = PieceTable.shapesOf(brick).get(currentShapeIndex).toMatrix();
 
         while (ghostY + 1 < boardHeight &&
                 !MatrixOperations.intersect(boardMatrix, shape, brickX, ghostY + 1)) {
@@ -44,4 +45,18 @@ public final class GhostCalculator {
 
         return ghostY;
     }
+
+    /**
+     * Computes the ghost Y-coordinate from the board's column skyline,
+     * without copying the board matrix (see {@link GameBoard#dropDistance}).
+     *
+     * @param gameBoard The game board the brick falls on.
+     * @param shape The bitmask form of the brick's current rotation.
+     * @param brickX The current X-coordinate of the falling brick's top-left corner.
+     * @param brickY The current Y-coordinate of the falling brick's top-left corner.
+     * @return The Y-coordinate of the ghost piece.
+     */
+    public static int computeGhostY(GameBoard gameBoard, BrickShape shape, int brickX, int brickY) {
+        return brickY + gameBoard.dropDistance(brickX, brickY, shape);
+    }
 }
@@ -0,0 +1,68 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ViewData;
+
+import java.util.BitSet;
+
+/**
+ * A {@link GameView} for games played without a display, such as bot self-play,
+ * benchmarks and tests. It ignores every callback except the end of the game,
+ * which it records, and serves as a base for views that only handle a few callbacks.
+ */
+public class HeadlessGameView implements GameView {
+
+    /** Set once the controller reports a top-out. */
+    private boolean gameOver;
+
+    /**
+     * Returns whether the controller has reported the end of the game.
+     *
+     * @return True after {@link #gameOver()} was called.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Forgets a reported game over, e.g. before the controller starts a new game.
+     */
+    public void clearGameOver() {
+        gameOver = false;
+    }
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    }
+
+    @Override
+    public void bindScore(ScoreModel score) {
+    }
+
+    @Override
+    public void updateGameSpeed(int newSpeed) {
+    }
+
+    @Override
+    public void recordCombo(int linesCleared) {
+    }
+
+    /**
+     * Records the end of the game. Subclasses that override this should call it.
+     */
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    @Override
+    public void refreshGameBackground(BoardSnapshot board) {
+    }
+
+    @Override
+    public void refreshGameRows(BoardSnapshot board, BitSet dirtyRows) {
+    }
+}
@@ -15,16 +15,23 @@ public class HighScorePersistence {
 
     /** The path to the high score data file within the resources folder. */
     private static final String HIGHSCORE_FILE = "HighScore/highscore.dat";
+    /** System property that, when set, names the high score file instead; tests point it at a temporary directory. */
+    static final String FILE_PROPERTY = "highscore.file";
 
     /**
      * Determines the correct file path for the high score persistence file.
      * It attempts to locate the file within the application's resources
      * and creates the necessary directory structure if it doesn't exist.
      * As a fallback, it uses the user's home directory.
+     * The {@link #FILE_PROPERTY} system property overrides all of this.
      *
      * @return A File object representing the high score persistence file.
      */
     private static File getHighScoreFile() {
+        String override = System.getProperty(FILE_PROPERTY);
+        if (override != null) {
+            return new File(override);
+        }
         try {
             // Try to get the resource URL
             URL resourceUrl = HighScorePersistence.class.getClassLoader().getResource(HIGHSCORE_FILE);
@@ -0,0 +1,209 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.EventType;
+
+import java.util.Arrays;
+
+/**
+ * Turns key-down and key-up events into game inputs, with delayed auto-shift (DAS)
+ * and auto-repeat (ARR) computed from timestamps instead of the operating system's
+ * key repeat.
+ * Key handlers only record presses and releases; the game loop calls {@link #poll}
+ * once per frame to receive every input that fell due since the previous frame,
+ * each with the time it was due, so repeats stay on their exact schedule however
+ * the frames fall. OS repeat events for a key that is already down are ignored.
+ * Sideways keys follow "last pressed wins": holding both moves towards the one
+ * pressed last, and releasing it hands over to the other one after a fresh DAS.
+ * Rotation and hard drop act once per press. Nothing is allocated after construction.
+ */
+public final class InputRepeater {
+
+    /** Receives the inputs that are due. */
+    public interface Sink {
+
+        /**
+         * Handles one input.
+         *
+         * @param type The input.
+         * @param inputNanos When the input happened (a press) or fell due (a repeat).
+         */
+        void accept(EventType type, long inputNanos);
+    }
+
+    /** Presses buffered between two polls; more than this many in one frame are dropped. */
+    private static final int QUEUE_CAPACITY = 16;
+
+    private final long dasNanos;
+    private final long arrNanos;
+    private final long softDropNanos;
+    /** The most repeats of one key delivered by one poll, so a stall cannot flood the game. */
+    private final int maxRepeatsPerPoll;
+
+    /** Which inputs are held down, indexed by {@link EventType#ordinal()}. */
+    private final boolean[] held = new boolean[EventType.values().length];
+    /** The sideways input currently repeating, or null. */
+    private EventType shiftDirection;
+    /** When the next sideways repeat is due. */
+    private long nextShiftNanos;
+    /** When the next soft-drop step is due, while the down key is held. */
+    private long nextDropNanos;
+
+    // Ring buffer of presses waiting for the next poll
+    private final EventType[] queuedTypes = new EventType[QUEUE_CAPACITY];
+    private final long[] queuedNanos = new long[QUEUE_CAPACITY];
+    private int queueHead;
+    private int queueSize;
+
+    /**
+     * Creates a repeater with the game's default timings.
+     */
+    public InputRepeater() {
+        this(Constants.DAS_MILLIS * 1_000_000L, Constants.ARR_MILLIS * 1_000_000L,
+                Constants.SOFT_DROP_MILLIS * 1_000_000L, Constants.BOARD_WIDTH);
+    }
+
+    /**
+     * Creates a repeater.
+     *
+     * @param dasNanos How long a sideways key is held before it repeats.
+     * @param arrNanos The interval between sideways repeats.
+     * @param softDropNanos The interval between soft-drop steps.
+     * @param maxRepeatsPerPoll The most repeats of one key per poll.
+     * @throws IllegalArgumentException if a timing is negative, an interval is zero,
+     *         or the repeat cap is not positive.
+     */
+    public InputRepeater(long dasNanos, long arrNanos, long softDropNanos, int maxRepeatsPerPoll) {
+        if (dasNanos < 0 || arrNanos <= 0 || softDropNanos <= 0 || maxRepeatsPerPoll <= 0) {
+            throw new IllegalArgumentException("Invalid repeat timings: DAS " + dasNanos + ", ARR " + arrNanos
+                    + ", soft drop " + softDropNanos + ", cap " + maxRepeatsPerPoll);
+        }
+        this.dasNanos = dasNanos;
+        this.arrNanos = arrNanos;
+        this.softDropNanos = softDropNanos;
+        this.maxRepeatsPerPoll = maxRepeatsPerPoll;
+    }
+
+    /**
+     * Records a key going down. The first press acts on the next poll; repeats of a
+     * key that is already down are ignored.
+     *
+     * @param type The input the key is bound to.
+     * @param nowNanos When the key went down.
+     */
+    public void keyPressed(EventType type, long nowNanos) {
+        if (held[type.ordinal()]) {
+            return;
+        }
+        held[type.ordinal()] = true;
+        switch (type) {
+            case LEFT:
+            case RIGHT:
+                shiftDirection = type;
+                nextShiftNanos = nowNanos + dasNanos;
+                break;
+            case DOWN:
+                nextDropNanos = nowNanos + softDropNanos;
+                break;
+            default:
+                break;
+        }
+        enqueue(type, nowNanos);
+    }
+
+    /**
+     * Records a key going up.
+     *
+     * @param type The input the key is bound to.
+     * @param nowNanos When the key went up.
+     */
+    public void keyReleased(EventType type, long nowNanos) {
+        held[type.ordinal()] = false;
+        if (type == shiftDirection) {
+            EventType other = type == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+            if (held[other.ordinal()]) {
+                shiftDirection = other;
+                nextShiftNanos = nowNanos + dasNanos;
+            } else {
+                shiftDirection = null;
+            }
+        }
+    }
+
+    /**
+     * Forgets every held key and buffered press, e.g. when the game pauses or loses focus.
+     */
+    public void releaseAll() {
+        Arrays.fill(held, false);
+        shiftDirection = null;
+        queueSize = 0;
+    }
+
+    /**
+     * Checks whether a key is held down.
+     *
+     * @param type The input the key is bound to.
+     * @return True between its press and its release.
+     */
+    public boolean isHeld(EventType type) {
+        return held[type.ordinal()];
+    }
+
+    /**
+     * Delivers the buffered presses in order, then every repeat due by {@code nowNanos}.
+     *
+     * @param nowNanos The current frame's timestamp.
+     * @param sink Receives the inputs.
+     * @return The number of inputs delivered.
+     */
+    public int poll(long nowNanos, Sink sink) {
+        int delivered = queueSize;
+        while (queueSize > 0) {
+            EventType type = queuedTypes[queueHead];
+            long at = queuedNanos[queueHead];
+            queueHead = (queueHead + 1) % QUEUE_CAPACITY;
+            queueSize--;
+            sink.accept(type, at);
+        }
+        if (shiftDirection != null) {
+            int repeats = 0;
+            while (nextShiftNanos <= nowNanos && repeats < maxRepeatsPerPoll) {
+                sink.accept(shiftDirection, nextShiftNanos);
+                nextShiftNanos += arrNanos;
+                repeats++;
+            }
+            if (nextShiftNanos <= nowNanos) {
+                nextShiftNanos = nowNanos + arrNanos;
+            }
+            delivered += repeats;
+        }
+        if (held[EventType.DOWN.ordinal()]) {
+            int repeats = 0;
+            while (nextDropNanos <= nowNanos && repeats < maxRepeatsPerPoll) {
+                sink.accept(EventType.DOWN, nextDropNanos);
+                nextDropNanos += softDropNanos;
+                repeats++;
+            }
+            if (nextDropNanos <= nowNanos) {
+                nextDropNanos = nowNanos + softDropNanos;
+            }
+            delivered += repeats;
+        }
+        return delivered;
+    }
+
+    /**
+     * Buffers a press for the next poll, dropping it if a whole queue is already waiting.
+     *
+     * @param type The input.
+     * @param nowNanos When it was pressed.
+     */
+    private void enqueue(EventType type, long nowNanos) {
+        if (queueSize == QUEUE_CAPACITY) {
+            return;
+        }
+        int slot = (queueHead + queueSize) % QUEUE_CAPACITY;
+        queuedTypes[slot] = type;
+        queuedNanos[slot] = nowNanos;
+        queueSize++;
+    }
+}
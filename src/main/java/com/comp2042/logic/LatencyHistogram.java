@@ -0,0 +1,135 @@
+package com.comp2042.logic;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of latencies, e.g. from an input to the frame that shows it.
+ * Buckets are {@code bucketNanos} wide; anything slower than the last bucket is
+ * counted in an overflow bucket. Recording is a single array increment, so it can
+ * run every frame without allocating. Not thread-safe.
+ */
+public final class LatencyHistogram {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long bucketNanos;
+    /** Counts per bucket; the last entry is the overflow bucket. */
+    private final long[] counts;
+    private long total;
+    private long sumNanos;
+    private long maxNanos;
+
+    /**
+     * Creates a histogram of 0.25 ms buckets up to 100 ms.
+     */
+    public LatencyHistogram() {
+        this(250_000L, 400);
+    }
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param bucketNanos The width of one bucket in nanoseconds.
+     * @param bucketCount The number of buckets before the overflow bucket.
+     * @throws IllegalArgumentException if either value is not positive.
+     */
+    public LatencyHistogram(long bucketNanos, int bucketCount) {
+        if (bucketNanos <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket width and count must be positive");
+        }
+        this.bucketNanos = bucketNanos;
+        this.counts = new long[bucketCount + 1];
+    }
+
+    /**
+     * Records one latency; negative values count as 0.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        long bucket = value / bucketNanos;
+        counts[(int) Math.min(bucket, counts.length - 1)]++;
+        total++;
+        sumNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The sample count.
+     */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return The mean in nanoseconds, 0 if nothing was recorded.
+     */
+    public double getMeanNanos() {
+        return total == 0 ? 0.0 : (double) sumNanos / total;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return The maximum in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns a latency that the given share of samples does not exceed (nearest rank),
+     * rounded up to its bucket's upper edge; the exact maximum for the overflow bucket.
+     *
+     * @param percentile The percentile, from 0 (exclusive) to 100.
+     * @return The latency in nanoseconds, 0 if nothing was recorded.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length - 1; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min((bucket + 1) * bucketNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Forgets every recorded latency.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        total = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Summarises the distribution in milliseconds.
+     *
+     * @return The sample count, mean, median, 90th and 99th percentiles and maximum.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.1fms p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                total, getMeanNanos() / NANOS_PER_MILLI,
+                total == 0 ? 0.0 : getPercentileNanos(50) / NANOS_PER_MILLI,
+                total == 0 ? 0.0 : getPercentileNanos(90) / NANOS_PER_MILLI,
+                total == 0 ? 0.0 : getPercentileNanos(99) / NANOS_PER_MILLI,
+                maxNanos / NANOS_PER_MILLI);
+    }
+}
@@ -2,12 +2,10 @@ package com.comp2042.logic;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceTable;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
-import com.comp2042.model.NextShapeInfo;
 import com.comp2042.model.ViewData;
 
-import java.awt.Point;
-
 /**
  * Manages the active falling brick, including its movement, rotation,
  * spawning of new bricks, and interaction with the game board.
@@ -15,21 +13,56 @@ import java.awt.Point;
  */
 public class PieceManager {
 
+    /** The board row at which the top of a new brick's shape matrix is placed. */
+    public static final int SPAWN_ROW = 2;
+
     private final GameBoard gameBoard;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private Point currentOffset;
+    /** Column of the active brick's top-left corner. */
+    private int currentX;
+    /** Row of the active brick's top-left corner. */
+    private int currentY;
+    /** Reusable view data refreshed by {@link #refreshViewData()}. */
+    private final ViewData liveViewData = ViewData.createReusable();
+    /** Spawn rotations of the upcoming bricks, refilled from the generator's lookahead. */
+    private final BrickShape[] previewShapes;
+
+    /** Board version the cached ghost row was computed against. */
+    private long ghostVersion = -1;
+    /** Rotation the cached ghost row belongs to (each shape is one rotation of one brick). */
+    private BrickShape ghostShape;
+    /** Column the cached ghost row belongs to. */
+    private int ghostX;
+    /** Row the brick was on when the cached ghost row was computed. */
+    private int ghostFromY;
+    /** Cached landing row. */
+    private int ghostY;
+    private long ghostCacheHits;
+    private long ghostCacheMisses;
 
     /**
      * Constructs a new PieceManager, associating it with a specific GameBoard.
-     * Initializes the brick generator and rotator.
+     * Initializes a randomly seeded brick generator and the rotator.
      *
      * @param gameBoard The GameBoard instance this PieceManager will operate on.
      */
     public PieceManager(GameBoard gameBoard) {
+        this(gameBoard, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new PieceManager that draws its bricks from the given generator,
+     * e.g. a seeded one for reproducible games.
+     *
+     * @param gameBoard The GameBoard instance this PieceManager will operate on.
+     * @param brickGenerator The source of new bricks.
+     */
+    public PieceManager(GameBoard gameBoard, BrickGenerator brickGenerator) {
         this.gameBoard = gameBoard;
-        this.brickGenerator = new RandomBrickGenerator();
+        this.brickGenerator = brickGenerator;
         this.brickRotator = new BrickRotator();
+        this.previewShapes = new BrickShape[Math.min(brickGenerator.getLookahead(), Constants.PREVIEW_COUNT)];
     }
 
     /**
@@ -39,15 +72,18 @@ public class PieceManager {
      * @return True if the brick successfully moved down, false if a collision prevented the move.
      */
     public boolean moveDown() {
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
+        return tryMove(0, 1);
+    }
 
-        if (gameBoard.isCollision(p, brickRotator.getCurrentShape())) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+    /**
+     * Drops the active brick straight to its landing row in one step.
+     *
+     * @return The number of rows the brick fell.
+     */
+    public int hardDrop() {
+        int distance = gameBoard.dropDistance(currentX, currentY, brickRotator.getCurrentBrickShape());
+        currentY += distance;
+        return distance;
     }
 
     /**
@@ -57,15 +93,7 @@ public class PieceManager {
      * @return True if the brick successfully moved left, false if a collision prevented the move.
      */
     public boolean moveLeft() {
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-
-        if (gameBoard.isCollision(p, brickRotator.getCurrentShape())) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(-1, 0);
     }
 
     /**
@@ -75,15 +103,23 @@ public class PieceManager {
      * @return True if the brick successfully moved right, false if a collision prevented the move.
      */
     public boolean moveRight() {
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
+        return tryMove(1, 0);
+    }
 
-        if (gameBoard.isCollision(p, brickRotator.getCurrentShape())) {
+    /**
+     * Moves the active brick by the given offset if the target position is free.
+     *
+     * @param dx The column offset.
+     * @param dy The row offset.
+     * @return True if the brick moved, false if a collision prevented the move.
+     */
+    private boolean tryMove(int dx, int dy) {
+        if (gameBoard.isCollision(currentX + dx, currentY + dy, brickRotator.getCurrentBrickShape())) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentX += dx;
+        currentY += dy;
+        return true;
     }
 
     /**
@@ -93,11 +129,10 @@ public class PieceManager {
      * @return True if the brick successfully rotated, false if a collision prevented the rotation.
      */
     public boolean rotateLeft() {
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        if (gameBoard.isCollision(currentOffset, nextShape.getShape())) {
+        if (gameBoard.isCollision(currentX, currentY, brickRotator.getNextBrickShape())) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(brickRotator.getNextShapeIndex());
             return true;
         }
     }
@@ -112,20 +147,31 @@ public class PieceManager {
     public boolean spawnNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = getSpawnPoint();
+        currentX = getSpawnColumn();
+        currentY = SPAWN_ROW;
 
-        return gameBoard.isCollision(currentOffset, brickRotator.getCurrentShape());
+        return gameBoard.isCollision(currentX, currentY, brickRotator.getCurrentBrickShape());
     }
 
     /**
-     * Calculates the initial spawn point for a new brick.
+     * Calculates the column at which a new brick's shape matrix is placed.
      *
-     * @return A {@code Point} representing the top-left corner of the brick's spawn location.
+     * @return The spawn column of the brick's top-left corner.
      */
-    private Point getSpawnPoint() {
-        int spawnX = gameBoard.getWidth() / 2 - 2;
-        if (spawnX < 0) spawnX = 0;
-        return new Point(spawnX, 2);
+    private int getSpawnColumn() {
+        return spawnColumn(gameBoard.getWidth(), brickRotator.getCurrentBrickShape());
+    }
+
+    /**
+     * Calculates the column at which a brick spawns on a board of the given width,
+     * so searches can place an upcoming brick exactly where the game will.
+     *
+     * @param boardWidth The board width in columns.
+     * @param spawnShape The brick's spawn rotation.
+     * @return The spawn column of the brick's top-left corner.
+     */
+    public static int spawnColumn(int boardWidth, BrickShape spawnShape) {
+        return Math.max(boardWidth / 2 + spawnShape.getSpawnColumnOffset(), 0);
     }
 
     /**
@@ -136,30 +182,114 @@ public class PieceManager {
      * @return A {@code ViewData} object containing comprehensive information for display.
      */
     public ViewData getViewData() {
-        int ghostY = computeGhostY();
         return new ViewData(
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY(),
-                brickGenerator.getNextBrick().getShapeMatrix().get(0),
-                ghostY
+                brickRotator.getCurrentBrickShape(),
+                currentX,
+                currentY,
+                fillPreview(),
+                previewShapes.length,
+                computeGhostY()
+        );
+    }
+
+    /**
+     * Refreshes and returns this manager's reusable view data. Unlike
+     * {@link #getViewData()} this allocates nothing, but the returned object is
+     * overwritten by the next call and must not be kept.
+     *
+     * @return The reusable {@code ViewData}, updated to the current state.
+     */
+    public ViewData refreshViewData() {
+        return liveViewData.update(
+                brickRotator.getCurrentBrickShape(),
+                currentX,
+                currentY,
+                fillPreview(),
+                previewShapes.length,
+                computeGhostY()
         );
     }
 
+    /**
+     * Refills the preview with the spawn rotations of the upcoming bricks,
+     * read from the generator's lookahead without consuming or copying anything.
+     *
+     * @return The preview array, the next brick first.
+     */
+    private BrickShape[] fillPreview() {
+        for (int i = 0; i < previewShapes.length; i++) {
+            previewShapes[i] = PieceTable.shapesOf(brickGenerator.peek(i)).get(0);
+        }
+        return previewShapes;
+    }
+
     /**
      * Computes the Y-coordinate of the ghost piece (projected landing position of the current brick).
+     * The result is memoized against the board version, rotation and column. Falling
+     * straight down follows the same path, so it stays valid while the brick is between
+     * the row it was computed from and the landing row; gravity ticks are cache hits.
      *
      * @return The Y-coordinate for the ghost piece.
      */
     private int computeGhostY() {
-        return GhostCalculator.computeGhostY(
-                gameBoard.getGameMatrix(),
-                brickRotator.getBrick(),
-                currentOffset.x,
-                currentOffset.y,
-                gameBoard.getHeight(),
-                brickRotator.getCurrentShapeIndex()
-        );
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        if (ghostShape == shape && ghostX == currentX && ghostVersion == gameBoard.getVersion()
+                && currentY >= ghostFromY && currentY <= ghostY) {
+            ghostCacheHits++;
+            return ghostY;
+        }
+        ghostCacheMisses++;
+        ghostY = GhostCalculator.computeGhostY(gameBoard, shape, currentX, currentY);
+        ghostShape = shape;
+        ghostX = currentX;
+        ghostFromY = currentY;
+        ghostVersion = gameBoard.getVersion();
+        return ghostY;
+    }
+
+    /**
+     * Returns the brick currently falling.
+     *
+     * @return The active {@code Brick}.
+     */
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    /**
+     * Returns the brick that will spawn after the active one.
+     *
+     * @return The next {@code Brick}.
+     */
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    /**
+     * Returns the rotation the active brick is currently in.
+     *
+     * @return The rotation index, 0 right after spawning.
+     */
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * Returns how many ghost lookups were answered from the cache.
+     *
+     * @return The number of ghost cache hits since this manager was created.
+     */
+    public long getGhostCacheHits() {
+        return ghostCacheHits;
+    }
+
+    /**
+     * Returns how many ghost lookups had to be recomputed.
+     *
+     * @return The number of ghost cache misses since this manager was created.
+     */
+    public long getGhostCacheMisses() {
+        return ghostCacheMisses;
     }
 
     /**
@@ -167,6 +297,6 @@ public class PieceManager {
      * This is typically called when the brick has landed and can no longer move.
      */
     public void mergeBrickToBackground() {
-        gameBoard.mergeBrick(currentOffset, brickRotator.getCurrentShape());
+        gameBoard.mergeBrick(currentX, currentY, brickRotator.getCurrentBrickShape());
     }
 }
@@ -0,0 +1,358 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+
+import java.util.BitSet;
+
+/**
+ * Everything the UI needs to draw one frame of a {@link GameSimulation}: the board
+ * cells, the active brick with its ghost and the preview queue, the score counters,
+ * and running totals of the events the UI reacts to (locks, line clears, applied
+ * inputs). Frames are preallocated slots of a {@link TripleBuffer}: the simulation
+ * fills one on its own thread and publishes it, and from then on nothing writes to
+ * it while the UI holds it, so to the UI a frame is an immutable snapshot.
+ * Events are published as running totals rather than one-off flags, because the
+ * UI may skip frames; it compares each frame with the previous one it drew.
+ */
+public final class RenderFrame {
+
+    /** Combo counts are kept for 1 to this many lines cleared at once. */
+    public static final int MAX_COMBO_LINES = 4;
+
+    private final int width;
+    private final int height;
+    private final int[][] cells;
+    /** Increases whenever the board cells change, so unchanged boards are neither copied nor redrawn. */
+    private long boardVersion;
+
+    /** Active brick, ghost row and preview queue; reuses the frame's own instance. */
+    private final ViewData activeBrick = ViewData.createReusable();
+
+    private long sequence;
+    private int gameNumber;
+    private boolean gameOver;
+    private int score;
+    private int highScore;
+    private int level = 1;
+    private int totalLines;
+
+    private long appliedInputs;
+    private long locks;
+    private long gameStartLocks;
+    private long lineClears;
+    private long clearBonusTotal;
+    private final long[] combos = new long[MAX_COMBO_LINES + 1];
+
+    /**
+     * Creates an empty frame.
+     *
+     * @param width The board width.
+     * @param height The board height.
+     */
+    RenderFrame(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new int[height][width];
+    }
+
+    // --- Writer side, used by GameSimulation on its own thread ---
+
+    /**
+     * Copies every field of another frame; the cells only if they changed.
+     *
+     * @param source The frame to copy.
+     */
+    void copyFrom(RenderFrame source) {
+        if (boardVersion != source.boardVersion) {
+            for (int row = 0; row < height; row++) {
+                System.arraycopy(source.cells[row], 0, cells[row], 0, width);
+            }
+            boardVersion = source.boardVersion;
+        }
+        ViewData brick = source.activeBrick;
+        if (brick.getBrickShape() != null) {
+            setActiveBrick(brick);
+        }
+        sequence = source.sequence;
+        gameNumber = source.gameNumber;
+        gameOver = source.gameOver;
+        score = source.score;
+        highScore = source.highScore;
+        level = source.level;
+        totalLines = source.totalLines;
+        appliedInputs = source.appliedInputs;
+        locks = source.locks;
+        gameStartLocks = source.gameStartLocks;
+        lineClears = source.lineClears;
+        clearBonusTotal = source.clearBonusTotal;
+        System.arraycopy(source.combos, 0, combos, 0, combos.length);
+    }
+
+    /**
+     * Copies the board cells.
+     *
+     * @param board The board to copy.
+     */
+    void copyBoard(BoardSnapshot board) {
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                cells[row][col] = board.getCell(row, col);
+            }
+        }
+        boardVersion++;
+    }
+
+    /**
+     * Copies the cells of some board rows; the other rows are kept.
+     *
+     * @param board The board to copy from.
+     * @param rows The rows to copy.
+     */
+    void copyRows(BoardSnapshot board, BitSet rows) {
+        for (int row = rows.nextSetBit(0); row >= 0 && row < height; row = rows.nextSetBit(row + 1)) {
+            for (int col = 0; col < width; col++) {
+                cells[row][col] = board.getCell(row, col);
+            }
+        }
+        boardVersion++;
+    }
+
+    /**
+     * Copies the board cells.
+     *
+     * @param matrix The board cells, {@code height} rows of {@code width} colour ids.
+     */
+    void copyBoard(int[][] matrix) {
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(matrix[row], 0, cells[row], 0, width);
+        }
+        boardVersion++;
+    }
+
+    /**
+     * Copies the active brick, its ghost row and the preview queue.
+     *
+     * @param view The engine's view data; only its immutable shapes are shared.
+     */
+    void setActiveBrick(ViewData view) {
+        activeBrick.update(view);
+    }
+
+    /**
+     * Copies the score counters.
+     *
+     * @param model The game's score.
+     */
+    void setScore(ScoreModel model) {
+        score = model.getScore();
+        highScore = model.getHighScore();
+        level = model.getLevel();
+        totalLines = model.getTotalLines();
+    }
+
+    /**
+     * Stamps the frame before it is published.
+     *
+     * @param sequence The number of frames published so far, including this one.
+     */
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Counts a locked brick and the lines it cleared.
+     *
+     * @param clearRow The clear that followed the lock, or null.
+     */
+    void recordLock(ClearRow clearRow) {
+        locks++;
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            lineClears++;
+            clearBonusTotal += clearRow.getScoreBonus();
+        }
+    }
+
+    /**
+     * Counts a combo for the player statistics.
+     *
+     * @param lines The number of lines cleared at once.
+     */
+    void recordCombo(int lines) {
+        combos[Math.min(lines, MAX_COMBO_LINES)]++;
+    }
+
+    /**
+     * Counts a player input taken off the simulation's command queue.
+     */
+    void inputApplied() {
+        appliedInputs++;
+    }
+
+    /**
+     * Marks the start of a new game.
+     */
+    void startGame() {
+        gameNumber++;
+        gameOver = false;
+        gameStartLocks = locks;
+    }
+
+    /**
+     * Marks the end of the game.
+     */
+    void endGame() {
+        gameOver = true;
+    }
+
+    // --- Reader side ---
+
+    /**
+     * Returns the frame's position in the simulation's output; a new number means a new frame.
+     *
+     * @return The number of frames published up to and including this one.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns which game of the simulation this frame belongs to.
+     *
+     * @return 0 for the first game, increasing with every new game.
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return True once the board has topped out.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the colour id stored at one board cell.
+     *
+     * @param row The board row index.
+     * @param col The board column index.
+     * @return The colour id, or 0 for an empty cell.
+     */
+    public int getCell(int row, int col) {
+        return cells[row][col];
+    }
+
+    /**
+     * Returns a number that changes whenever the board cells change.
+     *
+     * @return The board version.
+     */
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Returns a copy of the board cells.
+     *
+     * @return A new {@code height x width} matrix of colour ids.
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(cells);
+    }
+
+    /**
+     * Returns the active brick, its ghost row and the preview queue.
+     * The object belongs to this frame and must not be kept after the next acquire.
+     * Its change bits compare against whatever this slot held before, not the frame
+     * the UI drew last; a view should copy it into its own reusable ViewData with
+     * {@link ViewData#update(ViewData)} to learn what changed on screen.
+     *
+     * @return The frame's view data.
+     */
+    public ViewData getActiveBrick() {
+        return activeBrick;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHighScore() {
+        return highScore;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Returns the number of player inputs the simulation has taken off its queue,
+     * including ones it ignored (e.g. while paused), so that it matches the number submitted.
+     *
+     * @return The running total.
+     */
+    public long getAppliedInputs() {
+        return appliedInputs;
+    }
+
+    /**
+     * Returns the number of bricks locked since the simulation started.
+     *
+     * @return The running total over all games.
+     */
+    public long getLocks() {
+        return locks;
+    }
+
+    /**
+     * Returns the number of bricks locked in the current game.
+     *
+     * @return The count since the game started.
+     */
+    public long getGameLocks() {
+        return locks - gameStartLocks;
+    }
+
+    /**
+     * Returns the number of locks that cleared at least one line.
+     *
+     * @return The running total over all games.
+     */
+    public long getLineClears() {
+        return lineClears;
+    }
+
+    /**
+     * Returns the sum of the score bonuses of every line clear.
+     *
+     * @return The running total over all games.
+     */
+    public long getClearBonusTotal() {
+        return clearBonusTotal;
+    }
+
+    /**
+     * Returns how many times the given number of lines was cleared at once.
+     *
+     * @param lines From 1 to {@link #MAX_COMBO_LINES}.
+     * @return The running total over all games.
+     */
+    public long getCombos(int lines) {
+        return combos[lines];
+    }
+}
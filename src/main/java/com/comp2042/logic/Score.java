@@ -4,16 +4,20 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
 /**
- - Manages all scoring logic for the Tetris game.
- - This class encapsulates the current score, high score, and total lines cleared.
- - UI layers access score values via read-only JavaFX properties,
- while game logic updates the score strictly through controlled methods
- (add, addLines, reset), ensuring proper encapsulation and preventing misuse.
+ - JavaFX and persistence adapter over a plain {@link ScoreModel}.
+ - The rules live in the model; this class mirrors its counters into
+ IntegerProperties that UI labels can bind to, and saves the high score
+ to disk whenever it is beaten.
+ - Game logic should update the score through the model (or the delegating
+ add, addLines and reset methods here), never through the properties.
  */
 
 
 
-public final class Score {
+public final class Score implements ScoreListener {
+
+    /** The plain counters this adapter mirrors. */
+    private final ScoreModel model;
 
     /** The current score of the player. */
     private final IntegerProperty score = new SimpleIntegerProperty(0);
@@ -26,6 +30,8 @@ public final class Score {
 
     /** Indicates whether high score persistence to disk is enabled. */
     private final boolean persistenceEnabled;
+    /** The last high score written to (or read from) disk. */
+    private int persistedHighScore;
 
 
     /**
@@ -44,14 +50,59 @@ public final class Score {
      * @param persistenceEnabled True to enable high score persistence, false otherwise.
      */
     public Score(boolean persistenceEnabled) {
+        this(new ScoreModel(), persistenceEnabled);
+    }
+
+    /**
+     * Wraps an existing score model, e.g. the one owned by a {@link Board}.
+     * If persistence is enabled, the saved high score is loaded into the model
+     * when it is higher than the model's own.
+     *
+     * @param model The model to mirror; this adapter becomes its listener.
+     * @param persistenceEnabled True to enable high score persistence, false otherwise.
+     */
+    public Score(ScoreModel model, boolean persistenceEnabled) {
+        this.model = model;
         this.persistenceEnabled = persistenceEnabled;
+        model.setListener(this);
         if (this.persistenceEnabled) {
             //Load high score from disk when Score is created
-            int savedHighScore = HighScorePersistence.loadHighScore();
-            highScore.set(savedHighScore);
+            persistedHighScore = HighScorePersistence.loadHighScore();
+            if (persistedHighScore > model.getHighScore()) {
+                model.setHighScore(persistedHighScore);
+            }
+        }
+        onScoreChanged(model);
+    }
+
+    /**
+     * Copies the model's counters into the properties and saves a beaten high score.
+     *
+     * @param changed The model that changed.
+     */
+    @Override
+    public void onScoreChanged(ScoreModel changed) {
+        score.set(changed.getScore());
+        highScore.set(changed.getHighScore());
+        totalLines.set(changed.getTotalLines());
+        level.set(changed.getLevel());
+
+        if (persistenceEnabled && changed.getHighScore() > persistedHighScore) {
+            //Save to disk immediately when high score is beaten
+            persistedHighScore = changed.getHighScore();
+            HighScorePersistence.saveHighScore(persistedHighScore);
         }
     }
 
+    /**
+     * Returns the plain model behind this adapter.
+     *
+     * @return The {@code ScoreModel}.
+     */
+    public ScoreModel getModel() {
+        return model;
+    }
+
     public IntegerProperty scoreProperty() {
         return score;
     }
@@ -74,7 +125,7 @@ public final class Score {
      * @return The current score.
      */
     public int getScore() {
-        return score.get();
+        return model.getScore();
     }
 
     /**
@@ -83,7 +134,7 @@ public final class Score {
      * @return The high score.
      */
     public int getHighScore() {
-        return highScore.get();
+        return model.getHighScore();
     }
 
     /**
@@ -92,7 +143,7 @@ public final class Score {
      * @return The total number of lines cleared.
      */
     public int getTotalLines() {
-        return totalLines.get();
+        return model.getTotalLines();
     }
 
     /**
@@ -101,34 +152,7 @@ public final class Score {
      * @return The current level.
      */
     public int getLevel() {
-        return level.get();
-    }
-
-    /**
-     * Checks if the current score is greater than the high score.
-     * If it is, updates the high score and saves it to disk if persistence is enabled.
-     */
-    private void updateHighScore() {
-        if (score.get() > highScore.get()) {
-            highScore.set(score.get());
-            //Save to disk immediately when high score is beaten
-            if(persistenceEnabled) {
-                HighScorePersistence.saveHighScore(highScore.get());
-            }
-        }
-    }
-
-    /**
-     * Recalculates and updates the current game level based on the total lines cleared.
-     * The level increases every {@code Constants.LINES_PER_LEVEL} lines, up to {@code Constants.MAX_LEVEL}.
-     */
-    private void updateLevel() {
-        //Calculate level based on total lines cleared
-        //Every 10 lines = next level, max level 10
-        int newLevel = Math.min((totalLines.get() / Constants.LINES_PER_LEVEL) + 1, Constants.MAX_LEVEL);
-        if (newLevel != level.get()) {
-            level.set(newLevel);
-        }
+        return model.getLevel();
     }
 
     /**
@@ -138,11 +162,7 @@ public final class Score {
      * @param amount The amount to add to the score. Must be a positive value.
      */
     public void add(int amount) {
-        if (amount <= 0) {
-            return;
-        }
-        score.set(score.get() + amount);
-        updateHighScore();
+        model.add(amount);
     }
 
     /**
@@ -152,12 +172,7 @@ public final class Score {
      * @param lines The number of lines to add. Must be a positive value.
      */
     public void addLines(int lines) {
-        if (lines <= 0) {
-            return;
-        }
-        totalLines.set(totalLines.get() + lines);
-
-        updateLevel();
+        model.addLines(lines);
     }
 
 
@@ -166,9 +181,7 @@ public final class Score {
      * The high score is intentionally not reset to maintain persistence across games.
      */
     public void reset() {
-        score.set(0);
-        totalLines.set(0);
-        level.set(1);
+        model.reset();
     }
 
 }
@@ -0,0 +1,16 @@
+package com.comp2042.logic;
+
+/**
+ * Callback notified whenever a {@link ScoreModel} changes.
+ * Lets adapters such as {@link Score} mirror the plain model into UI bindings
+ * or persistence without the model depending on either.
+ */
+public interface ScoreListener {
+
+    /**
+     * Called after the score, high score, line count or level of the model has changed.
+     *
+     * @param score The model that changed.
+     */
+    void onScoreChanged(ScoreModel score);
+}
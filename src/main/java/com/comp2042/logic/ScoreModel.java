@@ -0,0 +1,127 @@
+package com.comp2042.logic;
+
+/**
+ * Plain score, high score, line and level counters for one game.
+ * Holds only primitives and does no I/O, so the rules can run headless and at
+ * full speed. JavaFX bindings and high score persistence are layered on top by
+ * {@link Score} through a {@link ScoreListener}.
+ */
+public final class ScoreModel {
+
+    /** The current score of the player. */
+    private int score;
+    /** The highest score seen, including any value seeded from persistence. */
+    private int highScore;
+    /** The total number of lines cleared by the player in the current game. */
+    private int totalLines;
+    /** The current game level. */
+    private int level = 1;
+    /** Notified after every change, or null. */
+    private ScoreListener listener;
+
+    /**
+     * Sets the listener notified after every change, replacing any previous one.
+     *
+     * @param listener The listener, or null to stop notifications.
+     */
+    public void setListener(ScoreListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieves the current score.
+     *
+     * @return The current score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retrieves the high score.
+     *
+     * @return The high score.
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Retrieves the total lines cleared in the current game.
+     *
+     * @return The total number of lines cleared.
+     */
+    public int getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Retrieves the current game level.
+     *
+     * @return The current level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Seeds the high score, e.g. with a value loaded from disk.
+     *
+     * @param highScore The high score to start from; negative values are treated as 0.
+     */
+    public void setHighScore(int highScore) {
+        this.highScore = Math.max(highScore, 0);
+        changed();
+    }
+
+    /**
+     * Adds the specified amount to the current score and raises the high score if it is beaten.
+     *
+     * @param amount The amount to add to the score. Zero or negative values are ignored.
+     */
+    public void add(int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        score += amount;
+        if (score > highScore) {
+            highScore = score;
+        }
+        changed();
+    }
+
+    /**
+     * Adds the specified number of cleared lines to the total and recalculates the level.
+     * The level increases every {@code Constants.LINES_PER_LEVEL} lines, up to {@code Constants.MAX_LEVEL}.
+     *
+     * @param lines The number of lines to add. Zero or negative values are ignored.
+     */
+    public void addLines(int lines) {
+        if (lines <= 0) {
+            return;
+        }
+        totalLines += lines;
+        level = Math.min((totalLines / Constants.LINES_PER_LEVEL) + 1, Constants.MAX_LEVEL);
+        changed();
+    }
+
+    /**
+     * Resets the current game's score, lines, and level.
+     * The high score is intentionally kept across games.
+     */
+    public void reset() {
+        score = 0;
+        totalLines = 0;
+        level = 1;
+        changed();
+    }
+
+    /**
+     * Notifies the listener, if any, that the counters changed.
+     */
+    private void changed() {
+        if (listener != null) {
+            listener.onScoreChanged(this);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.comp2042.logic;
 
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.ViewData;
 
+import java.util.BitSet;
+
 /**
  * An implementation of the {@code Board} interface, providing the core
  * game logic for a Tetris-like game. It orchestrates interactions between
- * the {@code GameBoard}, {@code PieceManager}, and {@code Score} components.
+ * the {@code GameBoard}, {@code PieceManager}, and {@code ScoreModel} components.
+ * It has no JavaFX or I/O dependencies, so it can run headless.
  */
 public class SimpleBoard implements Board {
 
@@ -15,7 +21,7 @@ public class SimpleBoard implements Board {
     /** Manages the active falling brick and its operations. */
     private final PieceManager pieceManager;
     /** Tracks and manages the player's score, lines, and level. */
-    private final Score score;
+    private final ScoreModel score;
 
     /**
      * Constructs a new SimpleBoard with a specified width and height.
@@ -25,9 +31,21 @@ public class SimpleBoard implements Board {
      * @param height The height of the game board.
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard that draws its bricks from the given generator.
+     * With a seeded generator the whole game is reproducible.
+     *
+     * @param width The width of the game board.
+     * @param height The height of the game board.
+     * @param brickGenerator The source of new bricks.
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.gameBoard = new GameBoard(width, height);
-        this.pieceManager = new PieceManager(gameBoard);
-        this.score = new Score();
+        this.pieceManager = new PieceManager(gameBoard, brickGenerator);
+        this.score = new ScoreModel();
     }
 
     /**
@@ -40,6 +58,16 @@ public class SimpleBoard implements Board {
         return pieceManager.moveDown();
     }
 
+    /**
+     * Drops the active brick straight down to where it would land.
+     *
+     * @return The number of rows the brick fell.
+     */
+    @Override
+    public int hardDropBrick() {
+        return pieceManager.hardDrop();
+    }
+
     /**
      * Attempts to move the active brick left by one unit.
      *
@@ -80,6 +108,36 @@ public class SimpleBoard implements Board {
         return pieceManager.spawnNewBrick();
     }
 
+    /**
+     * Returns the brick currently falling.
+     *
+     * @return The active {@code Brick}.
+     */
+    @Override
+    public Brick getActiveBrick() {
+        return pieceManager.getCurrentBrick();
+    }
+
+    /**
+     * Returns the rotation the active brick is currently in.
+     *
+     * @return The rotation index, 0 right after spawning.
+     */
+    @Override
+    public int getActiveRotation() {
+        return pieceManager.getCurrentRotation();
+    }
+
+    /**
+     * Returns the brick that will spawn after the active one.
+     *
+     * @return The next {@code Brick}.
+     */
+    @Override
+    public Brick getNextBrick() {
+        return pieceManager.getNextBrick();
+    }
+
     /**
      * Returns the current state of the game board as a 2D integer array.
      *
@@ -90,6 +148,16 @@ public class SimpleBoard implements Board {
         return gameBoard.getGameMatrix();
     }
 
+    /**
+     * Returns a read-only, copy-on-write view of the game board.
+     *
+     * @return A {@code BoardSnapshot}; close it after reading.
+     */
+    @Override
+    public BoardSnapshot getBoardSnapshot() {
+        return gameBoard.snapshot();
+    }
+
     /**
      * Retrieves the current data needed for rendering the game view.
      *
@@ -100,6 +168,16 @@ public class SimpleBoard implements Board {
         return pieceManager.getViewData();
     }
 
+    /**
+     * Refreshes and returns the reusable view data without allocating.
+     *
+     * @return The reusable {@code ViewData}, updated to the current state.
+     */
+    @Override
+    public ViewData refreshViewData() {
+        return pieceManager.refreshViewData();
+    }
+
     /**
      * Merges the current active brick into the background of the game board.
      */
@@ -119,12 +197,22 @@ public class SimpleBoard implements Board {
     }
 
     /**
-     * Retrieves the current score object for the game.
+     * Moves the set of board rows changed since the previous call into {@code target}.
+     *
+     * @param target The set to overwrite with the dirty row indices.
+     */
+    @Override
+    public void drainDirtyRows(BitSet target) {
+        gameBoard.drainDirtyRows(target);
+    }
+
+    /**
+     * Retrieves the plain score counters for the game.
      *
-     * @return The {@code Score} object.
+     * @return The {@code ScoreModel} of this board.
      */
     @Override
-    public Score getScore() {
+    public ScoreModel getScore() {
         return score;
     }
 
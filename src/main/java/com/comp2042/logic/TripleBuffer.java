@@ -0,0 +1,85 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing the latest value of a stream from one writer
+ * thread to one reader thread, e.g. render frames from the simulation to the UI.
+ * There are three preallocated slots: the writer fills its back slot and
+ * {@link #publish() publishes} it by swapping it with the shared middle slot; the
+ * reader {@link #acquire() acquires} the newest value by swapping its front slot
+ * with the middle one. Both swaps are a single atomic exchange, so neither side
+ * ever blocks or waits for the other, and the slot the reader holds is never
+ * written until the reader has moved on. Values published faster than the reader
+ * acquires them are skipped; the reader always sees the newest one.
+ * The writer must fill every field of its back slot before each publish, since
+ * the slot it gets back holds an older value.
+ *
+ * @param <T> The slot type; slots are mutated in place rather than replaced.
+ */
+public final class TripleBuffer<T> {
+
+    /** Bits of {@link #middle} holding the middle slot's index. */
+    private static final int INDEX_MASK = 0b11;
+    /** Bit of {@link #middle} set while the middle slot holds a value the reader has not acquired. */
+    private static final int FRESH = 0b100;
+
+    private final Object[] slots;
+    /** Index of the shared slot, plus {@link #FRESH} while it is unread. */
+    private final AtomicInteger middle = new AtomicInteger(1);
+    /** Index of the slot being written; only the writer touches it. */
+    private int back = 0;
+    /** Index of the slot being read; only the reader touches it. */
+    private int front = 2;
+
+    /**
+     * Creates a buffer of three slots.
+     *
+     * @param factory Creates each slot; it is called three times.
+     */
+    public TripleBuffer(Supplier<? extends T> factory) {
+        this.slots = new Object[]{factory.get(), factory.get(), factory.get()};
+    }
+
+    /**
+     * Returns the slot the writer fills next. Writer thread only.
+     *
+     * @return The back slot.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteSlot() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Hands the filled back slot to the reader and takes another slot to write. Writer thread only.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the newest published value, keeping the current one if nothing new was
+     * published. The value stays unchanged until the next call. Reader thread only.
+     *
+     * @return The front slot; before the first publish, an unfilled slot.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+
+    /**
+     * Checks whether a value was published since the reader's last {@link #acquire()}.
+     * Safe from any thread.
+     *
+     * @return True if the next acquire returns a new value.
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
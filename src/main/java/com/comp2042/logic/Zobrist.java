@@ -0,0 +1,107 @@
+package com.comp2042.logic;
+
+/**
+ * Zobrist keys for board positions.
+ * A board's hash is the XOR of one 64-bit key per occupied cell, so it can be
+ * updated incrementally: placing a cell XORs its key in, and a row that moves
+ * XORs its old keys out and its new keys in. Equal occupancy always gives an equal
+ * hash, whatever order the cells were placed in; colours are ignored.
+ * Keys are derived by a fixed 64-bit mixing function instead of being stored in a
+ * table, so every board of any size, on any thread, shares them. A cell's key is its
+ * column's key rotated left by its row, so moving every cell of a board up by some
+ * rows only rotates the hash (see {@link #shiftUp}). Keys therefore repeat every
+ * 64 rows, which only matters, as extra collisions, on boards taller than that.
+ */
+public final class Zobrist {
+
+    /** Salts keeping cell, piece and hold keys in separate streams. */
+    private static final long CELL_SALT = 0x243F6A8885A308D3L;
+    private static final long PIECE_SALT = 0x13198A2E03707344L;
+    private static final long HOLD_SALT = 0xA4093822299F31D0L;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Zobrist() { }
+
+    /**
+     * Returns the key of one occupied cell.
+     *
+     * @param row The board row.
+     * @param col The board column, below {@link BrickShape#MAX_WIDTH}.
+     * @return The cell's key.
+     */
+    public static long cellKey(int row, int col) {
+        return Long.rotateLeft(columnKey(col), row);
+    }
+
+    /**
+     * Returns the combined key of every occupied cell of one row.
+     *
+     * @param row The board row.
+     * @param mask The row's occupancy bitmask.
+     * @return The XOR of the cell keys, 0 for an empty row.
+     */
+    public static long rowHash(int row, long mask) {
+        long hash = 0L;
+        for (long bits = mask; bits != 0L; bits &= bits - 1) {
+            hash ^= columnKey(Long.numberOfTrailingZeros(bits));
+        }
+        return Long.rotateLeft(hash, row);
+    }
+
+    /**
+     * Returns the hash of the same cells after every one of them has moved up.
+     * Cells that would leave the top of the board must be XORed out first.
+     *
+     * @param hash The hash of the cells.
+     * @param rows How many rows the cells move up.
+     * @return The hash of the moved cells.
+     */
+    public static long shiftUp(long hash, int rows) {
+        return Long.rotateRight(hash, rows);
+    }
+
+    /**
+     * Returns the key of the brick to be placed next.
+     *
+     * @param pieceId The piece id.
+     * @return The piece's key.
+     */
+    public static long pieceKey(int pieceId) {
+        return mix(PIECE_SALT + pieceId);
+    }
+
+    /**
+     * Returns the key of the brick in the hold slot.
+     *
+     * @param pieceId The held piece id, 0 for an empty hold.
+     * @return The hold key, 0 for an empty hold.
+     */
+    public static long holdKey(int pieceId) {
+        return pieceId == 0 ? 0L : mix(HOLD_SALT + pieceId);
+    }
+
+    /**
+     * Returns the key of a cell in row 0 of a column.
+     *
+     * @param col The board column.
+     * @return The column's key.
+     */
+    private static long columnKey(int col) {
+        return mix(CELL_SALT + col);
+    }
+
+    /**
+     * Scrambles a counter into a well-distributed 64-bit value (the SplitMix64 finaliser).
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix(long z) {
+        z *= 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -16,4 +16,14 @@ public interface Brick {
      * @return A list of integer matrices, each defining a shape of the brick.
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Returns this brick's id in the {@link PieceTable}, which is also its colour id.
+     * Custom bricks that are not part of the table keep the default.
+     *
+     * @return The piece id, or {@link PieceTable#UNTABULATED}.
+     */
+    default int getPieceId() {
+        return PieceTable.UNTABULATED;
+    }
 }
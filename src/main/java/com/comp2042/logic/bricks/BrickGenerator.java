@@ -20,4 +20,29 @@ public interface BrickGenerator {
      * @return The next {@code Brick} object.
      */
     Brick getNextBrick();
+
+    /**
+     * Returns how many upcoming bricks can be inspected with {@link #peek(int)}.
+     * Generators without a lookahead queue only expose the next brick.
+     *
+     * @return The lookahead depth, at least 1.
+     */
+    default int getLookahead() {
+        return 1;
+    }
+
+    /**
+     * Returns an upcoming brick without consuming anything.
+     * {@code peek(0)} is the brick {@link #getNextBrick()} returns, {@code peek(1)} the one after it.
+     *
+     * @param index The queue position, from 0 to {@link #getLookahead()} - 1.
+     * @return The upcoming {@code Brick}.
+     * @throws IndexOutOfBoundsException if the index is outside the lookahead.
+     */
+    default Brick peek(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Lookahead index " + index + " out of range [0, 1)");
+        }
+        return getNextBrick();
+    }
 }
@@ -0,0 +1,92 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded history-based generator: remembers the last few bricks dealt and
+ * rerolls a pick that repeats one of them, up to a fixed number of tries.
+ * Repeats become rare without the strict cycle of a bag.
+ */
+public class HistoryBrickGenerator extends SeededBrickGenerator {
+
+    /** The number of recent bricks remembered. */
+    public static final int HISTORY_SIZE = 4;
+    /** The default number of picks tried before a repeat is accepted. */
+    public static final int DEFAULT_ROLLS = 6;
+
+    /** The most recent piece ids, as a small ring (0 = empty slot). */
+    private final int[] history = new int[HISTORY_SIZE];
+    /** The ring position the next dealt id is written to. */
+    private int historyHead;
+    /** The number of picks tried before a repeat is accepted. */
+    private final int rolls;
+
+    /**
+     * Creates a generator from a seed with the default number of rolls.
+     *
+     * @param seed The seed of the brick sequence.
+     */
+    public HistoryBrickGenerator(long seed) {
+        this(new SplittableRandom(seed), DEFAULT_ROLLS);
+    }
+
+    /**
+     * Creates a generator drawing from the given stream, with the default lookahead.
+     *
+     * @param random The random stream.
+     * @param rolls The number of picks tried before a repeat is accepted.
+     * @throws IllegalArgumentException if rolls is not positive.
+     */
+    public HistoryBrickGenerator(SplittableRandom random, int rolls) {
+        this(random, rolls, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a generator drawing from the given stream.
+     *
+     * @param random The random stream.
+     * @param rolls The number of picks tried before a repeat is accepted.
+     * @param lookahead The number of upcoming bricks {@link #peek(int)} can reach.
+     * @throws IllegalArgumentException if rolls is not positive or the lookahead is out of range.
+     */
+    public HistoryBrickGenerator(SplittableRandom random, int rolls, int lookahead) {
+        super(random, DEFAULT_CHUNK, lookahead);
+        if (rolls <= 0) {
+            throw new IllegalArgumentException("Rolls must be positive");
+        }
+        this.rolls = rolls;
+    }
+
+    /**
+     * Fills the buffer, rerolling picks found in the recent history.
+     *
+     * @param ids The buffer to fill.
+     */
+    @Override
+    protected void fill(int[] ids) {
+        for (int i = 0; i < ids.length; i++) {
+            int id = 1 + random.nextInt(PieceTable.PIECE_COUNT);
+            for (int roll = 1; roll < rolls && inHistory(id); roll++) {
+                id = 1 + random.nextInt(PieceTable.PIECE_COUNT);
+            }
+            history[historyHead] = id;
+            historyHead = (historyHead + 1) % HISTORY_SIZE;
+            ids[i] = id;
+        }
+    }
+
+    /**
+     * Checks whether a piece id is among the recently dealt ones.
+     *
+     * @param id The piece id.
+     * @return True if it was dealt within the last {@link #HISTORY_SIZE} bricks.
+     */
+    private boolean inHistory(int id) {
+        for (int recent : history) {
+            if (recent == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -43,4 +43,13 @@ final class IBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Returns the {@link PieceTable} id of the I-brick.
+     *
+     * @return {@link PieceTable#I}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.I;
+    }
 }
@@ -54,4 +54,14 @@ final class JBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the {@link PieceTable} id of the J-brick.
+     *
+     * @return {@link PieceTable#J}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.J;
+    }
 }
@@ -54,4 +54,14 @@ final class LBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the {@link PieceTable} id of the L-brick.
+     *
+     * @return {@link PieceTable#L}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.L;
+    }
 }
@@ -37,4 +37,13 @@ final class OBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Returns the {@link PieceTable} id of the O-brick.
+     *
+     * @return {@link PieceTable#O}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.O;
+    }
 }
@@ -0,0 +1,121 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.BrickShape;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ - Static, immutable table of every rotation of the seven built-in bricks.
+ - Built once at class load from the brick definitions, so movement, rotation
+   and ghost checks can look a rotation up by (piece id, rotation index)
+   instead of deep-copying {@link Brick#getShapeMatrix()} on every call.
+ - Piece ids match the colour ids used in the shape matrices (1 to 7).
+ */
+public final class PieceTable {
+
+    /** Id returned by bricks that are not part of the table. */
+    public static final int UNTABULATED = 0;
+    /** Piece id of the I-brick. */
+    public static final int I = 1;
+    /** Piece id of the J-brick. */
+    public static final int J = 2;
+    /** Piece id of the L-brick. */
+    public static final int L = 3;
+    /** Piece id of the O-brick. */
+    public static final int O = 4;
+    /** Piece id of the S-brick. */
+    public static final int S = 5;
+    /** Piece id of the T-brick. */
+    public static final int T = 6;
+    /** Piece id of the Z-brick. */
+    public static final int Z = 7;
+    /** The number of built-in bricks. */
+    public static final int PIECE_COUNT = 7;
+
+    /** One shared brick instance per piece id (index 0 unused). */
+    private static final Brick[] BRICKS = new Brick[PIECE_COUNT + 1];
+    /** Unmodifiable rotation lists per piece id (index 0 unused). */
+    private static final List<List<BrickShape>> SHAPES = new ArrayList<>(PIECE_COUNT + 1);
+
+    static {
+        BRICKS[I] = new IBrick();
+        BRICKS[J] = new JBrick();
+        BRICKS[L] = new LBrick();
+        BRICKS[O] = new OBrick();
+        BRICKS[S] = new SBrick();
+        BRICKS[T] = new TBrick();
+        BRICKS[Z] = new ZBrick();
+
+        SHAPES.add(Collections.emptyList());
+        for (int id = I; id <= PIECE_COUNT; id++) {
+            SHAPES.add(buildShapes(BRICKS[id]));
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private PieceTable() { }
+
+    /**
+     * Returns the precomputed rotation of a built-in brick.
+     *
+     * @param pieceId The piece id (1 to 7).
+     * @param rotation The rotation index.
+     * @return The shared, immutable {@code BrickShape}.
+     */
+    public static BrickShape getShape(int pieceId, int rotation) {
+        return SHAPES.get(pieceId).get(rotation);
+    }
+
+    /**
+     * Returns the number of rotation states of a built-in brick.
+     *
+     * @param pieceId The piece id (1 to 7).
+     * @return The rotation count.
+     */
+    public static int getRotationCount(int pieceId) {
+        return SHAPES.get(pieceId).size();
+    }
+
+    /**
+     * Returns the shared brick instance for a piece id.
+     *
+     * @param pieceId The piece id (1 to 7).
+     * @return The {@code Brick} for that id.
+     */
+    public static Brick getBrick(int pieceId) {
+        return BRICKS[pieceId];
+    }
+
+    /**
+     * Returns the rotations of any brick. Built-in bricks are served from the
+     * table without copying; other implementations are converted on the fly.
+     *
+     * @param brick The brick to look up.
+     * @return An unmodifiable list of the brick's rotations.
+     */
+    public static List<BrickShape> shapesOf(Brick brick) {
+        int pieceId = brick.getPieceId();
+        if (pieceId >= I && pieceId <= PIECE_COUNT) {
+            return SHAPES.get(pieceId);
+        }
+        return buildShapes(brick);
+    }
+
+    /**
+     * Converts every rotation matrix of a brick into its {@code BrickShape}.
+     *
+     * @param brick The brick to convert.
+     * @return An unmodifiable list of rotations.
+     */
+    private static List<BrickShape> buildShapes(Brick brick) {
+        List<BrickShape> shapes = new ArrayList<>();
+        for (int[][] matrix : brick.getShapeMatrix()) {
+            shapes.add(BrickShape.of(matrix));
+        }
+        return Collections.unmodifiableList(shapes);
+    }
+}
@@ -1,61 +1,28 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
 
 /**
  * An implementation of {@code BrickGenerator} that provides bricks in a random sequence.
- * It pre-generates a queue of upcoming bricks to ensure a smooth gameplay experience.
+ * A {@link UniformBrickGenerator} with a fresh, unseeded stream, so every game differs;
+ * use one of the {@link SeededBrickGenerator} classes directly when a game must be reproducible.
  */
-public class RandomBrickGenerator implements BrickGenerator {
-
-    private final List<Brick> brickList;
-
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+public class RandomBrickGenerator extends UniformBrickGenerator {
 
     /**
-     * Constructs a new RandomBrickGenerator.
-     * Initializes the list of available brick types and pre-fills the queue
-     * with two random bricks.
+     * Constructs a new RandomBrickGenerator with a randomly seeded stream.
      */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-    }
-
-    /**
-     * Retrieves the next brick from the queue. If the queue is running low,
-     * it generates and adds a new random brick to maintain a buffer.
-     *
-     * @return The next {@code Brick} to be used in the game.
-     */
-    @Override
-    public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        }
-        return nextBricks.poll();
+        super(new SplittableRandom());
     }
 
     /**
-     * Peeks at the next brick in the queue without removing it.
-     * Useful for displaying the "next piece" preview to the player.
+     * Constructs a new RandomBrickGenerator with a randomly seeded stream and the given lookahead.
      *
-     * @return The {@code Brick} that will be available next.
+     * @param lookahead The number of upcoming bricks {@link #peek(int)} can reach.
+     * @throws IllegalArgumentException if the lookahead is out of range.
      */
-    @Override
-    public Brick getNextBrick() {
-        return nextBricks.peek();
+    public RandomBrickGenerator(int lookahead) {
+        super(new SplittableRandom(), lookahead);
     }
 }
@@ -42,4 +42,14 @@ final class SBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the {@link PieceTable} id of the S-brick.
+     *
+     * @return {@link PieceTable#S}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.S;
+    }
 }
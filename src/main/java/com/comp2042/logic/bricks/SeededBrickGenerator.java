@@ -0,0 +1,187 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.Constants;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base class for reproducible brick generators.
+ * Each generator owns one {@link SplittableRandom} stream, so a game is fully
+ * determined by its seed, and {@link SplittableRandom#split()} gives parallel
+ * games independent yet repeatable streams.
+ * Piece ids (see {@link PieceTable}) are produced by a strategy in bulk into a
+ * primitive buffer, and bricks are handed out as the shared {@link PieceTable}
+ * instances, so drawing a brick never allocates.
+ * The next few ids are also held in a small ring, so {@link #peekBrickId(int)}
+ * looks any of them up in O(1) for the preview and for search code.
+ */
+public abstract class SeededBrickGenerator implements BrickGenerator {
+
+    /** Default number of piece ids produced per refill (a multiple of the bag size). */
+    protected static final int DEFAULT_CHUNK = PieceTable.PIECE_COUNT * 64;
+
+    /** Default lookahead depth: enough for the preview. */
+    protected static final int DEFAULT_LOOKAHEAD = Constants.PREVIEW_COUNT;
+
+    /** The random stream this generator draws from. */
+    protected final SplittableRandom random;
+    /** Precomputed piece ids, refilled in bulk once consumed. */
+    private final int[] sequence;
+    /** Index of the next piece id to move from the buffer into the lookahead ring. */
+    private int position;
+    /** Ring of the upcoming piece ids, the next one at {@link #queueHead}. */
+    private final int[] queue;
+    /** Ring index of the next piece id. */
+    private int queueHead;
+    /** False until the ring is first filled; subclass state is not ready during construction. */
+    private boolean primed;
+
+    /**
+     * Creates a generator drawing from the given stream, with the default lookahead.
+     *
+     * @param random The random stream, e.g. {@code new SplittableRandom(seed)} or a {@code split()} of one.
+     * @param chunkSize The number of piece ids produced per refill.
+     * @throws IllegalArgumentException if the chunk size is not positive.
+     */
+    protected SeededBrickGenerator(SplittableRandom random, int chunkSize) {
+        this(random, chunkSize, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a generator drawing from the given stream.
+     *
+     * @param random The random stream, e.g. {@code new SplittableRandom(seed)} or a {@code split()} of one.
+     * @param chunkSize The number of piece ids produced per refill.
+     * @param lookahead The number of upcoming bricks {@link #peek(int)} can reach,
+     *                  from 1 to {@link Constants#MAX_LOOKAHEAD}.
+     * @throws IllegalArgumentException if the chunk size is not positive or the lookahead is out of range.
+     */
+    protected SeededBrickGenerator(SplittableRandom random, int chunkSize, int lookahead) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (lookahead < 1 || lookahead > Constants.MAX_LOOKAHEAD) {
+            throw new IllegalArgumentException("Lookahead must be between 1 and " + Constants.MAX_LOOKAHEAD);
+        }
+        this.random = random;
+        this.sequence = new int[chunkSize];
+        this.position = chunkSize;
+        this.queue = new int[lookahead];
+    }
+
+    /**
+     * Fills the whole buffer with the next piece ids of this strategy.
+     * Called whenever the previous chunk has been consumed; any strategy state
+     * (bag contents, history) must carry over between calls.
+     *
+     * @param ids The buffer to fill with piece ids from 1 to {@link PieceTable#PIECE_COUNT}.
+     */
+    protected abstract void fill(int[] ids);
+
+    /**
+     * Returns the id of the next brick and consumes it.
+     * The freed ring slot is refilled from the buffer, so the lookahead stays full.
+     *
+     * @return A piece id from 1 to {@link PieceTable#PIECE_COUNT}.
+     */
+    public int nextBrickId() {
+        ensurePrimed();
+        int id = queue[queueHead];
+        queue[queueHead] = pull();
+        queueHead = queueHead + 1 == queue.length ? 0 : queueHead + 1;
+        return id;
+    }
+
+    /**
+     * Returns the id of the brick {@link #nextBrickId()} will return, without consuming it.
+     *
+     * @return A piece id from 1 to {@link PieceTable#PIECE_COUNT}.
+     */
+    public int peekBrickId() {
+        return peekBrickId(0);
+    }
+
+    /**
+     * Returns the id of an upcoming brick, without consuming anything.
+     *
+     * @param index The queue position, 0 for the brick {@link #nextBrickId()} will return.
+     * @return A piece id from 1 to {@link PieceTable#PIECE_COUNT}.
+     * @throws IndexOutOfBoundsException if the index is outside the lookahead.
+     */
+    public int peekBrickId(int index) {
+        if (index < 0 || index >= queue.length) {
+            throw new IndexOutOfBoundsException("Lookahead index " + index + " out of range [0, " + queue.length + ")");
+        }
+        ensurePrimed();
+        int slot = queueHead + index;
+        return queue[slot >= queue.length ? slot - queue.length : slot];
+    }
+
+    /**
+     * Returns the lookahead depth this generator was built with.
+     *
+     * @return The number of upcoming bricks {@link #peek(int)} can reach.
+     */
+    @Override
+    public int getLookahead() {
+        return queue.length;
+    }
+
+    /**
+     * Returns an upcoming brick, without consuming anything or allocating.
+     *
+     * @param index The queue position, 0 for the brick {@link #getBrick()} will return.
+     * @return The shared {@code Brick} for that piece id.
+     * @throws IndexOutOfBoundsException if the index is outside the lookahead.
+     */
+    @Override
+    public Brick peek(int index) {
+        return PieceTable.getBrick(peekBrickId(index));
+    }
+
+    /**
+     * Returns the next brick and consumes it.
+     *
+     * @return The shared {@code Brick} for the next piece id.
+     */
+    @Override
+    public Brick getBrick() {
+        return PieceTable.getBrick(nextBrickId());
+    }
+
+    /**
+     * Returns the brick {@link #getBrick()} will return next, without consuming it.
+     *
+     * @return The shared {@code Brick} for the upcoming piece id.
+     */
+    @Override
+    public Brick getNextBrick() {
+        return PieceTable.getBrick(peekBrickId());
+    }
+
+    /**
+     * Fills the lookahead ring on first use.
+     */
+    private void ensurePrimed() {
+        if (!primed) {
+            for (int i = 0; i < queue.length; i++) {
+                queue[i] = pull();
+            }
+            primed = true;
+        }
+    }
+
+    /**
+     * Takes the next id from the buffer, refilling it in one go once every
+     * precomputed id has been consumed.
+     *
+     * @return A piece id from 1 to {@link PieceTable#PIECE_COUNT}.
+     */
+    private int pull() {
+        if (position == sequence.length) {
+            fill(sequence);
+            position = 0;
+        }
+        return sequence[position++];
+    }
+}
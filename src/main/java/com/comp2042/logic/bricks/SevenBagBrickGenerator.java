@@ -0,0 +1,65 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded "7-bag" generator: deals every brick once from a shuffled bag of all
+ * seven, then refills the bag. Droughts are capped at 12 bricks.
+ */
+public class SevenBagBrickGenerator extends SeededBrickGenerator {
+
+    /** The current bag, shuffled in place for every deal. */
+    private final int[] bag = new int[PieceTable.PIECE_COUNT];
+
+    /**
+     * Creates a generator from a seed.
+     *
+     * @param seed The seed of the brick sequence.
+     */
+    public SevenBagBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a generator drawing from the given stream, with the default lookahead.
+     *
+     * @param random The random stream.
+     */
+    public SevenBagBrickGenerator(SplittableRandom random) {
+        this(random, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a generator drawing from the given stream.
+     *
+     * @param random The random stream.
+     * @param lookahead The number of upcoming bricks {@link #peek(int)} can reach.
+     * @throws IllegalArgumentException if the lookahead is out of range.
+     */
+    public SevenBagBrickGenerator(SplittableRandom random, int lookahead) {
+        super(random, DEFAULT_CHUNK, lookahead);
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i + 1;
+        }
+    }
+
+    /**
+     * Fills the buffer with whole bags; the chunk size is a multiple of the bag size,
+     * so a bag never straddles two refills.
+     *
+     * @param ids The buffer to fill.
+     */
+    @Override
+    protected void fill(int[] ids) {
+        for (int start = 0; start < ids.length; start += bag.length) {
+            // Fisher-Yates shuffle of the bag
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            System.arraycopy(bag, 0, ids, start, bag.length);
+        }
+    }
+}
@@ -54,4 +54,14 @@ public final class TBrick implements Brick { //made it public so can be tested
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the {@link PieceTable} id of the T-brick.
+     *
+     * @return {@link PieceTable#T}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.T;
+    }
 }
@@ -0,0 +1,51 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator that picks every brick independently and uniformly,
+ * the same distribution as {@link RandomBrickGenerator} but reproducible.
+ */
+public class UniformBrickGenerator extends SeededBrickGenerator {
+
+    /**
+     * Creates a generator from a seed.
+     *
+     * @param seed The seed of the brick sequence.
+     */
+    public UniformBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a generator drawing from the given stream, with the default lookahead.
+     *
+     * @param random The random stream.
+     */
+    public UniformBrickGenerator(SplittableRandom random) {
+        this(random, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * Creates a generator drawing from the given stream.
+     *
+     * @param random The random stream.
+     * @param lookahead The number of upcoming bricks {@link #peek(int)} can reach.
+     * @throws IllegalArgumentException if the lookahead is out of range.
+     */
+    public UniformBrickGenerator(SplittableRandom random, int lookahead) {
+        super(random, DEFAULT_CHUNK, lookahead);
+    }
+
+    /**
+     * Fills the buffer with independent uniform picks.
+     *
+     * @param ids The buffer to fill.
+     */
+    @Override
+    protected void fill(int[] ids) {
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = 1 + random.nextInt(PieceTable.PIECE_COUNT);
+        }
+    }
+}
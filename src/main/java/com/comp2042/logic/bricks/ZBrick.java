@@ -42,4 +42,14 @@ final class ZBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the {@link PieceTable} id of the Z-brick.
+     *
+     * @return {@link PieceTable#Z}.
+     */
+    @Override
+    public int getPieceId() {
+        return PieceTable.Z;
+    }
 }
@@ -0,0 +1,203 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.Board;
+import com.comp2042.logic.Bot;
+import com.comp2042.logic.BoardSnapshot;
+import com.comp2042.logic.InputEventListener;
+import com.comp2042.model.DownData;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.EventType;
+import com.comp2042.model.MoveEvent;
+import com.comp2042.model.ViewData;
+
+import java.util.SplittableRandom;
+
+/**
+ * Bot that plays the active brick of a {@link Board}.
+ * For the brick's current rotation and position it enumerates every reachable
+ * final placement with {@link Placements}, lets a {@link PlacementPolicy} pick one,
+ * and turns it into the same ROTATE/LEFT/RIGHT/HARD_DROP inputs a player would send.
+ * It can either feed a whole piece straight into an {@link InputEventListener}
+ * ({@link #playPiece()}), or hand out one input at a time ({@link #nextMove()})
+ * for a GUI that paces the bot on its own timeline while gravity keeps running.
+ * Deciding allocates nothing and takes microseconds, far inside a level-10 tick.
+ */
+public final class AutoPlayer implements Bot {
+
+    private static final MoveEvent ROTATE = MoveEvent.of(EventType.ROTATE, EventSource.THREAD);
+    private static final MoveEvent LEFT = MoveEvent.of(EventType.LEFT, EventSource.THREAD);
+    private static final MoveEvent RIGHT = MoveEvent.of(EventType.RIGHT, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = MoveEvent.of(EventType.HARD_DROP, EventSource.THREAD);
+
+    /** The board whose active brick is played. */
+    private final Board board;
+    /** Receives the bot's inputs, normally the game controller driving {@link #board}. */
+    private final InputEventListener listener;
+    /** Chooses among the enumerated placements. */
+    private final PlacementPolicy policy;
+    /** Random stream handed to the policy. */
+    private final SplittableRandom random;
+    /** Reusable candidate list. */
+    private final Placements candidates;
+    /** Reusable buffer for the inputs of one placement. */
+    private EventType[] path = new EventType[32];
+
+    /** True while {@link #nextMove()} is steering towards a chosen placement. */
+    private boolean planned;
+    /** Rotation of the placement being steered towards. */
+    private int targetRotation;
+    /** Column of the placement being steered towards. */
+    private int targetColumn;
+    /** Row of the brick at the previous step; a smaller row means a new brick has spawned. */
+    private int plannedRow;
+    /** Duration of the most recent decision, in nanoseconds. */
+    private long lastDecisionNanos;
+
+    /**
+     * Creates a bot with the default heuristic policy.
+     *
+     * @param board The board whose active brick is played.
+     * @param listener Receives the bot's inputs; it must act on {@code board}.
+     */
+    public AutoPlayer(Board board, InputEventListener listener) {
+        this(board, listener, new HeuristicPolicy(), new SplittableRandom());
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param board The board whose active brick is played.
+     * @param listener Receives the bot's inputs; it must act on {@code board}.
+     * @param policy Chooses among the reachable placements.
+     * @param random Random stream handed to the policy.
+     */
+    public AutoPlayer(Board board, InputEventListener listener, PlacementPolicy policy, SplittableRandom random) {
+        this.board = board;
+        this.listener = listener;
+        this.policy = policy;
+        this.random = random;
+        try (BoardSnapshot snapshot = board.getBoardSnapshot()) {
+            this.candidates = new Placements(snapshot.getWidth(), snapshot.getHeight());
+        }
+    }
+
+    /**
+     * Returns a factory for bots with the given policy and a fresh random stream,
+     * for callers in the game logic that cannot depend on this package.
+     *
+     * @param policy Chooses among the reachable placements.
+     * @return A factory creating an {@code AutoPlayer} per game.
+     */
+    public static Bot.Factory factory(PlacementPolicy policy) {
+        return (board, listener) -> new AutoPlayer(board, listener, policy, new SplittableRandom());
+    }
+
+    /**
+     * Plays the active brick: sends every input of the chosen placement to the
+     * listener, then hard drops it.
+     *
+     * @return The listener's result for the hard drop.
+     */
+    public DownData playPiece() {
+        planned = false;
+        int choice = decide();
+        if (choice >= 0) {
+            if (candidates.getPathLength(choice) > path.length) {
+                path = new EventType[candidates.getPathLength(choice)];
+            }
+            int length = candidates.getPath(choice, path);
+            for (int i = 0; i < length; i++) {
+                send(path[i]);
+            }
+        }
+        return listener.onHardDrop(HARD_DROP);
+    }
+
+    /**
+     * Returns the next input towards the chosen placement, without sending it.
+     * The placement is chosen once per brick and the route is recomputed from the
+     * brick's current position on every call, so gravity moving the brick between
+     * calls is harmless. If the target becomes unreachable a new one is chosen.
+     *
+     * @return {@code ROTATE}, {@code LEFT} or {@code RIGHT}, or {@code HARD_DROP}
+     *         once the brick is in place.
+     */
+    @Override
+    public EventType nextMove() {
+        ViewData active = board.refreshViewData();
+        int row = active.getyPosition();
+        int target;
+        if (!planned || row < plannedRow) {
+            target = decide();
+        } else {
+            enumerate(active);
+            target = candidates.indexOf(targetRotation, targetColumn);
+            if (target < 0 && candidates.size() > 0) {
+                target = decide();
+            }
+        }
+        plannedRow = row;
+        if (target < 0) {
+            planned = false;
+            return EventType.HARD_DROP;
+        }
+        planned = true;
+        targetRotation = candidates.getRotation(target);
+        targetColumn = candidates.getColumn(target);
+        EventType move = candidates.getFirstMove(target);
+        if (move == null) {
+            planned = false;
+            return EventType.HARD_DROP;
+        }
+        return move;
+    }
+
+    /**
+     * Returns how long the most recent placement decision took.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getLastDecisionNanos() {
+        return lastDecisionNanos;
+    }
+
+    /**
+     * Enumerates and chooses a placement for the active brick.
+     *
+     * @return The chosen candidate index, or -1 if the brick cannot be placed.
+     */
+    private int decide() {
+        long start = System.nanoTime();
+        enumerate(board.refreshViewData());
+        int choice = candidates.size() == 0 ? -1 : policy.choose(candidates, random);
+        lastDecisionNanos = System.nanoTime() - start;
+        return choice;
+    }
+
+    /**
+     * Lists the placements reachable from the active brick's current state.
+     *
+     * @param active The current view data of the board.
+     */
+    private void enumerate(ViewData active) {
+        try (BoardSnapshot snapshot = board.getBoardSnapshot()) {
+            candidates.enumerate(snapshot, board.getActiveBrick(), board.getActiveRotation(),
+                    active.getxPosition(), active.getyPosition());
+        }
+        candidates.setNextBrick(board.getNextBrick());
+    }
+
+    /**
+     * Sends one movement input to the listener.
+     *
+     * @param move {@code ROTATE}, {@code LEFT} or {@code RIGHT}.
+     */
+    private void send(EventType move) {
+        switch (move) {
+            case ROTATE: listener.onRotateEvent(ROTATE); break;
+            case LEFT: listener.onLeftEvent(LEFT); break;
+            case RIGHT: listener.onRightEvent(RIGHT); break;
+            default: throw new IllegalArgumentException("Not a movement input: " + move);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.comp2042.logic.sim;
+
+/**
+ * Outcome of one simulated game. Immutable.
+ */
+public final class GameResult {
+
+    /** The seed the game was played with; {@link SelfPlaySimulator#play(long)} replays it exactly. */
+    private final long seed;
+    /** The final score. */
+    private final int score;
+    /** The total lines cleared. */
+    private final int lines;
+    /** The level reached. */
+    private final int level;
+    /** The number of bricks placed. */
+    private final int pieces;
+    /** Wall-clock time the game took, in nanoseconds. */
+    private final long nanos;
+
+    /**
+     * Creates a game result.
+     *
+     * @param seed The seed the game was played with.
+     * @param score The final score.
+     * @param lines The total lines cleared.
+     * @param level The level reached.
+     * @param pieces The number of bricks placed.
+     * @param nanos The wall-clock time the game took, in nanoseconds.
+     */
+    public GameResult(long seed, int score, int lines, int level, int pieces, long nanos) {
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the seed the game was played with.
+     *
+     * @return The game seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the final score.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the total lines cleared.
+     *
+     * @return The line count.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the level reached.
+     *
+     * @return The level, starting at 1.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the number of bricks placed.
+     *
+     * @return The piece count.
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Returns the wall-clock time the game took.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns how fast this game placed bricks.
+     *
+     * @return Bricks placed per second of wall-clock time.
+     */
+    public double getPiecesPerSecond() {
+        return nanos == 0 ? 0 : pieces * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.logic.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Clears as many lines as possible with the current brick and otherwise drops it
+ * as deep as it goes. Looks no further than the immediate result.
+ */
+public final class GreedyPolicy implements PlacementPolicy {
+
+    /**
+     * Chooses the candidate clearing the most lines, breaking ties by the lowest landing row.
+     *
+     * @param candidates The placements of the current brick.
+     * @param random Unused.
+     * @return The index of the best candidate.
+     */
+    @Override
+    public int choose(Placements candidates, SplittableRandom random) {
+        candidates.evaluate();
+        int best = 0;
+        for (int i = 1; i < candidates.size(); i++) {
+            int lines = candidates.getLinesCleared(i);
+            int bestLines = candidates.getLinesCleared(best);
+            if (lines > bestLines
+                    || (lines == bestLines && candidates.getLandingRow(i) > candidates.getLandingRow(best))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.logic.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Scores each placement with a weighted sum of the board it leaves behind:
+ * aggregate height, lines cleared, holes and bumpiness.
+ * The default weights are a well-known hand-tuned set that plays for a long time
+ * on a standard 10-wide board.
+ */
+public final class HeuristicPolicy implements PlacementPolicy {
+
+    /** Default weight of the aggregate column height. */
+    public static final double DEFAULT_HEIGHT_WEIGHT = -0.510066;
+    /** Default weight of the lines cleared. */
+    public static final double DEFAULT_LINES_WEIGHT = 0.760666;
+    /** Default weight of the hole count. */
+    public static final double DEFAULT_HOLES_WEIGHT = -0.35663;
+    /** Default weight of the bumpiness. */
+    public static final double DEFAULT_BUMPINESS_WEIGHT = -0.184483;
+
+    // Feature weights; a placement's score is their weighted sum
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+
+    /**
+     * Creates a policy with the default weights.
+     */
+    public HeuristicPolicy() {
+        this(DEFAULT_HEIGHT_WEIGHT, DEFAULT_LINES_WEIGHT, DEFAULT_HOLES_WEIGHT, DEFAULT_BUMPINESS_WEIGHT);
+    }
+
+    /**
+     * Creates a policy with custom weights.
+     *
+     * @param heightWeight Weight of the aggregate column height (usually negative).
+     * @param linesWeight Weight of the lines cleared (usually positive).
+     * @param holesWeight Weight of the hole count (usually negative).
+     * @param bumpinessWeight Weight of the bumpiness (usually negative).
+     */
+    public HeuristicPolicy(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    /**
+     * Scores one evaluated candidate.
+     *
+     * @param candidates The evaluated placements.
+     * @param index The candidate index.
+     * @return The weighted score; higher is better.
+     */
+    public double score(Placements candidates, int index) {
+        return heightWeight * candidates.getAggregateHeight(index)
+                + linesWeight * candidates.getLinesCleared(index)
+                + holesWeight * candidates.getHoles(index)
+                + bumpinessWeight * candidates.getBumpiness(index);
+    }
+
+    /**
+     * Chooses the candidate with the highest score; the first one wins a tie.
+     *
+     * @param candidates The placements of the current brick.
+     * @param random Unused.
+     * @return The index of the best candidate.
+     */
+    @Override
+    public int choose(Placements candidates, SplittableRandom random) {
+        candidates.evaluate();
+        int best = 0;
+        double bestScore = score(candidates, 0);
+        for (int i = 1; i < candidates.size(); i++) {
+            double score = score(candidates, i);
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
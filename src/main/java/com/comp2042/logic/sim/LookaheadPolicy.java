@@ -0,0 +1,106 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.SplittableRandom;
+
+/**
+ * Two-ply search: scores each placement of the current brick together with the best
+ * placement of the next brick on the board it leaves behind.
+ * Different first placements often lead to the same board (and every game keeps
+ * meeting the same shallow stacks), so the value of the second ply is cached in a
+ * {@link TranspositionTable} under the resulting board's hash and the next brick.
+ * The table is thread-safe, so one policy and its table are shared by every game of
+ * a {@link SelfPlaySimulator} batch and evaluations made by one thread are reused by
+ * the others. Without a known next brick it plays like its {@link HeuristicPolicy}.
+ */
+public final class LookaheadPolicy implements PlacementPolicy {
+
+    /** Default number of cached positions. */
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 20;
+
+    /** Scores the placements of both plies. */
+    private final HeuristicPolicy heuristic;
+    /** Cached second-ply values, keyed by resulting board and next brick. */
+    private final TranspositionTable table;
+
+    /**
+     * Creates a policy with the default heuristic weights and its own table.
+     */
+    public LookaheadPolicy() {
+        this(new HeuristicPolicy(), new TranspositionTable(DEFAULT_TABLE_CAPACITY));
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param heuristic Scores individual placements.
+     * @param table Caches second-ply values; only share it between policies with the same heuristic.
+     */
+    public LookaheadPolicy(HeuristicPolicy heuristic, TranspositionTable table) {
+        this.heuristic = heuristic;
+        this.table = table;
+    }
+
+    /**
+     * Chooses the candidate whose own score plus the best score of the next brick
+     * afterwards is highest; the first one wins a tie.
+     *
+     * @param candidates The placements of the current brick, with the next brick set.
+     * @param random Unused.
+     * @return The index of the best candidate.
+     */
+    @Override
+    public int choose(Placements candidates, SplittableRandom random) {
+        Brick next = candidates.getNextBrick();
+        if (next == null) {
+            return heuristic.choose(candidates, random);
+        }
+        candidates.evaluate();
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < candidates.size(); i++) {
+            double value = heuristic.score(candidates, i) + bestFollowUp(candidates, i, next);
+            if (value > bestValue) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the table holding this policy's cached evaluations, e.g. to read its hit rate.
+     *
+     * @return The transposition table.
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the best score of the next brick after a candidate locks, from the table if possible.
+     *
+     * @param candidates The evaluated placements of the current brick.
+     * @param index The candidate index.
+     * @param next The brick spawned after the candidate locks.
+     * @return The best second-ply score, or negative infinity if the next brick cannot spawn.
+     */
+    private double bestFollowUp(Placements candidates, int index, Brick next) {
+        // Hold is not part of the game, so positions are keyed with an empty hold.
+        long key = TranspositionTable.key(candidates.getResultHash(index), next.getPieceId(), 0);
+        double cached = table.get(key);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        Placements followUps = candidates.child();
+        followUps.enumerateAfter(candidates, index, next);
+        followUps.evaluate();
+        double best = Double.NEGATIVE_INFINITY;
+        for (int j = 0; j < followUps.size(); j++) {
+            best = Math.max(best, heuristic.score(followUps, j));
+        }
+        table.put(key, best);
+        return best;
+    }
+}
@@ -0,0 +1,21 @@
+package com.comp2042.logic.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Strategy that picks where a brick should land, used by {@link SelfPlaySimulator}.
+ * Implementations must be stateless or thread-confined, because one policy
+ * instance is shared by every game running in parallel.
+ */
+public interface PlacementPolicy {
+
+    /**
+     * Chooses one of the enumerated placements.
+     *
+     * @param candidates The placements of the current brick; never empty.
+     *                   Call {@link Placements#evaluate()} before reading board features.
+     * @param random The game's own random stream, for policies that need randomness.
+     * @return The index of the chosen candidate.
+     */
+    int choose(Placements candidates, SplittableRandom random);
+}
@@ -0,0 +1,616 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.BoardSnapshot;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceManager;
+import com.comp2042.logic.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.EventType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable list of the final placements of one brick, plus the board features
+ * each placement would leave behind.
+ * Candidates are every (rotation, column) the brick can reach from where it is by
+ * any sequence of rotations and sideways moves on its current row, followed by a
+ * hard drop. They are found by a breadth-first search over those states, which also
+ * records the shortest input sequence to each one.
+ * Everything works on a private copy of the board's row bitmasks and on primitive
+ * arrays, so enumerating and scoring candidates allocates nothing once the
+ * arrays have grown to fit.
+ * Evaluation also yields the {@link Zobrist} hash of each resulting board, and a
+ * lazily created {@link #child()} list can enumerate the next brick on any of those
+ * boards, which is all a lookahead search needs.
+ */
+public final class Placements {
+
+    /** The board width in columns. */
+    private final int width;
+    /** The board height in rows. */
+    private final int height;
+    /** Bits of a full board row. */
+    private final long fullRow;
+    /** Row bitmasks of the board the placements were enumerated on. */
+    private final long[] rows;
+    /** Scratch rows a candidate is merged into for evaluation. */
+    private final long[] work;
+    /** Scratch column heights for evaluation. */
+    private final int[] heights;
+
+    /** Zobrist hash of {@link #rows}. */
+    private long boardHash;
+    /** The brick that spawns after the one being placed, or null if unknown. */
+    private Brick nextBrick;
+    /** Scratch list for the following brick, created on first use. */
+    private Placements child;
+    /** Board hash left by the latest {@link #apply(int, long[])}. */
+    private long appliedHash;
+
+    /** The rotations of the brick being placed. */
+    private List<BrickShape> shapes;
+    /** The number of valid candidates. */
+    private int count;
+    // Per-candidate values, indexed by candidate
+    private int[] rotation;
+    private int[] column;
+    private int[] landingRow;
+    private int[] lines;
+    private int[] aggregateHeight;
+    private int[] holes;
+    private int[] bumpiness;
+    private long[] resultHash;
+    /** The search state each candidate was reached in. */
+    private int[] candidateState;
+    /** True once the features of the current candidates have been computed. */
+    private boolean evaluated;
+
+    // Breadth-first search over (rotation, column) states, indexed by
+    // rotation * stride + column + pad; arrays are stamped rather than cleared.
+    private int pad;
+    private int stride;
+    private int startState;
+    private int stamp;
+    private int[] seen;
+    private int[] queue;
+    /** The state each state was first reached from. */
+    private int[] parent;
+    /** The input that led from the parent state. */
+    private EventType[] via;
+    /** The number of inputs from the start state. */
+    private int[] depth;
+
+    /**
+     * Creates an empty placement list for boards of the given size.
+     *
+     * @param width The board width in columns, at most {@link BrickShape#MAX_WIDTH}.
+     * @param height The board height in rows.
+     * @throws IllegalArgumentException if either dimension is out of range.
+     */
+    public Placements(int width, int height) {
+        if (width <= 0 || width > BrickShape.MAX_WIDTH || height <= 0) {
+            throw new IllegalArgumentException("Invalid board size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = width == Long.SIZE ? -1L : (1L << width) - 1;
+        this.rows = new long[height];
+        this.work = new long[height];
+        this.heights = new int[width];
+        grow(4 * width);
+        growSearch(4 * (width + 4));
+    }
+
+    /**
+     * Lists every placement of a freshly spawned brick, which is in its spawn rotation.
+     *
+     * @param board The board to place on; only read during this call.
+     * @param brick The brick to place.
+     * @param x The column of the brick's top-left corner.
+     * @param y The row of the brick's top-left corner.
+     */
+    public void enumerate(BoardSnapshot board, Brick brick, int x, int y) {
+        enumerate(board, brick, 0, x, y);
+    }
+
+    /**
+     * Lists every placement of a brick reachable from its current position.
+     * If the brick already overlaps the board there are no candidates.
+     *
+     * @param board The board to place on; only read during this call.
+     * @param brick The brick to place.
+     * @param startRotation The brick's current rotation index.
+     * @param x The column of the brick's top-left corner.
+     * @param y The row of the brick's top-left corner.
+     */
+    public void enumerate(BoardSnapshot board, Brick brick, int startRotation, int x, int y) {
+        for (int row = 0; row < height; row++) {
+            rows[row] = board.getRowMask(row);
+        }
+        boardHash = board.getHash();
+        search(brick, startRotation, x, y);
+    }
+
+    /**
+     * Lists every placement of a brick spawned on the board another list's candidate
+     * leaves behind, as the game would spawn it after that candidate locks.
+     *
+     * @param parent The placements of the previous brick; must be for the same board size.
+     * @param index The parent candidate that is locked first.
+     * @param brick The brick spawned next.
+     * @throws IllegalArgumentException if the parent is for a different board size.
+     */
+    public void enumerateAfter(Placements parent, int index, Brick brick) {
+        if (parent.width != width || parent.height != height) {
+            throw new IllegalArgumentException("Parent board is " + parent.width + "x" + parent.height);
+        }
+        parent.apply(index, rows);
+        boardHash = parent.appliedHash;
+        BrickShape spawn = PieceTable.shapesOf(brick).get(0);
+        search(brick, 0, PieceManager.spawnColumn(width, spawn), PieceManager.SPAWN_ROW);
+    }
+
+    /**
+     * Runs the breadth-first search over the copied rows.
+     *
+     * @param brick The brick to place.
+     * @param startRotation The brick's current rotation index.
+     * @param x The column of the brick's top-left corner.
+     * @param y The row of the brick's top-left corner.
+     */
+    private void search(Brick brick, int startRotation, int x, int y) {
+        shapes = PieceTable.shapesOf(brick);
+        count = 0;
+        evaluated = false;
+
+        int rotations = shapes.size();
+        pad = 0;
+        for (int r = 0; r < rotations; r++) {
+            pad = Math.max(pad, shapes.get(r).getWidth());
+        }
+        stride = width + pad;
+        if (rotations * stride > seen.length) {
+            growSearch(rotations * stride);
+        }
+        if (rotations * width > rotation.length) {
+            grow(rotations * width);
+        }
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        if (collides(shapes.get(startRotation), x, y)) {
+            return;
+        }
+
+        startState = startRotation * stride + x + pad;
+        int head = 0;
+        int tail = 0;
+        seen[startState] = stamp;
+        depth[startState] = 0;
+        queue[tail++] = startState;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / stride;
+            int col = state % stride - pad;
+            add(r, col, y, state);
+            tail = visit(state, rotations > 1 ? (r + 1) % rotations : r, col, y, EventType.ROTATE, tail);
+            tail = visit(state, r, col - 1, y, EventType.LEFT, tail);
+            tail = visit(state, r, col + 1, y, EventType.RIGHT, tail);
+        }
+    }
+
+    /**
+     * Queues a neighbouring state if it is free and has not been reached yet.
+     *
+     * @param from The state being expanded.
+     * @param r The neighbour's rotation index.
+     * @param col The neighbour's column.
+     * @param y The row the search runs on.
+     * @param move The input leading to the neighbour.
+     * @param tail The current end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int from, int r, int col, int y, EventType move, int tail) {
+        if (col < -pad || col >= width) {
+            return tail;
+        }
+        int state = r * stride + col + pad;
+        if (seen[state] == stamp || collides(shapes.get(r), col, y)) {
+            return tail;
+        }
+        seen[state] = stamp;
+        parent[state] = from;
+        via[state] = move;
+        depth[state] = depth[from] + 1;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Computes the features of every candidate. Repeated calls are free until the
+     * next {@link #enumerate}.
+     */
+    public void evaluate() {
+        if (evaluated) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            evaluate(i);
+        }
+        evaluated = true;
+    }
+
+    /**
+     * Returns the Zobrist hash of the board the candidates were enumerated on.
+     *
+     * @return The board hash, equal to {@code GameBoard.getHash()} for that board.
+     */
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Returns the brick that spawns after the one being placed.
+     *
+     * @return The next brick, or null if it was not supplied.
+     */
+    public Brick getNextBrick() {
+        return nextBrick;
+    }
+
+    /**
+     * Supplies the brick that spawns after the one being placed, for lookahead policies.
+     *
+     * @param nextBrick The next brick, or null if unknown.
+     */
+    public void setNextBrick(Brick nextBrick) {
+        this.nextBrick = nextBrick;
+    }
+
+    /**
+     * Returns a scratch list for searching one brick deeper with
+     * {@link #enumerateAfter(Placements, int, Brick)}. The same instance is returned on
+     * every call, so a list and its child are confined to the same thread.
+     *
+     * @return The child placement list.
+     */
+    public Placements child() {
+        if (child == null) {
+            child = new Placements(width, height);
+        }
+        return child;
+    }
+
+    /**
+     * Returns the number of candidates.
+     *
+     * @return The candidate count, 0 if the brick cannot move at all.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns how many left rotations lead to a candidate.
+     *
+     * @param index The candidate index.
+     * @return The rotation index, 0 for the spawn rotation.
+     */
+    public int getRotation(int index) {
+        return rotation[index];
+    }
+
+    /**
+     * Returns the column of a candidate's top-left corner.
+     *
+     * @param index The candidate index.
+     * @return The target column.
+     */
+    public int getColumn(int index) {
+        return column[index];
+    }
+
+    /**
+     * Returns the lowest board row a candidate occupies once dropped.
+     *
+     * @param index The candidate index.
+     * @return The board row of the candidate's bottom cell.
+     */
+    public int getLandingRow(int index) {
+        return landingRow[index];
+    }
+
+    /**
+     * Returns how many lines a candidate clears. Requires {@link #evaluate()}.
+     *
+     * @param index The candidate index.
+     * @return The number of full rows after the merge.
+     */
+    public int getLinesCleared(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Returns the sum of the column heights after a candidate is placed and its lines cleared.
+     * Requires {@link #evaluate()}.
+     *
+     * @param index The candidate index.
+     * @return The aggregate height.
+     */
+    public int getAggregateHeight(int index) {
+        return aggregateHeight[index];
+    }
+
+    /**
+     * Returns the number of empty cells covered by a block after a candidate is placed.
+     * Requires {@link #evaluate()}.
+     *
+     * @param index The candidate index.
+     * @return The hole count.
+     */
+    public int getHoles(int index) {
+        return holes[index];
+    }
+
+    /**
+     * Returns the sum of height differences between neighbouring columns after a
+     * candidate is placed. Requires {@link #evaluate()}.
+     *
+     * @param index The candidate index.
+     * @return The bumpiness.
+     */
+    public int getBumpiness(int index) {
+        return bumpiness[index];
+    }
+
+    /**
+     * Returns the Zobrist hash of the board after a candidate is placed and its lines cleared.
+     * Requires {@link #evaluate()}.
+     *
+     * @param index The candidate index.
+     * @return The resulting board hash.
+     */
+    public long getResultHash(int index) {
+        return resultHash[index];
+    }
+
+    /**
+     * Returns the candidate with the given rotation and column.
+     *
+     * @param r The rotation index.
+     * @param x The column of the shape's top-left corner.
+     * @return The candidate index, or -1 if that placement is not reachable.
+     */
+    public int indexOf(int r, int x) {
+        for (int i = 0; i < count; i++) {
+            if (rotation[i] == r && column[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns how many inputs (rotations and sideways moves) lead to a candidate,
+     * not counting the final hard drop.
+     *
+     * @param index The candidate index.
+     * @return The length of the shortest input sequence.
+     */
+    public int getPathLength(int index) {
+        return depth[candidateState[index]];
+    }
+
+    /**
+     * Writes the shortest input sequence leading to a candidate.
+     *
+     * @param index The candidate index.
+     * @param moves The buffer to fill, at least {@link #getPathLength(int)} long.
+     * @return The number of inputs written.
+     */
+    public int getPath(int index, EventType[] moves) {
+        int state = candidateState[index];
+        int length = depth[state];
+        for (int i = length - 1; i >= 0; i--) {
+            moves[i] = via[state];
+            state = parent[state];
+        }
+        return length;
+    }
+
+    /**
+     * Returns the first input on the way to a candidate.
+     *
+     * @param index The candidate index.
+     * @return {@code ROTATE}, {@code LEFT} or {@code RIGHT}, or null if the brick is already there.
+     */
+    public EventType getFirstMove(int index) {
+        int state = candidateState[index];
+        if (state == startState) {
+            return null;
+        }
+        while (parent[state] != startState) {
+            state = parent[state];
+        }
+        return via[state];
+    }
+
+    /**
+     * Appends a candidate, dropping it from the given position.
+     *
+     * @param r The rotation index.
+     * @param x The column of the shape's top-left corner.
+     * @param y The row the drop starts from.
+     * @param state The search state of the candidate.
+     */
+    private void add(int r, int x, int y, int state) {
+        BrickShape shape = shapes.get(r);
+        int landing = y;
+        while (!collides(shape, x, landing + 1)) {
+            landing++;
+        }
+        rotation[count] = r;
+        column[count] = x;
+        landingRow[count] = landing + shape.getMaxRow();
+        candidateState[count] = state;
+        count++;
+    }
+
+    /**
+     * Merges one candidate into the scratch rows, clears full rows and measures the result.
+     *
+     * @param index The candidate index.
+     */
+    private void evaluate(int index) {
+        int cleared = apply(index, work);
+        resultHash[index] = appliedHash;
+
+        long covered = 0L;
+        int holeCount = 0;
+        for (int row = 0; row < height; row++) {
+            long mask = work[row];
+            holeCount += Long.bitCount(covered & ~mask);
+            for (long fresh = mask & ~covered; fresh != 0L; fresh &= fresh - 1) {
+                heights[Long.numberOfTrailingZeros(fresh)] = height - row;
+            }
+            covered |= mask;
+        }
+        int total = 0;
+        int bumps = 0;
+        for (int col = 0; col < width; col++) {
+            int h = (covered & (1L << col)) != 0L ? heights[col] : 0;
+            heights[col] = h;
+            total += h;
+            if (col > 0) {
+                bumps += Math.abs(h - heights[col - 1]);
+            }
+        }
+        lines[index] = cleared;
+        aggregateHeight[index] = total;
+        holes[index] = holeCount;
+        bumpiness[index] = bumps;
+    }
+
+    /**
+     * Merges one candidate into a copy of the rows and clears full rows, the way
+     * {@code GameBoard} would. The resulting hash is left in {@link #appliedHash}:
+     * updated per placed cell when nothing clears, recomputed when rows move.
+     *
+     * @param index The candidate index.
+     * @param target The rows to write the resulting board into.
+     * @return The number of lines cleared.
+     */
+    private int apply(int index, long[] target) {
+        BrickShape shape = shapes.get(rotation[index]);
+        int x = column[index];
+        int top = landingRow[index] - shape.getMaxRow();
+        System.arraycopy(rows, 0, target, 0, height);
+        long hash = boardHash;
+        int cleared = 0;
+        for (int row = shape.getMinRow(); row <= shape.getMaxRow(); row++) {
+            int boardRow = top + row;
+            long placed = shift(shape.getRowMask(row), x);
+            hash ^= Zobrist.rowHash(boardRow, placed);
+            target[boardRow] |= placed;
+            if (target[boardRow] == fullRow) {
+                cleared++;
+            }
+        }
+        if (cleared > 0) {
+            // Compact the surviving rows towards the floor.
+            int write = height - 1;
+            for (int read = height - 1; read >= 0; read--) {
+                if (target[read] != fullRow) {
+                    target[write--] = target[read];
+                }
+            }
+            while (write >= 0) {
+                target[write--] = 0L;
+            }
+            hash = 0L;
+            for (int row = 0; row < height; row++) {
+                if (target[row] != 0L) {
+                    hash ^= Zobrist.rowHash(row, target[row]);
+                }
+            }
+        }
+        appliedHash = hash;
+        return cleared;
+    }
+
+    /**
+     * Same rule as {@code GameBoard.isCollision}, against the copied rows.
+     *
+     * @param shape The shape to test.
+     * @param x The column of the shape's top-left corner.
+     * @param y The row of the shape's top-left corner.
+     * @return True if the shape overlaps a block or leaves the board.
+     */
+    private boolean collides(BrickShape shape, int x, int y) {
+        if (shape.isEmpty()) {
+            return false;
+        }
+        if (x + shape.getMinColumn() < 0 || x + shape.getMaxColumn() >= width) {
+            return true;
+        }
+        for (int row = shape.getMinRow(); row <= shape.getMaxRow(); row++) {
+            long mask = shape.getRowMask(row);
+            if (mask == 0L) {
+                continue;
+            }
+            int boardRow = y + row;
+            if (boardRow < 0 || boardRow >= height) {
+                return true;
+            }
+            if ((rows[boardRow] & shift(mask, x)) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves a shape row mask to board column {@code x}.
+     *
+     * @param mask The shape row mask.
+     * @param x The board column of the shape's left edge; may be negative.
+     * @return The mask in board coordinates.
+     */
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * Resizes the candidate arrays; only needed for bricks with unusually many rotations.
+     *
+     * @param capacity The new number of candidates the arrays can hold.
+     */
+    private void grow(int capacity) {
+        rotation = new int[capacity];
+        column = new int[capacity];
+        landingRow = new int[capacity];
+        lines = new int[capacity];
+        aggregateHeight = new int[capacity];
+        holes = new int[capacity];
+        bumpiness = new int[capacity];
+        resultHash = new long[capacity];
+        candidateState = new int[capacity];
+    }
+
+    /**
+     * Resizes the search arrays.
+     *
+     * @param capacity The new number of search states the arrays can hold.
+     */
+    private void growSearch(int capacity) {
+        seen = new int[capacity];
+        queue = new int[capacity];
+        parent = new int[capacity];
+        via = new EventType[capacity];
+        depth = new int[capacity];
+        stamp = 0;
+    }
+}
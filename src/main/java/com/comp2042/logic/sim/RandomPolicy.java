@@ -0,0 +1,22 @@
+package com.comp2042.logic.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Picks a reachable placement uniformly at random.
+ * A baseline that tops out quickly, useful for stressing spawns and game-over paths.
+ */
+public final class RandomPolicy implements PlacementPolicy {
+
+    /**
+     * Chooses a random candidate.
+     *
+     * @param candidates The placements of the current brick.
+     * @param random The game's random stream.
+     * @return A uniformly chosen candidate index.
+     */
+    @Override
+    public int choose(Placements candidates, SplittableRandom random) {
+        return random.nextInt(candidates.size());
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.HeadlessGameView;
+import com.comp2042.logic.InputEventListener;
+import com.comp2042.logic.ScoreModel;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.UniformBrickGenerator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Plays many independent games concurrently with a pluggable {@link PlacementPolicy}.
+ * Every game runs the real rules (a {@link GameController} over a {@link SimpleBoard})
+ * against a no-op view, with an {@link AutoPlayer} sending the policy's inputs as
+ * fast as the engine allows instead of on the GUI timeline.
+ * Games are spread over a {@link ForkJoinPool} by recursively splitting the game range.
+ * Each game gets its own seed, derived in order from a root seed, so a batch is
+ * reproducible regardless of the number of threads and any game can be replayed
+ * on its own with {@link #play(long)}.
+ */
+public final class SelfPlaySimulator {
+
+    /** Default cap on the bricks placed in one game, so strong policies still finish. */
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+
+    /** The policy shared by every game. */
+    private final PlacementPolicy policy;
+    /** Builds a game's brick generator from the game's own random stream. */
+    private final Function<SplittableRandom, ? extends BrickGenerator> generators;
+    /** The board width of every game. */
+    private final int width;
+    /** The board height of every game. */
+    private final int height;
+    /** The most bricks placed in one game. */
+    private final int maxPieces;
+
+    /**
+     * Creates a simulator on the standard board, with uniformly random bricks as in the real game.
+     *
+     * @param policy The placement policy.
+     */
+    public SelfPlaySimulator(PlacementPolicy policy) {
+        this(policy, UniformBrickGenerator::new, Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT, DEFAULT_MAX_PIECES);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param policy The placement policy, shared by all games.
+     * @param generators Builds a game's brick generator from its random stream,
+     *                   e.g. {@code SevenBagBrickGenerator::new}.
+     * @param width The board width.
+     * @param height The board height.
+     * @param maxPieces The most bricks placed in one game before it is stopped.
+     * @throws IllegalArgumentException if maxPieces is not positive.
+     */
+    public SelfPlaySimulator(PlacementPolicy policy, Function<SplittableRandom, ? extends BrickGenerator> generators,
+                             int width, int height, int maxPieces) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("Max pieces must be positive");
+        }
+        this.policy = policy;
+        this.generators = generators;
+        this.width = width;
+        this.height = height;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays a batch of games on the common fork-join pool.
+     *
+     * @param rootSeed The seed the per-game seeds are derived from.
+     * @param games The number of games.
+     * @return The aggregated results.
+     */
+    public SimulationSummary run(long rootSeed, int games) {
+        return run(rootSeed, games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays a batch of games on the given pool.
+     *
+     * @param rootSeed The seed the per-game seeds are derived from.
+     * @param games The number of games.
+     * @param pool The pool to play on; its parallelism sets how many games run at once.
+     * @return The aggregated results.
+     * @throws IllegalArgumentException if games is not positive.
+     */
+    public SimulationSummary run(long rootSeed, int games, ForkJoinPool pool) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("Games must be positive");
+        }
+        long[] seeds = seedsFor(rootSeed, games);
+        GameResult[] results = new GameResult[games];
+        long start = System.nanoTime();
+        pool.invoke(new GameBatch(seeds, results, 0, games));
+        return new SimulationSummary(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Derives the per-game seeds of a batch.
+     *
+     * @param rootSeed The root seed.
+     * @param games The number of games.
+     * @return One seed per game, the same for the same root seed.
+     */
+    public static long[] seedsFor(long rootSeed, int games) {
+        SplittableRandom root = new SplittableRandom(rootSeed);
+        long[] seeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            seeds[i] = root.nextLong();
+        }
+        return seeds;
+    }
+
+    /**
+     * Plays one game to the end (or to the piece cap) on the calling thread.
+     *
+     * @param seed The game seed; the same seed always gives the same game.
+     * @return The game's result.
+     */
+    public GameResult play(long seed) {
+        SplittableRandom stream = new SplittableRandom(seed);
+        SimpleBoard board = new SimpleBoard(width, height, generators.apply(stream.split()));
+        SplittableRandom policyRandom = stream.split();
+        HeadlessGameView view = new HeadlessGameView();
+        InputEventListener controller = new GameController(view, board);
+        AutoPlayer player = new AutoPlayer(board, controller, policy, policyRandom);
+
+        long start = System.nanoTime();
+        int pieces = 0;
+        while (!view.isGameOver() && pieces < maxPieces) {
+            player.playPiece();
+            pieces++;
+        }
+        long nanos = System.nanoTime() - start;
+
+        ScoreModel score = board.getScore();
+        return new GameResult(seed, score.getScore(), score.getTotalLines(), score.getLevel(), pieces, nanos);
+    }
+
+    /**
+     * Fork-join task playing a range of games, split in halves down to single games.
+     */
+    private final class GameBatch extends RecursiveAction {
+
+        private final long[] seeds;
+        private final GameResult[] results;
+        private final int from;
+        private final int to;
+
+        GameBatch(long[] seeds, GameResult[] results, int from, int to) {
+            this.seeds = seeds;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results[from] = play(seeds[from]);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameBatch(seeds, results, from, mid), new GameBatch(seeds, results, mid, to));
+        }
+    }
+
+    /**
+     * Runs a batch for each built-in policy and prints the summaries.
+     * Usage: {@code SelfPlaySimulator [games] [rootSeed]}.
+     *
+     * @param args Optional game count (default 200) and root seed (default 2042).
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 2042L;
+        LookaheadPolicy lookahead = new LookaheadPolicy();
+        PlacementPolicy[] policies = {new RandomPolicy(), new GreedyPolicy(), new HeuristicPolicy(), lookahead};
+        for (PlacementPolicy policy : policies) {
+            SimulationSummary summary = new SelfPlaySimulator(policy).run(seed, games);
+            System.out.println(policy.getClass().getSimpleName() + ": " + summary);
+        }
+        System.out.println("Transposition table: " + lookahead.getTable());
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.logic.sim;
+
+import java.util.Arrays;
+
+/**
+ * Aggregate statistics over a batch of simulated games.
+ */
+public final class SimulationSummary {
+
+    /** Per-game results, in seed order. */
+    private final GameResult[] results;
+    /** Scores sorted ascending, for percentiles. */
+    private final int[] sortedScores;
+    /** Wall-clock time of the whole batch, in nanoseconds. */
+    private final long wallNanos;
+
+    /**
+     * Creates a summary.
+     *
+     * @param results The per-game results, in seed order. The array is copied.
+     * @param wallNanos The wall-clock time of the whole batch, in nanoseconds.
+     * @throws IllegalArgumentException if there are no results.
+     */
+    public SimulationSummary(GameResult[] results, long wallNanos) {
+        if (results.length == 0) {
+            throw new IllegalArgumentException("A summary needs at least one game");
+        }
+        this.results = results.clone();
+        this.wallNanos = wallNanos;
+        this.sortedScores = new int[results.length];
+        for (int i = 0; i < results.length; i++) {
+            sortedScores[i] = results[i].getScore();
+        }
+        Arrays.sort(sortedScores);
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return The game count.
+     */
+    public int getGameCount() {
+        return results.length;
+    }
+
+    /**
+     * Returns the result of one game.
+     *
+     * @param index The game index, in seed order.
+     * @return The game's result.
+     */
+    public GameResult getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Returns the mean final score.
+     *
+     * @return The average score.
+     */
+    public double getMeanScore() {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getScore();
+        }
+        return (double) total / results.length;
+    }
+
+    /**
+     * Returns the lowest final score.
+     *
+     * @return The minimum score.
+     */
+    public int getMinScore() {
+        return sortedScores[0];
+    }
+
+    /**
+     * Returns the highest final score.
+     *
+     * @return The maximum score.
+     */
+    public int getMaxScore() {
+        return sortedScores[sortedScores.length - 1];
+    }
+
+    /**
+     * Returns a score percentile (nearest-rank), for estimating the score distribution.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The score at that percentile.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public int getScorePercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedScores.length);
+        return sortedScores[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * Returns the mean number of lines cleared per game.
+     *
+     * @return The average line count.
+     */
+    public double getMeanLines() {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getLines();
+        }
+        return (double) total / results.length;
+    }
+
+    /**
+     * Returns the mean level reached.
+     *
+     * @return The average level.
+     */
+    public double getMeanLevel() {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getLevel();
+        }
+        return (double) total / results.length;
+    }
+
+    /**
+     * Returns the highest level reached in any game.
+     *
+     * @return The maximum level.
+     */
+    public int getMaxLevel() {
+        int max = 0;
+        for (GameResult result : results) {
+            max = Math.max(max, result.getLevel());
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of bricks placed across all games.
+     *
+     * @return The total piece count.
+     */
+    public long getTotalPieces() {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getPieces();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the engine throughput of the whole batch across all threads.
+     *
+     * @return Bricks placed per second of wall-clock time.
+     */
+    public double getPiecesPerSecond() {
+        return wallNanos == 0 ? 0 : getTotalPieces() * 1e9 / wallNanos;
+    }
+
+    /**
+     * Returns a one-line report of the main statistics.
+     *
+     * @return A human-readable summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("games=%d score mean=%.1f min=%d p50=%d p90=%d max=%d lines mean=%.1f "
+                        + "level mean=%.2f max=%d pieces=%d (%.0f pieces/s)",
+                getGameCount(), getMeanScore(), getMinScore(), getScorePercentile(50), getScorePercentile(90),
+                getMaxScore(), getMeanLines(), getMeanLevel(), getMaxLevel(), getTotalPieces(), getPiecesPerSecond());
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.Zobrist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free cache of position evaluations, shared by every search thread.
+ * A position is keyed by the {@link Zobrist} hash of the board, the brick to place
+ * and the held brick ({@link #key(long, int, int)}). Each key maps to one slot of a
+ * fixed power-of-two table, and a newer entry simply replaces an older one, so the
+ * table never grows and never needs locking.
+ * A slot stores {@code key ^ value} next to {@code value}. Two threads writing the same
+ * slot at once can leave halves of different entries behind; such a pair no longer
+ * XORs back to the probed key and reads as a miss, so a torn entry is never returned.
+ */
+public final class TranspositionTable {
+
+    /** The most slots a table may have. */
+    public static final int MAX_CAPACITY = 1 << 28;
+
+    /** Stand-in for the key 0, which marks an empty slot. */
+    private static final long ZERO_KEY = 0x9E3779B97F4A7C15L;
+
+    /** Two longs per slot: the checked key, then the value bits. */
+    private final AtomicLongArray slots;
+    /** Slot count minus one, for masking a key to a slot index. */
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity The number of entries, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not between 1 and {@link #MAX_CAPACITY}.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicLongArray(2 * size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Builds the key of a search position.
+     *
+     * @param boardHash The Zobrist hash of the board.
+     * @param pieceId The id of the brick to place.
+     * @param holdPieceId The id of the held brick, 0 if nothing is held.
+     * @return The position key.
+     */
+    public static long key(long boardHash, int pieceId, int holdPieceId) {
+        return boardHash ^ Zobrist.pieceKey(pieceId) ^ Zobrist.holdKey(holdPieceId);
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param key The position key.
+     * @return The stored value, or {@code Double.NaN} if the position is not in the table.
+     */
+    public double get(long key) {
+        long checked = checked(key);
+        int slot = slotOf(checked);
+        long stored = slots.get(slot);
+        long data = slots.get(slot + 1);
+        if ((stored ^ data) == checked) {
+            hits.increment();
+            return Double.longBitsToDouble(data);
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the value of a position, replacing whatever shared its slot.
+     *
+     * @param key The position key.
+     * @param value The value; {@code Double.NaN} cannot be stored.
+     * @throws IllegalArgumentException if the value is NaN.
+     */
+    public void put(long key, double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN marks a miss and cannot be stored");
+        }
+        long checked = checked(key);
+        int slot = slotOf(checked);
+        long data = Double.doubleToRawLongBits(value);
+        slots.set(slot + 1, data);
+        slots.set(slot, checked ^ data);
+        stores.increment();
+    }
+
+    /**
+     * Empties the table and resets its counters.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+        hits.reset();
+        misses.reset();
+        stores.reset();
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return The slot count, a power of two.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns how many lookups found their position.
+     *
+     * @return The hit count since creation or the last {@link #clear()}.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many lookups did not find their position.
+     *
+     * @return The miss count since creation or the last {@link #clear()}.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns how many values were stored.
+     *
+     * @return The store count since creation or the last {@link #clear()}.
+     */
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * Returns the share of lookups that were answered from the table.
+     *
+     * @return The hit rate between 0 and 1, 0 before the first lookup.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Summarises the table's usage on one line.
+     *
+     * @return The capacity, lookups and hit rate.
+     */
+    @Override
+    public String toString() {
+        long hitCount = getHits();
+        long lookups = hitCount + getMisses();
+        return String.format("capacity %d, %d lookups, hit rate %.1f%%, %d stores",
+                getCapacity(), lookups, 100.0 * getHitRate(), getStores());
+    }
+
+    /**
+     * Keeps a real key 0 apart from an empty slot, whose halves XOR to 0.
+     *
+     * @param key The position key.
+     * @return The key as stored.
+     */
+    private static long checked(long key) {
+        return key == 0L ? ZERO_KEY : key;
+    }
+
+    /**
+     * Maps a key to the index of its slot's first long.
+     *
+     * @param key The stored key.
+     * @return An even index into {@link #slots}.
+     */
+    private int slotOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+}
@@ -2,16 +2,25 @@ package com.comp2042.model;
 
 import com.comp2042.logic.MatrixOperations;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * A data class representing the result of a row clearing operation on the game board.
- * It encapsulates information about the number of lines removed, the updated game matrix,
+ * It encapsulates information about the number of lines removed, which rows they were,
  * and any score bonus awarded.
+ * The board engine reports the removed row indices instead of a snapshot of the whole
+ * board; the matrix form is only kept for {@link MatrixOperations#checkRemoving(int[][])}.
  */
 public final class ClearRow {
 
+    private static final int[] NO_ROWS = new int[0];
+
     /** The number of lines that were removed in the operation. */
     private final int linesRemoved;
-    /** The state of the game matrix after the rows have been removed and shifted. */
+    /** Board row indices (before the clear, top to bottom) that were removed. */
+    private final int[] clearedRows;
+    /** The state of the game matrix after the rows have been removed, or null if not captured. */
     private final int[][] newMatrix;
     /** The score awarded for clearing these lines. */
     private final int scoreBonus;
@@ -25,10 +34,39 @@ public final class ClearRow {
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
         this.linesRemoved = linesRemoved;
+        this.clearedRows = NO_ROWS;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
     }
 
+    /**
+     * Constructs a new ClearRow object from the indices of the removed rows.
+     *
+     * @param clearedRows The removed board row indices, in ascending order. The array is copied.
+     * @param scoreBonus The score awarded for the clear.
+     */
+    public ClearRow(int[] clearedRows, int scoreBonus) {
+        this(clearedRows, 0, clearedRows.length, scoreBonus);
+    }
+
+    /**
+     * Constructs a new ClearRow object from a range of a row index buffer, so an
+     * engine can pass its scratch array and have it copied exactly once.
+     *
+     * @param rows Buffer holding the removed board row indices, in ascending order.
+     * @param from The first index of the range, inclusive.
+     * @param to The end of the range, exclusive. The range is copied.
+     * @param scoreBonus The score awarded for the clear.
+     * @throws IndexOutOfBoundsException if the range lies outside the buffer.
+     */
+    public ClearRow(int[] rows, int from, int to, int scoreBonus) {
+        Objects.checkFromToIndex(from, to, rows.length);
+        this.linesRemoved = to - from;
+        this.clearedRows = from == to ? NO_ROWS : Arrays.copyOfRange(rows, from, to);
+        this.newMatrix = null;
+        this.scoreBonus = scoreBonus;
+    }
+
     /**
      * Returns the number of lines that were removed.
      *
@@ -38,13 +76,24 @@ public final class ClearRow {
         return linesRemoved;
     }
 
+    /**
+     * Returns the board row indices that were removed, as they were numbered
+     * before the clear (0 = top row), in ascending order.
+     *
+     * @return A copy of the removed row indices; empty if none were recorded.
+     */
+    public int[] getClearedRows() {
+        return clearedRows.length == 0 ? NO_ROWS : clearedRows.clone();
+    }
+
     /**
      * Returns a deep copy of the updated game matrix after the rows have been removed and shifted.
      *
-     * @return A deep copy of the new game matrix.
+     * @return A deep copy of the new game matrix, or null if this result was built
+     *         from row indices (see {@link #getClearedRows()}).
      */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix == null ? null : MatrixOperations.copy(newMatrix);
     }
 
     /**
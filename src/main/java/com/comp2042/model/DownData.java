@@ -1,26 +1,35 @@
 package com.comp2042.model;
 
 /**
- - Immutable value object returned after a downward movement
+ - Value object returned after a downward movement
    (soft drop or hard drop). Contains:
    - the result of any line clearing,
    - the updated ViewData for rendering,
    - and an optional copy of the board (used for hard drop only).
- - This class does not expose any mutable state and acts purely
-  as a data transfer object (DTO) between the logic and UI layers.
+ - It acts purely as a data transfer object (DTO) between the logic and UI
+   layers and exposes no setters: instances built with the constructor are
+   immutable snapshots.
+ - As with {@link ViewData}, the engine may instead keep one reusable instance
+   (see {@link #createReusable()}) that it refreshes in place through
+   {@link #update} on every gravity tick, so that ticks which do not lock a
+   piece allocate nothing. Such an instance is overwritten by the next tick,
+   so callers must read it straight away rather than store it; snapshots
+   reject {@code update} with an {@link IllegalStateException}.
  */
 
 
 public final class DownData {
 
     /** Information about any rows that were cleared as a result of the downward movement. Can be null. */
-    private final ClearRow clearRow;
+    private ClearRow clearRow;
     /** The updated view data required for rendering the game state after the movement. */
-    private final ViewData viewData;
+    private ViewData viewData;
     /** An optional copy of the game board matrix, typically provided after a hard drop. Can be null. */
-    private final int[][] board;   //may be null for normal soft drops
+    private int[][] board;   //may be null for normal soft drops
     /** Indicates whether the falling piece landed and was locked in place during this downward movement. */
-    private final boolean pieceLanded;
+    private boolean pieceLanded;
+    /** True for engine-owned instances that may be refreshed through {@link #update}. */
+    private final boolean reusable;
 
     /**
      * Constructs a DownData object with information about row clearing, view updates, and piece landing status.
@@ -48,6 +57,44 @@ public final class DownData {
         this.viewData = viewData;
         this.board = board;
         this.pieceLanded = pieceLanded;
+        this.reusable = false;
+    }
+
+    /**
+     * Constructs an empty, reusable DownData.
+     */
+    private DownData() {
+        this.reusable = true;
+    }
+
+    /**
+     * Creates an empty, engine-owned DownData that can be refreshed in place with
+     * {@link #update}. Intended for the allocation-free gravity path only.
+     *
+     * @return A new reusable DownData.
+     */
+    public static DownData createReusable() {
+        return new DownData();
+    }
+
+    /**
+     * Refreshes a reusable DownData in place. The board matrix is cleared.
+     *
+     * @param clearRow Information about cleared rows, or null if none were cleared.
+     * @param viewData The updated view data.
+     * @param pieceLanded True if the piece landed and was locked, false otherwise.
+     * @return This instance, for call chaining.
+     * @throws IllegalStateException if this instance is an immutable snapshot.
+     */
+    public DownData update(ClearRow clearRow, ViewData viewData, boolean pieceLanded) {
+        if (!reusable) {
+            throw new IllegalStateException("DownData snapshots are immutable");
+        }
+        this.clearRow = clearRow;
+        this.viewData = viewData;
+        this.board = null;
+        this.pieceLanded = pieceLanded;
+        return this;
     }
 
     //The following constructors are for convenience and will be removed in the future
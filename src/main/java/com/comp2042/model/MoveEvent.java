@@ -4,6 +4,9 @@ package com.comp2042.model;
  - Immutable input descriptor sent from the UI layer to the game logic.
  - Specifies what type of movement was requested and whether it came
    from the user or from the game loop thread.
+ - Being immutable, one shared instance per (type, source) pair is enough;
+   {@link #of(EventType, EventSource)} hands those out so input handling
+   does not allocate an event per key press.
  */
 
 
@@ -13,6 +16,17 @@ public final class MoveEvent {
     /** The source from which this event originated (e.g., USER, THREAD). */
     private final EventSource eventSource;
 
+    /** Shared instances indexed by [type ordinal][source ordinal]. */
+    private static final MoveEvent[][] FLYWEIGHTS = new MoveEvent[EventType.values().length][EventSource.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                FLYWEIGHTS[type.ordinal()][source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
     /**
      * Constructs a new MoveEvent.
      *
@@ -24,6 +38,17 @@ public final class MoveEvent {
         this.eventSource = eventSource;
     }
 
+    /**
+     * Returns the shared MoveEvent for the given type and source.
+     *
+     * @param eventType The type of movement.
+     * @param eventSource The source of the event.
+     * @return The cached, immutable {@code MoveEvent}.
+     */
+    public static MoveEvent of(EventType eventType, EventSource eventSource) {
+        return FLYWEIGHTS[eventType.ordinal()][eventSource.ordinal()];
+    }
+
     /**
      * Returns the type of movement event.
      *
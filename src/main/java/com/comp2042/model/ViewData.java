@@ -1,29 +1,63 @@
 package com.comp2042.model;
 
-import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.Constants;
+
+import java.util.Arrays;
 
 /**
- - Immutable data snapshot passed from the game logic layer to the UI.
- - Contains the active brick matrix, its position, the next brick preview,
-   and the ghost piece vertical position.
- - This class performs defensive copies to prevent accidental mutation
-   of internal game state by the UI.
+ - Data passed from the game logic layer to the UI.
+ - Contains the active brick matrix, its position, the preview of upcoming
+   bricks (the next brick first) and the ghost piece vertical position.
+ - Instances built with a constructor are immutable snapshots; matrices are
+   copied on the way in and out so the UI cannot mutate internal game state.
+ - The engine additionally keeps reusable instances (see {@link #createReusable()})
+   that it refreshes in place through {@link #update} on every input, so the
+   per-key-press path does not allocate. Such an instance only shares immutable
+   {@link BrickShape} rotations, is overwritten by the next engine call and must
+   be read before then rather than stored; call {@link #update(ViewData)} on a
+   reusable instance of your own to keep a copy. Snapshots reject {@code update}
+   with an {@link IllegalStateException}.
+ - A reusable instance also records what its last update changed as a bit mask
+   ({@link #POSITION}, {@link #SHAPE}, {@link #GHOST}, {@link #PREVIEW}), so a
+   view that keeps its own reusable copy of what it drew can skip restyling
+   when only the position moved.
  */
 
 
 public final class ViewData {
 
-    /** The 2D integer array representing the active falling brick's shape. */
-    private final int[][] brickData;
+    /** Change bit: the active brick's column or row changed. */
+    public static final int POSITION = 1;
+    /** Change bit: the active brick's shape changed, by a rotation or a new brick. */
+    public static final int SHAPE = 1 << 1;
+    /** Change bit: the ghost piece's row changed. */
+    public static final int GHOST = 1 << 2;
+    /** Change bit: the preview queue changed. */
+    public static final int PREVIEW = 1 << 3;
+    /** Every change bit; reported by snapshots and by a reusable instance's first update. */
+    public static final int ALL = POSITION | SHAPE | GHOST | PREVIEW;
+
+    /** The active falling brick's shape. */
+    private BrickShape brickData;
     /** The X-coordinate (column) of the active falling brick's top-left corner on the board. */
-    private final int xPosition;
+    private int xPosition;
     /** The Y-coordinate (row) of the active falling brick's top-left corner on the board. */
-    private final int yPosition;
-    /** The 2D integer array representing the shape of the next brick to fall. */
-    private final int[][] nextBrickData;
+    private int yPosition;
+    /** The shape of the next brick to fall. */
+    private BrickShape nextBrickData;
+    /** Shapes of the upcoming bricks, the next brick first; only the first {@link #previewCount} are valid. */
+    private BrickShape[] previewData;
+    /** The number of valid entries in {@link #previewData}. */
+    private int previewCount;
 
     /** The Y-coordinate (row) of the ghost piece, indicating where the active brick would land. */
-    private final int ghostYPosition;
+    private int ghostYPosition;
+
+    /** True for engine-owned instances that may be refreshed through {@link #update}. */
+    private final boolean reusable;
+    /** What the last {@link #update} changed, as change bits. */
+    private int changes = ALL;
 
     /**
      * Constructs a new ViewData object, creating defensive copies of array data.
@@ -41,12 +75,221 @@ public final class ViewData {
                     int ghostYPosition) {
 
         //make defensive copies so UI can't mutate board state by accident
-        this.brickData = MatrixOperations.copy(brickData);
-        this.nextBrickData = MatrixOperations.copy(nextBrickData);
+        this(BrickShape.of(brickData), xPosition, yPosition, BrickShape.of(nextBrickData), ghostYPosition);
+    }
+
+    /**
+     * Constructs a new immutable ViewData object from shared brick shapes.
+     * No copies are needed because {@code BrickShape} is immutable.
+     *
+     * @param brickData The active falling brick's shape.
+     * @param xPosition The X-coordinate of the active brick.
+     * @param yPosition The Y-coordinate of the active brick.
+     * @param nextBrickData The next brick's shape.
+     * @param ghostYPosition The Y-coordinate of the ghost piece.
+     */
+    public ViewData(BrickShape brickData,
+                    int xPosition,
+                    int yPosition,
+                    BrickShape nextBrickData,
+                    int ghostYPosition) {
+        this(false);
+        previewData = new BrickShape[]{nextBrickData};
+        set(brickData, xPosition, yPosition, nextBrickData, ghostYPosition);
+    }
+
+    /**
+     * Constructs a new immutable ViewData object with a multi-brick preview.
+     * The preview array is copied; the shapes themselves are shared.
+     *
+     * @param brickData The active falling brick's shape.
+     * @param xPosition The X-coordinate of the active brick.
+     * @param yPosition The Y-coordinate of the active brick.
+     * @param previewData The upcoming bricks' shapes, the next brick first.
+     * @param previewCount The number of entries of {@code previewData} to use.
+     * @param ghostYPosition The Y-coordinate of the ghost piece.
+     * @throws IllegalArgumentException if the preview count is out of range.
+     */
+    public ViewData(BrickShape brickData,
+                    int xPosition,
+                    int yPosition,
+                    BrickShape[] previewData,
+                    int previewCount,
+                    int ghostYPosition) {
+        this(false);
+        checkPreviewCount(previewData, previewCount, previewData.length);
+        this.previewData = Arrays.copyOf(previewData, previewCount);
+        set(brickData, xPosition, yPosition, previewData[0], ghostYPosition);
+        this.previewCount = previewCount;
+    }
+
+    /**
+     * Constructs an empty ViewData.
+     *
+     * @param reusable True if the instance may later be refreshed in place.
+     */
+    private ViewData(boolean reusable) {
+        this.reusable = reusable;
+        if (reusable) {
+            previewData = new BrickShape[Constants.MAX_LOOKAHEAD];
+        }
+    }
+
+    /**
+     * Creates an empty, engine-owned ViewData that can be refreshed in place with
+     * {@link #update}. Intended for the allocation-free input path only.
+     *
+     * @return A new reusable ViewData.
+     */
+    public static ViewData createReusable() {
+        return new ViewData(true);
+    }
+
+    /**
+     * Refreshes a reusable ViewData in place.
+     *
+     * @param brickData The active falling brick's shape.
+     * @param xPosition The X-coordinate of the active brick.
+     * @param yPosition The Y-coordinate of the active brick.
+     * @param nextBrickData The next brick's shape.
+     * @param ghostYPosition The Y-coordinate of the ghost piece.
+     * @return This instance, for call chaining.
+     * @throws IllegalStateException if this instance is an immutable snapshot.
+     */
+    public ViewData update(BrickShape brickData,
+                           int xPosition,
+                           int yPosition,
+                           BrickShape nextBrickData,
+                           int ghostYPosition) {
+        checkReusable();
+        int changed = activeChanges(brickData, xPosition, yPosition, ghostYPosition);
+        if (previewCount != 1 || previewData[0] != nextBrickData) {
+            changed |= PREVIEW;
+        }
+        set(brickData, xPosition, yPosition, nextBrickData, ghostYPosition);
+        changes = changed;
+        return this;
+    }
+
+    /**
+     * Refreshes a reusable ViewData in place, including a multi-brick preview.
+     * The preview entries are copied into this instance's own array, so nothing is allocated.
+     *
+     * @param brickData The active falling brick's shape.
+     * @param xPosition The X-coordinate of the active brick.
+     * @param yPosition The Y-coordinate of the active brick.
+     * @param previewData The upcoming bricks' shapes, the next brick first.
+     * @param previewCount The number of entries of {@code previewData} to use,
+     *                     at most {@link Constants#MAX_LOOKAHEAD}.
+     * @param ghostYPosition The Y-coordinate of the ghost piece.
+     * @return This instance, for call chaining.
+     * @throws IllegalStateException if this instance is an immutable snapshot.
+     * @throws IllegalArgumentException if the preview count is out of range.
+     */
+    public ViewData update(BrickShape brickData,
+                           int xPosition,
+                           int yPosition,
+                           BrickShape[] previewData,
+                           int previewCount,
+                           int ghostYPosition) {
+        checkReusable();
+        checkPreviewCount(previewData, previewCount, this.previewData.length);
+        int changed = activeChanges(brickData, xPosition, yPosition, ghostYPosition);
+        if (previewCount != this.previewCount
+                || !Arrays.equals(previewData, 0, previewCount, this.previewData, 0, previewCount)) {
+            changed |= PREVIEW;
+        }
+        System.arraycopy(previewData, 0, this.previewData, 0, previewCount);
+        set(brickData, xPosition, yPosition, previewData[0], ghostYPosition);
+        this.previewCount = previewCount;
+        changes = changed;
+        return this;
+    }
 
+    /**
+     * Refreshes a reusable ViewData in place to match another one. Its change bits
+     * then describe the difference from this instance's previous content, which is
+     * how a view learns what changed since the frame it last drew.
+     *
+     * @param source The view data to copy; only its immutable shapes are shared.
+     * @return This instance, for call chaining.
+     * @throws IllegalStateException if this instance is an immutable snapshot.
+     * @throws IllegalArgumentException if the source's preview does not fit.
+     */
+    public ViewData update(ViewData source) {
+        return update(source.brickData, source.xPosition, source.yPosition,
+                source.previewData, source.previewCount, source.ghostYPosition);
+    }
+
+    /**
+     * Compares the active brick and ghost against the stored values.
+     * Shapes are compared by reference, since equal rotations share one {@link BrickShape}.
+     *
+     * @param brickData The new active brick's shape.
+     * @param xPosition The new X-coordinate of the active brick.
+     * @param yPosition The new Y-coordinate of the active brick.
+     * @param ghostYPosition The new Y-coordinate of the ghost piece.
+     * @return The change bits, or {@link #ALL} if nothing was stored yet.
+     */
+    private int activeChanges(BrickShape brickData, int xPosition, int yPosition, int ghostYPosition) {
+        if (this.brickData == null) {
+            return ALL;
+        }
+        int changed = 0;
+        if (xPosition != this.xPosition || yPosition != this.yPosition) {
+            changed |= POSITION;
+        }
+        if (brickData != this.brickData) {
+            changed |= SHAPE;
+        }
+        if (ghostYPosition != this.ghostYPosition) {
+            changed |= GHOST;
+        }
+        return changed;
+    }
+
+    /**
+     * Rejects in-place updates of immutable snapshots.
+     *
+     * @throws IllegalStateException if this instance is an immutable snapshot.
+     */
+    private void checkReusable() {
+        if (!reusable) {
+            throw new IllegalStateException("ViewData snapshots are immutable");
+        }
+    }
+
+    /**
+     * Validates a preview count against the source array and the available capacity.
+     *
+     * @param previewData The upcoming bricks' shapes.
+     * @param previewCount The number of entries to use.
+     * @param capacity The most entries that can be stored.
+     * @throws IllegalArgumentException if the count is below 1 or exceeds either bound.
+     */
+    private static void checkPreviewCount(BrickShape[] previewData, int previewCount, int capacity) {
+        if (previewCount < 1 || previewCount > previewData.length || previewCount > capacity) {
+            throw new IllegalArgumentException("Invalid preview count: " + previewCount);
+        }
+    }
+
+    /**
+     * Stores all fields, with the next brick as the only preview entry.
+     *
+     * @param brickData The active falling brick's shape.
+     * @param xPosition The X-coordinate of the active brick.
+     * @param yPosition The Y-coordinate of the active brick.
+     * @param nextBrickData The next brick's shape.
+     * @param ghostYPosition The Y-coordinate of the ghost piece.
+     */
+    private void set(BrickShape brickData, int xPosition, int yPosition, BrickShape nextBrickData, int ghostYPosition) {
+        this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
+        this.nextBrickData = nextBrickData;
         this.ghostYPosition = ghostYPosition;
+        this.previewData[0] = nextBrickData;
+        this.previewCount = 1;
     }
 
     /**
@@ -55,7 +298,16 @@ public final class ViewData {
      * @return A deep copy of the active brick's shape matrix.
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData.toMatrix();
+    }
+
+    /**
+     * Returns the active brick's shape without copying.
+     *
+     * @return The shared, immutable {@code BrickShape} of the active brick.
+     */
+    public BrickShape getBrickShape() {
+        return brickData;
     }
 
     /**
@@ -82,7 +334,49 @@ public final class ViewData {
      * @return A deep copy of the next brick's shape matrix.
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData.toMatrix();
+    }
+
+    /**
+     * Returns the next brick's shape without copying.
+     *
+     * @return The shared, immutable {@code BrickShape} of the next brick.
+     */
+    public BrickShape getNextBrickShape() {
+        return nextBrickData;
+    }
+
+    /**
+     * Returns how many upcoming bricks the preview holds.
+     *
+     * @return The preview length, at least 1.
+     */
+    public int getPreviewCount() {
+        return previewCount;
+    }
+
+    /**
+     * Returns the shape of an upcoming brick without copying.
+     *
+     * @param index The preview position, 0 for the next brick.
+     * @return The shared, immutable {@code BrickShape} at that position.
+     * @throws IndexOutOfBoundsException if the index is outside the preview.
+     */
+    public BrickShape getPreviewShape(int index) {
+        if (index < 0 || index >= previewCount) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range [0, " + previewCount + ")");
+        }
+        return previewData[index];
+    }
+
+    /**
+     * Returns what the last in-place update changed.
+     *
+     * @return A combination of {@link #POSITION}, {@link #SHAPE}, {@link #GHOST} and
+     *         {@link #PREVIEW}; {@link #ALL} for snapshots and before the first update.
+     */
+    public int getChanges() {
+        return changes;
     }
 
     //where the ghost should sit vertically (row index)
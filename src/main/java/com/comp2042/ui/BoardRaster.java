@@ -0,0 +1,206 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.BoardComposition;
+import com.comp2042.logic.RenderFrame;
+import com.comp2042.logic.TripleBuffer;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Software-rendered image of the visible part of a board: the landed blocks, the
+ * ghost piece and the active brick, blitted from a {@link TileSet} into an array
+ * of premultiplied ARGB pixels.
+ * It remembers the content of every cell it has drawn, so rendering a frame only
+ * blits the tiles whose {@link BoardComposition} content changed, and a copy of
+ * the image elsewhere can be brought up to date by copying just the tiles that
+ * differ from what it shows ({@link #copyChanges}). Rendering needs no UI toolkit,
+ * so it can run on any thread; the image is then handed to the UI thread, e.g.
+ * through a {@link TripleBuffer} of rasters.
+ */
+public final class BoardRaster {
+
+    /** Content of a cell that has not been drawn yet; never equal to a real content. */
+    public static final int UNPAINTED = -1;
+
+    private final TileSet tiles;
+    private final int hiddenRows;
+    private final int visibleRows;
+    private final int columns;
+    private final int width;
+    private final int height;
+    private final BoardComposition composition;
+    /** Content drawn in each visible cell, row-major. */
+    private final int[] cells;
+    /** The image, row-major, {@link #width} pixels per row. */
+    private final int[] pixels;
+
+    /**
+     * Creates a blank raster.
+     *
+     * @param tiles The tiles to draw with.
+     * @param boardRows The number of board rows, including the hidden ones.
+     * @param boardCols The number of board columns.
+     * @param hiddenRows The number of rows at the top of the board that are not drawn.
+     */
+    public BoardRaster(TileSet tiles, int boardRows, int boardCols, int hiddenRows) {
+        if (hiddenRows < 0 || hiddenRows >= boardRows) {
+            throw new IllegalArgumentException("Hidden rows must leave at least one visible row: " + hiddenRows);
+        }
+        this.tiles = tiles;
+        this.hiddenRows = hiddenRows;
+        this.visibleRows = boardRows - hiddenRows;
+        this.columns = boardCols;
+        int gap = tiles.getPitch() - tiles.getTileSize();
+        this.width = boardCols * tiles.getPitch() - gap;
+        this.height = visibleRows * tiles.getPitch() - gap;
+        this.composition = new BoardComposition(boardRows, boardCols);
+        this.cells = new int[visibleRows * boardCols];
+        this.pixels = new int[width * height];
+        Arrays.fill(cells, UNPAINTED);
+    }
+
+    /**
+     * Draws a frame, blitting only the tiles whose content changed since the last one.
+     *
+     * @param frame The frame; its board must have this raster's size.
+     * @param ghostVisible Whether the ghost piece is drawn.
+     */
+    public void render(RenderFrame frame, boolean ghostVisible) {
+        composition.compose(frame, ghostVisible);
+        for (int row = 0; row < visibleRows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int content = composition.get(row + hiddenRows, col);
+                int cell = row * columns + col;
+                if (cells[cell] != content) {
+                    blit(tiles.getTile(content), row, col);
+                    cells[cell] = content;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a copy of this image showing the given cells is out of date.
+     *
+     * @param shownCells The content of each visible cell in the copy, as filled in by {@link #copyChanges}.
+     * @return True if any cell differs.
+     */
+    public boolean hasChanges(int[] shownCells) {
+        return !Arrays.equals(cells, shownCells);
+    }
+
+    /**
+     * Brings a copy of this image up to date: copies the pixels of every cell whose
+     * content differs from what the copy shows, and records the new contents.
+     *
+     * @param shownCells The content of each visible cell in the copy; updated. Fill it
+     *                   with {@link #UNPAINTED} for a copy that shows nothing yet.
+     * @param target The copy, laid out like this image ({@link #getWidth()} pixels per row).
+     * @param dirty Receives the x, y, width and height of the region copied.
+     * @return True if anything was copied.
+     */
+    public boolean copyChanges(int[] shownCells, IntBuffer target, int[] dirty) {
+        int minRow = Integer.MAX_VALUE;
+        int minCol = Integer.MAX_VALUE;
+        int maxRow = -1;
+        int maxCol = -1;
+        for (int row = 0; row < visibleRows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int cell = row * columns + col;
+                if (shownCells[cell] != cells[cell]) {
+                    copyCell(target, row, col);
+                    shownCells[cell] = cells[cell];
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                }
+            }
+        }
+        if (maxRow < 0) {
+            return false;
+        }
+        int pitch = tiles.getPitch();
+        dirty[0] = minCol * pitch;
+        dirty[1] = minRow * pitch;
+        dirty[2] = Math.min(width, (maxCol + 1) * pitch) - dirty[0];
+        dirty[3] = Math.min(height, (maxRow + 1) * pitch) - dirty[1];
+        return true;
+    }
+
+    /**
+     * Returns the number of visible cells, i.e. the length of a shown-cells array.
+     *
+     * @return The visible rows times the columns.
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the image width.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the image height.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns one pixel of the image.
+     *
+     * @param x The column of the pixel.
+     * @param y The row of the pixel.
+     * @return The premultiplied ARGB pixel.
+     */
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * Copies a tile into the image, clipped at its right and bottom edges.
+     *
+     * @param tile The tile pixels.
+     * @param row The visible row of the cell.
+     * @param col The column of the cell.
+     */
+    private void blit(int[] tile, int row, int col) {
+        int pitch = tiles.getPitch();
+        int x = col * pitch;
+        int y = row * pitch;
+        int w = Math.min(pitch, width - x);
+        int h = Math.min(pitch, height - y);
+        for (int line = 0; line < h; line++) {
+            System.arraycopy(tile, line * pitch, pixels, (y + line) * width + x, w);
+        }
+    }
+
+    /**
+     * Copies the pixels of one cell into another image of the same layout.
+     *
+     * @param target The other image.
+     * @param row The visible row of the cell.
+     * @param col The column of the cell.
+     */
+    private void copyCell(IntBuffer target, int row, int col) {
+        int pitch = tiles.getPitch();
+        int x = col * pitch;
+        int y = row * pitch;
+        int w = Math.min(pitch, width - x);
+        int h = Math.min(pitch, height - y);
+        for (int line = 0; line < h; line++) {
+            int offset = (y + line) * width + x;
+            target.put(offset, pixels, offset, w);
+        }
+    }
+}
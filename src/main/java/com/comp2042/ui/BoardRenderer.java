@@ -0,0 +1,47 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.RenderFrame;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws the playfield of a {@link RenderFrame}: the grid lines, the landed blocks,
+ * the ghost piece and the active brick.
+ * Implementations share the game layout's board area, so only one is attached at
+ * a time; switching renderers detaches the current one and attaches the other to
+ * the frame on screen.
+ */
+public interface BoardRenderer {
+
+    /** Number of board rows above the visible area; board row {@code HIDDEN_ROWS} is drawn at the top. */
+    int HIDDEN_ROWS = 2;
+    /** Colour of the grid lines, 18% white, shared so every renderer draws the same grid. */
+    Color GRID_COLOR = Color.color(1, 1, 1, 0.18);
+
+    /**
+     * Takes over the board area and draws a frame in full.
+     *
+     * @param frame The frame on screen.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    void attach(RenderFrame frame, boolean ghostVisible);
+
+    /**
+     * Draws a frame, updating only what differs from the previous one.
+     *
+     * @param frame The frame to draw.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    void render(RenderFrame frame, boolean ghostVisible);
+
+    /**
+     * Clears the board area and releases the nodes this renderer added to it.
+     */
+    void detach();
+
+    /**
+     * Returns the number of scene graph nodes this renderer keeps for the board.
+     *
+     * @return The node count.
+     */
+    int getNodeCount();
+}
@@ -0,0 +1,150 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.BoardComposition;
+import com.comp2042.logic.RenderFrame;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+
+import java.util.Arrays;
+
+/**
+ * Immediate-mode board renderer: paints the grid lines, the landed blocks, the ghost
+ * piece and the active brick onto the grid canvas, so the whole playfield is a single
+ * node instead of a Rectangle per cell. Bricks are blitted from the
+ * {@link PieceRenderer}'s {@link TileAtlas}.
+ * It remembers what every visible cell shows and, for each frame, composes what it
+ * should show and repaints only the cells that differ: a brick moving one column
+ * touches a few tiles of the canvas, and a frame where nothing moved paints nothing.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    /** Content of a cell whose tile must be painted regardless, e.g. after the canvas was cleared. */
+    private static final int UNPAINTED = -1;
+
+    /** The landed-blocks panel; kept at the canvas size while attached so the layout does not shrink. */
+    private final GridPane gamePanel;
+    /** The canvas everything is painted on. */
+    private final Canvas canvas;
+    /** Styles the bricks. */
+    private final PieceRenderer renderer;
+    /** Pre-rendered brick and ghost tiles, fetched on attach. */
+    private TileAtlas atlas;
+    /** The total number of rows in the game board matrix (including hidden rows). */
+    private final int boardRows;
+    /** The total number of columns in the game board matrix. */
+    private final int boardCols;
+    /** Width of one tile: a brick plus the gap after it. */
+    private final double cellWidth;
+    /** Height of one tile: a brick plus the gap below it. */
+    private final double cellHeight;
+    /** What each board cell should show in the frame being drawn. */
+    private final BoardComposition wanted;
+    /** What each board cell shows on the canvas. */
+    private final int[][] shown;
+
+    /**
+     * Creates a renderer for a board of the given size. Nothing is painted until it is attached.
+     *
+     * @param gamePanel The GridPane the node renderer puts the landed blocks in; its gaps set the tile pitch.
+     * @param canvas The canvas to paint on.
+     * @param renderer The PieceRenderer for the brick colours.
+     * @param boardRows The number of board rows, including the hidden ones.
+     * @param boardCols The number of board columns.
+     */
+    public CanvasBoardRenderer(GridPane gamePanel, Canvas canvas, PieceRenderer renderer,
+                               int boardRows, int boardCols) {
+        this.gamePanel = gamePanel;
+        this.canvas = canvas;
+        this.renderer = renderer;
+        this.boardRows = boardRows;
+        this.boardCols = boardCols;
+        this.cellWidth = GameBoardView.BRICK_SIZE + gamePanel.getHgap();
+        this.cellHeight = GameBoardView.BRICK_SIZE + gamePanel.getVgap();
+        this.wanted = new BoardComposition(boardRows, boardCols);
+        this.shown = new int[boardRows][boardCols];
+    }
+
+    /**
+     * Sizes the canvas to the whole board, clears it and paints every cell of the frame.
+     *
+     * @param frame The frame on screen.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void attach(RenderFrame frame, boolean ghostVisible) {
+        double width = boardCols * cellWidth - gamePanel.getHgap();
+        double height = (boardRows - HIDDEN_ROWS) * cellHeight - gamePanel.getVgap();
+        canvas.setWidth(width);
+        canvas.setHeight(height);
+        gamePanel.setMinSize(width, height);
+        atlas = renderer.getAtlas(GameBoardView.BRICK_SIZE);
+        canvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+        for (int[] row : shown) {
+            Arrays.fill(row, UNPAINTED);
+        }
+        wanted.reset();
+        render(frame, ghostVisible);
+    }
+
+    /**
+     * Composes the frame's cells and repaints the tiles that changed.
+     *
+     * @param frame The frame to draw.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void render(RenderFrame frame, boolean ghostVisible) {
+        wanted.compose(frame, ghostVisible);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (int i = HIDDEN_ROWS; i < boardRows; i++) {
+            int[] have = shown[i];
+            for (int j = 0; j < boardCols; j++) {
+                int content = wanted.get(i, j);
+                if (content != have[j]) {
+                    paintCell(gc, i, j, content);
+                    have[j] = content;
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the canvas and lets the game panel size itself again.
+     */
+    @Override
+    public void detach() {
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gamePanel.setMinSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
+    }
+
+    /**
+     * Returns one: the whole board is the canvas.
+     *
+     * @return The node count.
+     */
+    @Override
+    public int getNodeCount() {
+        return 1;
+    }
+
+    /**
+     * Repaints one tile: clears it, draws the grid lines in the gaps to its right
+     * and below, then blits the brick or ghost it shows.
+     *
+     * @param gc The canvas's graphics context.
+     * @param row The board row.
+     * @param col The board column.
+     * @param content The colour id, optionally with {@link BoardComposition#GHOST} set; 0 for an empty cell.
+     */
+    private void paintCell(GraphicsContext gc, int row, int col, int content) {
+        double x = col * cellWidth;
+        double y = (row - HIDDEN_ROWS) * cellHeight;
+        gc.clearRect(x, y, cellWidth, cellHeight);
+        gc.setFill(GRID_COLOR);
+        gc.fillRect(x + GameBoardView.BRICK_SIZE, y, cellWidth - GameBoardView.BRICK_SIZE, cellHeight);
+        gc.fillRect(x, y + GameBoardView.BRICK_SIZE, GameBoardView.BRICK_SIZE, cellHeight - GameBoardView.BRICK_SIZE);
+        atlas.draw(gc, content & ~BoardComposition.GHOST, (content & BoardComposition.GHOST) != 0, x, y);
+    }
+}
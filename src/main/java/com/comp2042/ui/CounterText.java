@@ -0,0 +1,71 @@
+package com.comp2042.ui;
+
+/**
+ * Label text of a HUD counter, such as {@code "LEVEL 3"}, built without
+ * {@code String.format}. Values below the table size are built once and kept,
+ * so a counter with a small range (the level) never allocates again; for larger
+ * values the text of the last value is kept. Asking for an unchanged value
+ * therefore returns the same string, and setting it on a label is a no-op that
+ * triggers no text layout.
+ */
+public final class CounterText {
+
+    /** Text shown before the number. */
+    private final String prefix;
+    /** Texts of the values below the table size, built on first use. */
+    private final String[] table;
+    /** Reused to build texts outside the table. */
+    private final StringBuilder builder = new StringBuilder();
+    /** The last value built outside the table. */
+    private int lastValue;
+    /** Text of {@link #lastValue}, or null if none was built yet. */
+    private String lastText;
+
+    /**
+     * Creates the text source for one counter.
+     *
+     * @param prefix Text shown before the number, e.g. {@code "LEVEL "}; may be empty.
+     * @param tableSize How many values, from 0, have their text kept.
+     * @throws IllegalArgumentException if the table size is negative.
+     */
+    public CounterText(String prefix, int tableSize) {
+        if (tableSize < 0) {
+            throw new IllegalArgumentException("Table size cannot be negative: " + tableSize);
+        }
+        this.prefix = prefix;
+        this.table = new String[tableSize];
+    }
+
+    /**
+     * Returns the text for a value.
+     *
+     * @param value The counter value.
+     * @return The prefix followed by the value in decimal digits.
+     */
+    public String get(int value) {
+        if (value >= 0 && value < table.length) {
+            String text = table[value];
+            if (text == null) {
+                text = build(value);
+                table[value] = text;
+            }
+            return text;
+        }
+        if (lastText == null || value != lastValue) {
+            lastValue = value;
+            lastText = build(value);
+        }
+        return lastText;
+    }
+
+    /**
+     * Builds the text for a value.
+     *
+     * @param value The counter value.
+     * @return A new string with the prefix and the digits.
+     */
+    private String build(int value) {
+        builder.setLength(0);
+        return builder.append(prefix).append(value).toString();
+    }
+}
@@ -1,16 +1,23 @@
 package com.comp2042.ui;
 
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.RenderFrame;
+import com.comp2042.model.ViewData;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
+import java.util.Arrays;
+
 /**
- * Manages the background grid, the display matrix of landed blocks, and size constants.
- * Adheres to SRP by handling all aspects of the static game background.
+ * Node-based board renderer: a Rectangle per board cell in the game panel for the
+ * landed blocks, two small grids of rectangles translated over it for the active
+ * brick and its ghost, and the background grid lines on a canvas behind them.
+ * Also holds the board size constants.
+ * Adheres to SRP by handling all aspects of drawing the playfield with nodes.
  */
-public class GameBoardView {
+public class GameBoardView implements BoardRenderer {
 
     // Constant moved from GuiController
     /** The standard size of a single brick block in pixels. */
@@ -18,12 +25,26 @@ public class GameBoardView {
 
     /** The JavaFX GridPane that holds the visual representation of the game board. */
     private final GridPane gamePanel;
+    /** The GridPane holding the ghost piece's rectangles. */
+    private final GridPane ghostPanel;
+    /** The GridPane holding the active brick's rectangles. */
+    private final GridPane brickPanel;
     /** The JavaFX Canvas used to draw the background grid lines. */
     private final Canvas gridCanvas;
     /** A 2D array of JavaFX Rectangle objects representing the landed blocks on the board. */
     private final Rectangle[][] displayMatrix;
+    /** The colour id each rectangle is currently styled with, so unchanged cells are skipped. */
+    private final int[][] shownColors;
     /** The renderer responsible for styling individual brick rectangles. */
     private final PieceRenderer renderer;
+    /** Rectangles of the active brick, created on attach. */
+    private Rectangle[][] activeRects;
+    /** Rectangles of the ghost piece, created on attach. */
+    private Rectangle[][] ghostRects;
+    /** Board version of the landed blocks on screen. */
+    private long shownBoardVersion = -1;
+    /** The active brick, ghost and preview last drawn; its change bits say what the next frame moves. */
+    private final ViewData shownBrick = ViewData.createReusable();
 
     /** The calculated width of a single cell, including horizontal gap. */
     private final double cellWidth;
@@ -35,28 +56,33 @@ public class GameBoardView {
     private final int boardCols;
 
     /**
-     * Constructs a new GameBoardView, initializing the visual components for the game board.
+     * Constructs a new GameBoardView for a board of the given size. Nothing is
+     * drawn until it is attached.
      *
      * @param gamePanel The GridPane where landed bricks will be displayed.
+     * @param ghostPanel The GridPane where the ghost piece will be displayed.
+     * @param brickPanel The GridPane where the active brick will be displayed.
      * @param gridCanvas The Canvas used for drawing the background grid.
      * @param renderer The PieceRenderer for styling brick elements.
-     * @param boardMatrix The initial 2D array representing the game board state.
+     * @param boardRows The number of board rows, including the hidden ones.
+     * @param boardCols The number of board columns.
      */
-    public GameBoardView(GridPane gamePanel, Canvas gridCanvas, PieceRenderer renderer, int[][] boardMatrix) {
+    public GameBoardView(GridPane gamePanel, GridPane ghostPanel, GridPane brickPanel, Canvas gridCanvas,
+                         PieceRenderer renderer, int boardRows, int boardCols) {
         this.gamePanel = gamePanel;
+        this.ghostPanel = ghostPanel;
+        this.brickPanel = brickPanel;
         this.gridCanvas = gridCanvas;
         this.renderer = renderer;
-        this.boardRows = boardMatrix.length;
-        this.boardCols = boardMatrix[0].length;
+        this.boardRows = boardRows;
+        this.boardCols = boardCols;
 
         this.displayMatrix = new Rectangle[boardRows][boardCols];
+        this.shownColors = new int[boardRows][boardCols];
 
         // Calculations moved from GuiController
         this.cellWidth  = BRICK_SIZE + gamePanel.getHgap();
         this.cellHeight = BRICK_SIZE + gamePanel.getVgap();
-
-        initGridCanvas();
-        initDisplayMatrix(boardMatrix);
     }
 
     //Public Getters
@@ -77,7 +103,7 @@ public class GameBoardView {
      *
      * @return The count of visible rows.
      */
-    public int getVisibleRows() { return boardRows - 2; }
+    public int getVisibleRows() { return boardRows - HIDDEN_ROWS; }
 
 
     // Setup Methods
@@ -104,22 +130,58 @@ public class GameBoardView {
      * Initializes the static grid of rectangles for landed blocks.
      * Includes the critical fix to clear old rectangles on new game start.
      *
-     * @param boardMatrix The initial state of the game board matrix.
+     * @param frame The frame whose board is shown first.
      */
-    private void initDisplayMatrix(int[][] boardMatrix) {
+    private void initDisplayMatrix(RenderFrame frame) {
 
         // FIX for 'Play Again': Remove all previous Rectangle objects (landed pieces) from the gamePanel.
         // This ensures a clean slate when the GameBoardView is recreated.
         gamePanel.getChildren().removeIf(node -> node instanceof Rectangle);
 
         // Initialize the landed blocks (displayMatrix)
-        for (int i = 2; i < boardRows; i++) {
+        for (int i = HIDDEN_ROWS; i < boardRows; i++) {
             for (int j = 0; j < boardCols; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                renderer.styleBrickRectangle(boardMatrix[i][j], rectangle);
+                Rectangle rectangle = renderer.createBrickRectangle(BRICK_SIZE);
+                renderer.styleBrickRectangle(frame.getCell(i, j), rectangle);
 
                 this.displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2); // board row i -> visible row i-2
+                this.shownColors[i][j] = frame.getCell(i, j);
+                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+        shownBoardVersion = frame.getBoardVersion();
+    }
+
+    /**
+     * Initializes the visual containers for the active falling brick and the ghost piece.
+     * Creates and styles the rectangles for both.
+     *
+     * @param brick The ViewData for the current brick.
+     */
+    private void initPieceContainers(ViewData brick) {
+        brickPanel.getChildren().clear();
+        ghostPanel.getChildren().clear();
+
+        BrickShape shape = brick.getBrickShape();
+        // Falling brick (active piece)
+        activeRects = new Rectangle[shape.getHeight()][shape.getWidth()];
+        for (int i = 0; i < shape.getHeight(); i++) {
+            for (int j = 0; j < shape.getWidth(); j++) {
+                Rectangle rectangle = renderer.createBrickRectangle(BRICK_SIZE);
+                renderer.styleBrickRectangle(shape.getCell(i, j), rectangle);
+                activeRects[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+
+        //Ghost brick
+        ghostRects = new Rectangle[shape.getHeight()][shape.getWidth()];
+        for (int i = 0; i < shape.getHeight(); i++) {
+            for (int j = 0; j < shape.getWidth(); j++) {
+                Rectangle g = renderer.createBrickRectangle(BRICK_SIZE);
+                renderer.styleGhostRectangle(shape.getCell(i, j), g);
+                ghostRects[i][j] = g;
+                ghostPanel.add(g, j, i);
             }
         }
     }
@@ -137,7 +199,7 @@ public class GameBoardView {
         GraphicsContext gc = gridCanvas.getGraphicsContext2D();
         gc.clearRect(0, 0, gridCanvas.getWidth(), gridCanvas.getHeight());
 
-        gc.setStroke(Color.color(1, 1, 1, 0.18)); // 18% opacity
+        gc.setStroke(GRID_COLOR);
         gc.setLineWidth(1);
 
         double width  = boardCols * cellWidth  - gamePanel.getHgap();
@@ -157,19 +219,135 @@ public class GameBoardView {
     }
 
     /**
-     * Updates the color of landed blocks based on the game board state.
+     * Updates the landed blocks to a frame of the simulation, restyling only the
+     * cells whose colour differs from what is shown. Frames can skip clears, so
+     * the whole visible board is compared rather than replaying row shifts.
+     *
+     * @param frame The frame being rendered.
      */
+    private void refreshBoard(RenderFrame frame) {
+        for (int i = HIDDEN_ROWS; i < boardRows; i++) {
+            int[] shown = shownColors[i];
+            for (int j = 0; j < boardCols; j++) {
+                int value = frame.getCell(i, j);
+                if (shown[j] != value) {
+                    renderer.styleBrickRectangle(value, displayMatrix[i][j]);
+                    shown[j] = value;
+                }
+            }
+        }
+    }
+
     /**
-     * Updates the visual representation of the landed blocks on the game board
-     * based on the current state of the game matrix.
+     * Updates the on-screen positions of the active brick and ghost piece based on the provided {@code ViewData}.
      *
-     * @param board The current 2D integer array representing the game board.
+     * @param brick The {@code ViewData} containing the updated positions.
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < boardRows; i++) {
-            for (int j = 0; j < boardCols; j++) {
-                renderer.styleBrickRectangle(board[i][j], displayMatrix[i][j]);
+    private void updatePiecePositions(ViewData brick) {
+        int visibleY = brick.getyPosition() - HIDDEN_ROWS;
+        int visibleGhostY = brick.getGhostYPosition() - HIDDEN_ROWS;
+
+        brickPanel.setTranslateX(brick.getxPosition() * cellWidth);
+        brickPanel.setTranslateY(visibleY * cellHeight);
+
+        ghostPanel.setTranslateX(brick.getxPosition() * cellWidth);
+        ghostPanel.setTranslateY((visibleGhostY * cellHeight)-1.5); //hardcoded to fix ghostpiece overlapping with border
+    }
+
+    /**
+     * Refreshes the visual representation of the active brick and ghost piece.
+     * Only the parts that differ from the last drawn frame are touched: a move
+     * or drop just translates the panels, and the rectangles are restyled only
+     * when the shape changes (a rotation or a new brick).
+     *
+     * @param brick The {@code ViewData} containing the brick's current state.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    private void refreshBrick(ViewData brick, boolean ghostVisible) {
+        int changes = shownBrick.update(brick).getChanges();
+        if ((changes & (ViewData.POSITION | ViewData.GHOST)) != 0) {
+            updatePiecePositions(brick);
+        }
+
+        if ((changes & ViewData.SHAPE) != 0) {
+            // Read the shared shape directly; getBrickData() would copy the matrix per cell
+            BrickShape shape = brick.getBrickShape();
+            for (int i = 0; i < shape.getHeight(); i++) {
+                for (int j = 0; j < activeRects[i].length; j++) {
+                    int value = shape.getCell(i, j);
+                    renderer.styleBrickRectangle(value, activeRects[i][j]);
+                    renderer.styleGhostRectangle(value, ghostRects[i][j]);
+                }
             }
         }
+
+        ghostPanel.setVisible(ghostVisible);
+    }
+
+    // --- BoardRenderer ---
+
+    /**
+     * Draws the grid, creates a rectangle for every visible cell and for the
+     * active brick and ghost, and shows the frame.
+     *
+     * @param frame The frame on screen.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void attach(RenderFrame frame, boolean ghostVisible) {
+        initGridCanvas();
+        initDisplayMatrix(frame);
+        initPieceContainers(frame.getActiveBrick());
+        shownBrick.update(frame.getActiveBrick());
+        updatePiecePositions(frame.getActiveBrick());
+        ghostPanel.setVisible(ghostVisible);
+    }
+
+    /**
+     * Restyles the landed blocks if the board changed, then moves the active brick
+     * and ghost, restyling them only if the shape changed.
+     *
+     * @param frame The frame to draw.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void render(RenderFrame frame, boolean ghostVisible) {
+        if (frame.getBoardVersion() != shownBoardVersion) {
+            shownBoardVersion = frame.getBoardVersion();
+            refreshBoard(frame);
+        }
+        refreshBrick(frame.getActiveBrick(), ghostVisible);
+    }
+
+    /**
+     * Removes every rectangle this view created and clears the grid lines.
+     */
+    @Override
+    public void detach() {
+        gamePanel.getChildren().removeIf(node -> node instanceof Rectangle);
+        brickPanel.getChildren().clear();
+        ghostPanel.getChildren().clear();
+        brickPanel.setTranslateX(0);
+        brickPanel.setTranslateY(0);
+        ghostPanel.setTranslateX(0);
+        ghostPanel.setTranslateY(0);
+        for (Rectangle[] row : displayMatrix) {
+            Arrays.fill(row, null);
+        }
+        activeRects = null;
+        ghostRects = null;
+        shownBoardVersion = -1;
+        gridCanvas.getGraphicsContext2D().clearRect(0, 0, gridCanvas.getWidth(), gridCanvas.getHeight());
+    }
+
+    /**
+     * Returns the rectangles in the three panels plus the grid canvas.
+     *
+     * @return The node count.
+     */
+    @Override
+    public int getNodeCount() {
+        return gamePanel.getChildren().size() + brickPanel.getChildren().size()
+                + ghostPanel.getChildren().size() + 1;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.GameSimulation;
+import com.comp2042.logic.InputRepeater;
+import com.comp2042.logic.LatencyHistogram;
+import com.comp2042.logic.RenderFrame;
+import com.comp2042.model.EventType;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.Consumer;
+
+/**
+ * Frame loop connecting the JavaFX thread to a {@link GameSimulation} running on its own thread.
+ * Each pulse polls the player's held keys from an {@link InputRepeater}, so auto-shift
+ * and auto-repeat are timed on the UI's key timestamps, queues the resulting inputs
+ * on the simulation, then acquires the newest {@link RenderFrame} and renders it once.
+ * Gravity, the bot and every rule run on the simulation thread, so a line clear or a
+ * slow bot decision never delays a frame.
+ * After rendering, the time from each player input to the first frame that includes
+ * it is recorded in a {@link LatencyHistogram}, and each pulse is timed by a
+ * {@link PulseMeter} once the owner reports the scene laid out.
+ */
+public class GameLoop extends AnimationTimer {
+
+    /** Inputs whose timestamps are kept until the simulation reports them applied; a power of two. */
+    private static final int MAX_PENDING_INPUTS = 64;
+
+    /** The game being played. */
+    private final GameSimulation simulation;
+    /** The player's held keys. */
+    private final InputRepeater input;
+    /** UI feedback for an input once it is queued, e.g. a sound. */
+    private final InputRepeater.Sink onInput;
+    /** Draws a frame. */
+    private final Consumer<RenderFrame> render;
+    /** Queues each polled input on the simulation; created once. */
+    private final InputRepeater.Sink submitInput = this::submit;
+    /** Timestamps of queued inputs, indexed by their number modulo the capacity. */
+    private final long[] inputNanos = new long[MAX_PENDING_INPUTS];
+    /** Number of inputs queued on the simulation so far. */
+    private long submitted;
+    /** Number of queued inputs whose latency has been recorded (or given up on). */
+    private long timed;
+    /** Time from player inputs to the frame that shows them. */
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    /** Time and allocations of the pulses this loop renders. */
+    private final PulseMeter pulseMeter = new PulseMeter();
+
+    /**
+     * Creates a stopped loop.
+     *
+     * @param simulation The game being played.
+     * @param input The player's held keys, polled once per pulse.
+     * @param onInput Called for each input queued on the simulation.
+     * @param render Draws a frame; called once per pulse with the newest frame.
+     */
+    public GameLoop(GameSimulation simulation, InputRepeater input, InputRepeater.Sink onInput,
+                    Consumer<RenderFrame> render) {
+        this.simulation = simulation;
+        this.input = input;
+        this.onInput = onInput;
+        this.render = render;
+    }
+
+    /**
+     * Queues the inputs due at this pulse, then renders the newest frame.
+     *
+     * @param now The pulse timestamp in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        pulseMeter.begin();
+        input.poll(now, submitInput);
+        RenderFrame frame = simulation.acquireFrame();
+        render.accept(frame);
+        // The scene graph is synced right after this pulse, so this is when the frame shows
+        long shown = System.nanoTime();
+        long applied = frame.getAppliedInputs();
+        for (; timed < applied && timed < submitted; timed++) {
+            if (submitted - timed <= MAX_PENDING_INPUTS) {
+                inputLatency.record(shown - inputNanos[(int) (timed & (MAX_PENDING_INPUTS - 1))]);
+            }
+        }
+    }
+
+    /**
+     * Queues one polled player input and remembers when it happened.
+     *
+     * @param type The input.
+     * @param at When it was pressed or fell due.
+     */
+    private void submit(EventType type, long at) {
+        if (simulation.submit(type)) {
+            inputNanos[(int) (submitted & (MAX_PENDING_INPUTS - 1))] = at;
+            submitted++;
+            onInput.accept(type, at);
+        }
+    }
+
+    /**
+     * Returns the input-to-display latencies recorded so far, for tuning.
+     *
+     * @return The live histogram.
+     */
+    public LatencyHistogram getInputLatency() {
+        return inputLatency;
+    }
+
+    /**
+     * Returns the meter timing this loop's pulses. Its {@link PulseMeter#end()} must
+     * be called once the scene is laid out, e.g. from a post-layout pulse listener.
+     *
+     * @return The meter.
+     */
+    public PulseMeter getPulseMeter() {
+        return pulseMeter;
+    }
+}
@@ -23,18 +23,24 @@ public class GameSettings {
     private static final String GHOST_MODE_KEY = "ghostMode";
     /** Key for storing the theme setting in preferences. */
     private static final String THEME_KEY = "theme";
+    /** Key for storing the board renderer setting in preferences. */
+    private static final String RENDER_MODE_KEY = "renderMode";
 
     // Default values
     /** Default value for ghost mode. */
     private static final boolean DEFAULT_GHOST_MODE = true;
     /** Default value for the application theme. */
     private static final Theme DEFAULT_THEME = Theme.DARK;
+    /** Default value for the board renderer. */
+    private static final RenderMode DEFAULT_RENDER_MODE = RenderMode.CANVAS;
 
     // Current values
     /** The current state of ghost mode (enabled/disabled). */
     private boolean ghostModeEnabled;
     /** The currently selected theme. */
     private Theme currentTheme;
+    /** The currently selected board renderer. */
+    private RenderMode renderMode;
 
     /**
      * Private constructor to enforce the Singleton pattern.
@@ -65,6 +71,8 @@ public class GameSettings {
         ghostModeEnabled = prefs.getBoolean(GHOST_MODE_KEY, DEFAULT_GHOST_MODE);
         String themeName = prefs.get(THEME_KEY, DEFAULT_THEME.name());
         currentTheme = Theme.fromString(themeName);
+        String renderModeName = prefs.get(RENDER_MODE_KEY, DEFAULT_RENDER_MODE.name());
+        renderMode = RenderMode.fromString(renderModeName);
     }
 
     // Ghost Mode
@@ -106,4 +114,24 @@ public class GameSettings {
         this.currentTheme = theme;
         prefs.put(THEME_KEY, theme.name());
     }
+
+    // Renderer
+    /**
+     * Returns the currently selected board renderer.
+     *
+     * @return The current {@code RenderMode} enum value.
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Sets the board renderer and persists the setting.
+     *
+     * @param mode The {@code RenderMode} enum value to set.
+     */
+    public void setRenderMode(RenderMode mode) {
+        this.renderMode = mode;
+        prefs.put(RENDER_MODE_KEY, mode.name());
+    }
 }
\ No newline at end of file
@@ -7,7 +7,6 @@ import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -37,7 +36,9 @@ import com.comp2042.audio.SoundEffect;
 
 /**
  * Controller class managing high-level UI interaction, state, and delegating
- * rendering responsibilities to dedicated view components (GameBoardView, NextPieceView).
+ * rendering responsibilities to dedicated view components (a {@link BoardRenderer}, NextPieceView).
+ * The game itself runs in a {@link GameSimulation} on its own thread; this class queues
+ * the player's inputs on it and draws the newest {@link RenderFrame} once per pulse.
  *
  * Design Patterns Used:
  * - Observer Pattern: Uses GameSettings singleton to react to setting changes
@@ -54,34 +55,67 @@ public class GuiController implements Initializable {
     @FXML private GameOverPanel gameOverPanel; // Panel displayed when the game is over.
     @FXML private Label scoreLabel, highLabel, levelLabel; // Labels for displaying score, high score, and current level.
     @FXML private Pane nextPane; // Pane for displaying the next falling brick preview.
+    @FXML private Pane queuePane; // Pane for displaying the bricks queued after the next one.
     @FXML private Button btnPlay, btnPause, btnMainMenu; // Buttons for playing, pausing, and returning to main menu.
     @FXML private Rectangle dangerLine; // Visual indicator for the "danger zone" at the top of the board.
+    @FXML private Label latencyLabel; // Input latency and renderer readout, toggled with F3.
 
 
     /** Timeline for animating the flashing danger line at the top of the game board. */
     private Timeline dangerLineFlashTimeline;
-    /** The main game timeline, controlling the automatic downward movement of bricks. */
-    private Timeline timeLine;
-    /** Listener for handling input events, typically the GameController. */
-    private InputEventListener eventListener;
-    /** The current speed of the game (interval in milliseconds for brick to move down). */
-    private int currentGameSpeed = 400;
+    /** The game, running on its own thread. */
+    private GameSimulation simulation;
+    /** The frame loop, queuing inputs and drawing the simulation's frames on every pulse. */
+    private GameLoop gameLoop;
+    /** Held movement keys, turned into inputs with DAS/ARR when the game loop polls it. */
+    private final InputRepeater inputRepeater = new InputRepeater();
+    /** Frames to wait before the latency readout is refreshed again. */
+    private int latencyRefreshCountdown;
+    /** Number of frames between two refreshes of the latency readout. */
+    private static final int LATENCY_REFRESH_FRAMES = 30;
+    /** True while the bot plays on the player's behalf. */
+    private boolean botEnabled;
     /** The audio manager for playing sound effects and music. */
     private AudioManager audioManager;
 
 
     /** Renderer responsible for styling game pieces. */
     private PieceRenderer renderer;
-    /** View component responsible for rendering the main game board background. */
-    private GameBoardView gameBoardView;
+    /** Draws the playfield; one of the two renderers below, per {@link #renderMode}. */
+    private BoardRenderer boardRenderer;
+    /** The Rectangle-per-cell renderer, created on first use. */
+    private GameBoardView nodeRenderer;
+    /** The single-canvas renderer, created on first use. */
+    private CanvasBoardRenderer canvasRenderer;
+    /** The renderer rasterizing on the simulation thread, created on first use. */
+    private PixelBoardRenderer pixelRenderer;
+    /** The renderer in use. */
+    private RenderMode renderMode;
+    /** The frame the game loop holds, so a renderer switched to mid-game can draw it in full. */
+    private RenderFrame shownFrame;
+    /** Scene the pulse meter's post-layout listener is registered on, or null. */
+    private Scene meteredScene;
+    /** Ends the game loop's pulse measurement once the scene is laid out. */
+    private final Runnable pulseLaidOut = () -> {
+        if (gameLoop != null) {
+            gameLoop.getPulseMeter().end();
+        }
+    };
     /** View component responsible for rendering the next piece preview. */
     private NextPieceView nextPieceView;
-
-
-    /** 2D array of Rectangles representing the active falling brick. */
-    private Rectangle[][] activeRects;
-    /** 2D array of Rectangles representing the ghost piece. */
-    private Rectangle[][] ghostRects;
+    /** Texts of the sidebar counters; an unchanged value yields the same string, so its label is not laid out again. */
+    private final CounterText scoreText = new CounterText("Score: ", 0);
+    private final CounterText highScoreText = new CounterText("High Score: ", 0);
+    private final CounterText levelText = new CounterText("LEVEL ", Constants.MAX_LEVEL + 1);
+
+    // What the last drawn frame showed, to spot what changed in the next one
+    /** The game the view shows; frames of earlier games still in flight are skipped. */
+    private int shownGame;
+    private long renderedSequence;
+    private long renderedLocks;
+    private long renderedLineClears;
+    private long renderedClearBonus;
+    private final long[] renderedCombos = new long[RenderFrame.MAX_COMBO_LINES + 1];
 
     /** The primary stage of the application. */
     private Stage primaryStage;
@@ -152,35 +186,109 @@ public class GuiController implements Initializable {
         gamePanel.setFocusTraversable(true);
         gamePanel.requestFocus();
 
-        //Use lambda and fix for immutable MoveEvent (creating new event objects)
+        // Movement keys only record their state here; the game loop polls the
+        // repeater every pulse, which applies DAS/ARR on the engine's own clock.
         gamePanel.setOnKeyPressed(keyEvent -> {
-            if (!isPause.get() && !isGameOver.get()) {
-                KeyCode code = keyEvent.getCode();
-
-                if (code == KeyCode.LEFT || code == KeyCode.A) {
-                    refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                    keyEvent.consume();
-                } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-                    refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                    keyEvent.consume();
-                } else if (code == KeyCode.UP || code == KeyCode.W) {
-                    audioManager.playSound(SoundEffect.PIECE_ROTATE);
-                    refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                    keyEvent.consume();
-                } else if (code == KeyCode.DOWN || code == KeyCode.S) {
-                    moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-                    keyEvent.consume();
-                } else if (code == KeyCode.SPACE) {
-                    hardDrop(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
-                    keyEvent.consume();
+            KeyCode code = keyEvent.getCode();
+            EventType input = inputFor(code);
+            if (input != null) {
+                if (!isPause.get() && !isGameOver.get()) {
+                    inputRepeater.keyPressed(input, System.nanoTime());
                 }
+                keyEvent.consume();
             }
 
-            if (keyEvent.getCode() == KeyCode.N) {
+            if (code == KeyCode.N) {
                 newGame(null);
                 keyEvent.consume();
             }
+
+            if (code == KeyCode.B) {
+                toggleBot();
+                keyEvent.consume();
+            }
+
+            if (code == KeyCode.F3) {
+                latencyLabel.setVisible(!latencyLabel.isVisible());
+                keyEvent.consume();
+            }
+
+            if (code == KeyCode.F4) {
+                if (renderMode != null) {
+                    setRenderMode(renderMode.next());
+                }
+                keyEvent.consume();
+            }
         });
+
+        // Releases are always recorded, so a key let go while paused does not stay held
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            EventType input = inputFor(keyEvent.getCode());
+            if (input != null) {
+                inputRepeater.keyReleased(input, System.nanoTime());
+                keyEvent.consume();
+            }
+        });
+    }
+
+    /**
+     * Maps a key to the game input it is bound to.
+     *
+     * @param code The key.
+     * @return The input, or null if the key does not move the brick.
+     */
+    private static EventType inputFor(KeyCode code) {
+        switch (code) {
+            case LEFT:
+            case A:
+                return EventType.LEFT;
+            case RIGHT:
+            case D:
+                return EventType.RIGHT;
+            case UP:
+            case W:
+                return EventType.ROTATE;
+            case DOWN:
+            case S:
+                return EventType.DOWN;
+            case SPACE:
+                return EventType.HARD_DROP;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gives feedback for one player input queued on the simulation.
+     *
+     * @param type The input.
+     * @param inputNanos When it was pressed or fell due.
+     */
+    private void playerMove(EventType type, long inputNanos) {
+        if (type == EventType.ROTATE) {
+            audioManager.playSound(SoundEffect.PIECE_ROTATE);
+        }
+    }
+
+    /**
+     * Turns bot mode on or off. While on, the simulation has the bot send one input
+     * every {@link Constants#BOT_MOVE_MILLIS} ms, and gravity keeps running as usual.
+     */
+    private void toggleBot() {
+        setBotEnabled(!botEnabled);
+    }
+
+    /**
+     * Turns bot mode on or off.
+     *
+     * @param enabled True to let the bot play.
+     */
+    public void setBotEnabled(boolean enabled) {
+        if (simulation == null) {
+            return;
+        }
+        botEnabled = enabled;
+        simulation.setBotEnabled(enabled);
     }
 
     /**
@@ -208,20 +316,27 @@ public class GuiController implements Initializable {
 
 
     /**
-     * Called by the game logic to fully initialize the view for a new game.
-     * Sets up view components, piece containers, and starts the game timeline.
+     * Builds the view for a simulation and starts playing it: sets up the view
+     * components from its first frame, binds the score labels, then starts the
+     * simulation thread and the frame loop.
      *
-     * @param boardMatrix The initial state of the game board.
-     * @param brick The initial ViewData for the first falling brick.
+     * @param simulation A simulation that has not been started.
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void startGame(GameSimulation simulation) {
+        this.simulation = simulation;
+        RenderFrame frame = simulation.acquireFrame();
+        shownGame = frame.getGameNumber();
 
         this.renderer = new PieceRenderer();
-        this.gameBoardView = new GameBoardView(gamePanel, gridCanvas, renderer, boardMatrix);
-        this.nextPieceView = new NextPieceView(nextPane, renderer);
+        this.nextPieceView = new NextPieceView(nextPane, queuePane, renderer);
 
-        initPieceContainers(brick);
-        nextPieceView.update(brick.getNextBrickData());
+        shownFrame = frame;
+        renderMode = gameSettings.getRenderMode();
+        boardRenderer = rendererFor(renderMode, frame);
+        boardRenderer.attach(frame, gameSettings.isGhostModeEnabled());
+        nextPieceView.update(frame.getActiveBrick());
+
+        showCounters(frame);
 
         isPause.set(false);
         isGameOver.set(false);
@@ -238,133 +353,153 @@ public class GuiController implements Initializable {
             ThemeManager.applyTheme(gamePanel.getScene());
         }
 
-        startGameTimeline();
+        simulation.start();
+        startGameLoop();
     }
 
     /**
-     * Initializes the visual containers for the active falling brick and the ghost piece.
-     * Creates and styles the rectangles for both.
+     * Switches the board to another renderer while playing: the current one is
+     * detached and the new one draws the frame on screen. The choice is saved.
      *
-     * @param brick The ViewData for the current brick.
+     * @param mode The renderer to use.
      */
-    private void initPieceContainers(ViewData brick) {
-        brickPanel.getChildren().clear();
-        ghostPanel.getChildren().clear();
-
-        // Falling brick (active piece)
-        activeRects = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameBoardView.BRICK_SIZE, GameBoardView.BRICK_SIZE);
-                renderer.styleBrickRectangle(brick.getBrickData()[i][j], rectangle);
-                activeRects[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+    public void setRenderMode(RenderMode mode) {
+        gameSettings.setRenderMode(mode);
+        if (boardRenderer == null || mode == renderMode) {
+            return;
         }
-
-        //Ghost brick
-        ghostRects = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle g = new Rectangle(GameBoardView.BRICK_SIZE, GameBoardView.BRICK_SIZE);
-                renderer.styleGhostRectangle(brick.getBrickData()[i][j], g);
-                ghostRects[i][j] = g;
-                ghostPanel.add(g, j, i);
-            }
+        boardRenderer.detach();
+        renderMode = mode;
+        boardRenderer = rendererFor(mode, shownFrame);
+        boardRenderer.attach(shownFrame, gameSettings.isGhostModeEnabled());
+        if (gameLoop != null) {
+            gameLoop.getPulseMeter().reset();
         }
-
-        ghostPanel.setVisible(gameSettings.isGhostModeEnabled());
-
-        updatePiecePositions(brick);
-
     }
 
     /**
-     * Starts or restarts the main game timeline, controlling the automatic brick descent.
-     * The speed is determined by {@code currentGameSpeed}.
+     * Returns the board renderer of a mode, creating it on first use.
+     *
+     * @param mode The renderer wanted.
+     * @param frame A frame giving the board size.
+     * @return The renderer.
      */
-    private void startGameTimeline() {
-        if (timeLine != null) {
-            timeLine.stop();
+    private BoardRenderer rendererFor(RenderMode mode, RenderFrame frame) {
+        switch (mode) {
+            case NODES:
+                if (nodeRenderer == null) {
+                    nodeRenderer = new GameBoardView(gamePanel, ghostPanel, brickPanel, gridCanvas, renderer,
+                            frame.getHeight(), frame.getWidth());
+                }
+                return nodeRenderer;
+            case CANVAS:
+                if (canvasRenderer == null) {
+                    canvasRenderer = new CanvasBoardRenderer(gamePanel, gridCanvas, renderer,
+                            frame.getHeight(), frame.getWidth());
+                }
+                return canvasRenderer;
+            case PIXELS:
+                if (pixelRenderer == null) {
+                    pixelRenderer = new PixelBoardRenderer(gamePanel, gridCanvas, simulation, renderer,
+                            frame.getHeight(), frame.getWidth());
+                }
+                return pixelRenderer;
+            default:
+                throw new IllegalArgumentException("Unknown render mode: " + mode);
         }
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(currentGameSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
     }
 
     /**
-     * Updates the game speed and restarts the game timeline if necessary.
+     * Returns the number of scene graph nodes the board renderer in use keeps.
      *
-     * @param newSpeed The new interval in milliseconds for brick movement.
+     * @return The node count, or 0 before a game is started.
      */
-    public void updateGameSpeed(int newSpeed) {
-        this.currentGameSpeed = newSpeed;
-        if (timeLine != null && !isPause.get() && !isGameOver.get()) {
-            //Restart timeline with new speed
-            startGameTimeline();
-        }
+    public int getBoardNodeCount() {
+        return boardRenderer == null ? 0 : boardRenderer.getNodeCount();
     }
 
     /**
-     * Refreshes the visual background of the game board with the latest state of landed blocks.
+     * Returns the meter timing the game loop's pulses.
      *
-     * @param board The 2D integer array representing the game board's current state.
+     * @return The meter, or null before a game is started.
      */
-    public void refreshGameBackground(int[][] board) {
-        if (gameBoardView != null) {
-            gameBoardView.refreshGameBackground(board);
+    public PulseMeter getPulseMeter() {
+        return gameLoop == null ? null : gameLoop.getPulseMeter();
+    }
+
+    /**
+     * Starts the frame loop, creating it on first use.
+     */
+    private void startGameLoop() {
+        if (gameLoop == null) {
+            gameLoop = new GameLoop(simulation, inputRepeater, this::playerMove, this::renderFrame);
         }
+        inputRepeater.releaseAll();
+        gameLoop.start();
     }
 
     /**
-     * Updates the on-screen positions of the active brick and ghost piece based on the provided {@code ViewData}.
+     * Renders one pulse: the simulation's frame if it is new, and the latency readout while it is shown.
      *
-     * @param brick The {@code ViewData} containing the updated positions.
+     * @param frame The newest frame of the simulation.
      */
-    private void updatePiecePositions(ViewData brick) {
-        if (gameBoardView == null) return;
-
-        double cellWidth = gameBoardView.getCellWidth();
-        double cellHeight = gameBoardView.getCellHeight();
-
-        // board row 2 = visible row 0
-        int visibleY = brick.getyPosition() - 2;
-        int visibleGhostY = brick.getGhostYPosition() - 2;
-
-        brickPanel.setTranslateX(brick.getxPosition() * cellWidth);
-        brickPanel.setTranslateY(visibleY * cellHeight);
-
-        ghostPanel.setTranslateX(brick.getxPosition() * cellWidth);
-        ghostPanel.setTranslateY((visibleGhostY * cellHeight)-1.5); //hardcoded to fix ghostpiece overlapping with border
+    private void renderFrame(RenderFrame frame) {
+        // The frame the loop holds; a later acquire may hand older ones back to the simulation
+        shownFrame = frame;
+        Scene scene = gamePanel.getScene();
+        if (meteredScene != scene && scene != null) {
+            if (meteredScene != null) {
+                meteredScene.removePostLayoutPulseListener(pulseLaidOut);
+            }
+            scene.addPostLayoutPulseListener(pulseLaidOut);
+            meteredScene = scene;
+        }
+        if (frame.getSequence() != renderedSequence) {
+            renderedSequence = frame.getSequence();
+            drawFrame(frame);
+        }
+        if (latencyLabel.isVisible() && --latencyRefreshCountdown <= 0) {
+            latencyRefreshCountdown = LATENCY_REFRESH_FRAMES;
+            latencyLabel.setText("Input latency " + gameLoop.getInputLatency()
+                    + "\n" + renderMode.getDisplayName() + " renderer, " + boardRenderer.getNodeCount()
+                    + " nodes, " + gameLoop.getPulseMeter());
+        }
     }
 
     /**
-     * Refreshes the visual representation of the active brick and ghost piece.
-     * Updates their positions and styling based on the provided {@code ViewData}.
+     * Draws a new frame and reacts to the events since the previous one: sounds,
+     * score notifications, combo statistics and the end of the game.
      *
-     * @param brick The {@code ViewData} containing the brick's current state.
+     * @param frame The frame to draw.
      */
-    private void refreshBrick(ViewData brick) {
-        if (isPause.get() || gameBoardView == null) return;
-
-        updatePiecePositions(brick);
-
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                int value = brick.getBrickData()[i][j];
-                renderer.styleBrickRectangle(value, activeRects[i][j]);
-                renderer.styleGhostRectangle(value, ghostRects[i][j]);
+    private void drawFrame(RenderFrame frame) {
+        boolean current = frame.getGameNumber() >= shownGame;
+        if (current) {
+            boardRenderer.render(frame, gameSettings.isGhostModeEnabled());
+            nextPieceView.update(frame.getActiveBrick());
+            showCounters(frame);
+
+            if (frame.getLineClears() != renderedLineClears) {
+                audioManager.playSound(SoundEffect.LINE_CLEAR);
+                showScoreNotification((int) (frame.getClearBonusTotal() - renderedClearBonus));
+            } else if (frame.getLocks() != renderedLocks) {
+                audioManager.playSound(SoundEffect.PIECE_DROP);
+            }
+            for (int lines = 1; lines <= RenderFrame.MAX_COMBO_LINES; lines++) {
+                for (long i = renderedCombos[lines]; i < frame.getCombos(lines); i++) {
+                    playerStats.recordCombo(lines);
+                }
             }
         }
+        renderedLocks = frame.getLocks();
+        renderedLineClears = frame.getLineClears();
+        renderedClearBonus = frame.getClearBonusTotal();
+        for (int lines = 1; lines <= RenderFrame.MAX_COMBO_LINES; lines++) {
+            renderedCombos[lines] = frame.getCombos(lines);
+        }
 
-        ghostPanel.setVisible(gameSettings.isGhostModeEnabled());
-
-        if (nextPieceView != null) {
-            nextPieceView.update(brick.getNextBrickData());
+        if (current && frame.isGameOver() && !isGameOver.get()) {
+            gameOver();
         }
     }
 
@@ -382,104 +517,33 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Handles the downward movement of the current brick, whether initiated by user input or game timer.
-     * Processes game logic, updates UI, plays sounds, and handles piece landing/line clearing.
+     * Shows a frame's score, high score and level in the sidebar, once per drawn
+     * frame. A label's text is only replaced when its value changed.
      *
-     * @param event The {@code MoveEvent} triggering the downward movement.
+     * @param frame The frame being drawn.
      */
-    private void moveDown(MoveEvent event) {
-        if (isPause.get() || isGameOver.get()) return;
-
-        DownData downData = eventListener.onDownEvent(event);
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-            audioManager.playSound(SoundEffect.LINE_CLEAR);
-            showScoreNotification(downData.getClearRow().getScoreBonus());
-        } else if (downData.isPieceLanded()) { // Play drop sound only if piece landed and no lines cleared
-            audioManager.playSound(SoundEffect.PIECE_DROP);
-        }
-        refreshBrick(downData.getViewData());
-        gamePanel.requestFocus();
-    }
-
-    /**
-     * Handles the instant "hard drop" of the current brick.
-     * Processes game logic, updates UI, plays sounds, and handles line clearing.
-     *
-     * @param event The {@code MoveEvent} triggering the hard drop.
-     */
-    private void hardDrop(MoveEvent event) {
-        if (isGameOver.get()) return;
-
-        DownData downData = eventListener.onHardDrop(event);
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-            audioManager.playSound(SoundEffect.LINE_CLEAR);
-            showScoreNotification(downData.getClearRow().getScoreBonus());
-        } else {
-            audioManager.playSound(SoundEffect.PIECE_DROP);
-        }
-        refreshBrick(downData.getViewData());
-        gamePanel.requestFocus();
-    }
-
-    /**
-     * Sets the input event listener for this controller.
-     *
-     * @param eventListener The {@code InputEventListener} to be set.
-     */
-    public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
-    }
-
-    /**
-     * Binds a score property from the game logic to the UI's score label.
-     *
-     * @param scoreProp The {@code IntegerProperty} representing the current score.
-     */
-    public void bindScore(IntegerProperty scoreProp) {
-        scoreLabel.textProperty().bind(Bindings.format("Score: %d", scoreProp));
-
-        scoreProp.addListener((obs, oldVal, newVal) -> {
-            currentFinalScore = newVal.intValue();
-        });
-    }
-
-    /**
-     * Binds a high score property from the game logic to the UI's high score label.
-     *
-     * @param highProp The {@code IntegerProperty} representing the high score.
-     */
-    public void bindHighScore(IntegerProperty highProp) {
-        highLabel.textProperty().bind(Bindings.format("High Score: %d", highProp));
-        highProp.addListener((obs, oldVal, newVal) -> {
-            currentHighScore = newVal.intValue();
-        });
-    }
-
-    /**
-     * Binds a level property from the game logic to the UI's level label.
-     *
-     * @param levelProp The {@code IntegerProperty} representing the current level.
-     */
-    public void bindLevel(IntegerProperty levelProp) {
-        levelLabel.textProperty().bind(Bindings.format("LEVEL %d", levelProp));
-
-        levelProp.addListener((obs, oldVal, newVal) -> {
-            currentFinalLevel = newVal.intValue();
-        });
+    private void showCounters(RenderFrame frame) {
+        currentFinalScore = frame.getScore();
+        currentHighScore = frame.getHighScore();
+        currentFinalLevel = frame.getLevel();
+        scoreLabel.setText(scoreText.get(currentFinalScore));
+        highLabel.setText(highScoreText.get(currentHighScore));
+        levelLabel.setText(levelText.get(currentFinalLevel));
     }
 
     /**
      * Handles the game over state.
-     * Stops game timelines, records player statistics, displays the game over panel,
+     * Stops the game loop and timelines, records player statistics, displays the game over panel,
      * and updates game state flags.
      */
-    public void gameOver() {
+    private void gameOver() {
         if (dangerLineFlashTimeline != null) {
             dangerLineFlashTimeline.stop();
         }
-        if (timeLine != null) {
-            timeLine.stop();
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
+        inputRepeater.releaseAll();
 
         audioManager.playSound(SoundEffect.GAME_OVER);
 
@@ -491,17 +555,6 @@ public class GuiController implements Initializable {
         btnPause.setDisable(true);
     }
 
-    /**
-     * Records a combo event when multiple lines are cleared simultaneously.
-     *
-     * @param linesCleared The number of lines cleared in the combo.
-     */
-    public void recordCombo(int linesCleared) {
-        if (linesCleared > 0) {
-            playerStats.recordCombo(linesCleared);
-        }
-    }
-
     /**
      * Sets the primary stage of the application.
      *
@@ -521,24 +574,23 @@ public class GuiController implements Initializable {
 
     /**
      * Initiates a new game.
-     * Stops existing timelines, hides game over panel, triggers model reset,
-     * and restarts game timelines.
+     * Hides the game over panel, asks the simulation to reset, and restarts the
+     * loop and timelines; frames of the old game still in flight are skipped.
      *
      * @param actionEvent The ActionEvent that triggered this method (can be null if called programmatically).
      */
     public void newGame(ActionEvent actionEvent) {
+        if (simulation == null || !simulation.newGame()) {
+            return;
+        }
         audioManager.playSound(SoundEffect.BUTTON_CLICK);
-
-        // Stop any currently running timeline
-        if (timeLine != null) {
-            timeLine.stop();
+        shownGame++;
+        if (isPause.get()) {
+            simulation.setPaused(false);
         }
 
         gameOverPanel.setVisible(false);
 
-        // This triggers the model reset and callback to initGameView
-        eventListener.createNewGame();
-
         isPause.set(false);
         isGameOver.set(false);
         btnPause.setDisable(false);
@@ -548,7 +600,7 @@ public class GuiController implements Initializable {
             dangerLine.setOpacity(1.0);
         }
 
-        startGameTimeline();
+        startGameLoop();
 
         gamePanel.requestFocus();
     }
@@ -556,23 +608,26 @@ public class GuiController implements Initializable {
 
     /**
      * Toggles the pause state of the game.
-     * Pauses/resumes game timelines and music, and updates UI elements accordingly.
+     * Pauses/resumes the game loop and music, and updates UI elements accordingly.
      *
      * @param actionEvent The ActionEvent that triggered this method.
      */
     public void pauseGame(ActionEvent actionEvent) {
-        if (timeLine == null || isGameOver.get()) {
+        if (gameLoop == null || isGameOver.get()) {
             return;
         }
 
         audioManager.playSound(SoundEffect.BUTTON_CLICK);
 
         if (isPause.get()) {
-            timeLine.play();
+            simulation.setPaused(false);
+            gameLoop.start();
             audioManager.resumeMusic();
             isPause.set(false);
         } else {
-            timeLine.pause();
+            simulation.setPaused(true);
+            gameLoop.stop();
+            inputRepeater.releaseAll();
             audioManager.pauseMusic();
             isPause.set(true);
         }
@@ -587,10 +642,16 @@ public class GuiController implements Initializable {
         private void goToMainMenu() {
             audioManager.playSound(SoundEffect.BUTTON_CLICK);
     
-            eventListener.onGameExit();
-    
-            if (timeLine != null) {
-                timeLine.stop();
+            if (gameLoop != null) {
+                gameLoop.stop();
+            }
+            if (meteredScene != null) {
+                meteredScene.removePostLayoutPulseListener(pulseLaidOut);
+                meteredScene = null;
+            }
+            if (simulation != null) {
+                // Runs the game's exit hook on the simulation thread, then ends it
+                simulation.stop();
             }
     
             if (dangerLineFlashTimeline != null) {
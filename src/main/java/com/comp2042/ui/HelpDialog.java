@@ -26,7 +26,10 @@ public class HelpDialog {
                         "  - ↓ : Move piece down 1 row\n" +
                         "  - ↑ or W : Rotate piece\n" +
                         "  - Space : Hard drop\n" +
-                        "  - ← / → or A / D : Move piece left/right\n" +
+                        "  - ← / → or A / D : Move piece left/right (hold to auto-repeat)\n" +
+                        "  - B : Toggle bot mode (the computer plays)\n" +
+                        "  - F3 : Show input latency\n" +
+                        "  - F4 : Switch board renderer (Nodes / Canvas / Pixels)\n" +
                         "\n" +
                         "SCORING (LINES CLEARED AT ONCE):\n" +
                         "  - 0 lines  →  0 points\n" +
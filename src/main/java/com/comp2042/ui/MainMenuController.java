@@ -2,7 +2,9 @@ package com.comp2042.ui;
 
 import com.comp2042.audio.AudioManager;
 import com.comp2042.audio.SoundEffect;
-import com.comp2042.logic.GameController;
+import com.comp2042.logic.GameSimulation;
+import com.comp2042.logic.sim.AutoPlayer;
+import com.comp2042.logic.sim.HeuristicPolicy;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -65,7 +67,7 @@ public class MainMenuController {
 
             guiController.setPrimaryStage(primaryStage);
 
-            GameController gameController = new GameController(guiController);
+            guiController.startGame(new GameSimulation(AutoPlayer.factory(new HeuristicPolicy())));
 
             audioManager.playGameMusic();
 
@@ -1,83 +1,140 @@
 package com.comp2042.ui;
 
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.Constants;
+import com.comp2042.model.ViewData;
 import javafx.geometry.Bounds;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Manages the display of the next falling piece preview.
  * Adheres to SRP by handling the visualization of the upcoming piece.
+ * The next piece is drawn full size; the pieces queued behind it, if a queue pane
+ * is given, are drawn at half size in a row, read from the {@link ViewData} preview.
+ * Each pane holds a single canvas the pieces are blitted onto from the
+ * {@link PieceRenderer}'s tile atlases, and a piece is only redrawn when its shape changes.
  */
 public class NextPieceView {
 
     /** The JavaFX Pane where the next piece preview is displayed. */
     private final Pane nextPane;
-    /** The renderer responsible for styling the individual brick rectangles. */
-    private final PieceRenderer renderer;
-    /** A 2D array of Rectangles representing the 4x4 grid for the next piece preview. */
-    private final Rectangle[][] nextRects = new Rectangle[4][4];
+    /** Canvas for the 4x4 grid of the next piece preview. */
+    private final Canvas nextCanvas;
+    /** Full-size tiles for the next piece. */
+    private final TileAtlas nextAtlas;
     /** The calculated size of the 4x4 grid used for the next piece preview. */
     private final double gridSize;
+    /** The size of one cell of a queued piece. */
+    static final int QUEUE_BRICK_SIZE = GameBoardView.BRICK_SIZE / 2;
+    /** The horizontal gap between two queued pieces. */
+    private static final int QUEUE_GAP = 8;
+    /** The JavaFX Pane showing the pieces after the next one, or null for a single-piece preview. */
+    private final Pane queuePane;
+    /** Canvas holding the queued pieces in a row, or null without a queue pane. */
+    private final Canvas queueCanvas;
+    /** Half-size tiles for the queued pieces, or null without a queue pane. */
+    private final TileAtlas queueAtlas;
+    /** The shape on the next piece canvas, or null if it shows none. */
+    private BrickShape shownNext;
+    /** The shape drawn in each queue slot, or null for an empty slot. */
+    private final BrickShape[] shownQueue;
 
     /**
      * Constructs a new NextPieceView.
      * Initializes the preview pane, renderer, and calculates the grid size.
      *
      * @param nextPane The Pane where the next piece will be displayed.
-     * @param renderer The PieceRenderer instance to style the brick rectangles.
+     * @param renderer The PieceRenderer instance providing the brick tiles.
      */
     public NextPieceView(Pane nextPane, PieceRenderer renderer) {
+        this(nextPane, null, renderer);
+    }
+
+    /**
+     * Constructs a new NextPieceView with a queue of further upcoming pieces.
+     *
+     * @param nextPane The Pane where the next piece will be displayed.
+     * @param queuePane The Pane where the pieces after the next one are displayed, or null for none.
+     * @param renderer The PieceRenderer instance providing the brick tiles.
+     */
+    public NextPieceView(Pane nextPane, Pane queuePane, PieceRenderer renderer) {
         this.nextPane = nextPane;
-        this.renderer = renderer;
+        this.queuePane = queuePane;
         this.gridSize = GameBoardView.BRICK_SIZE * 4;
+        this.nextCanvas = new Canvas(gridSize, gridSize);
+        this.nextAtlas = renderer.getAtlas(GameBoardView.BRICK_SIZE);
+        int queueLength = queuePane == null ? 0 : Constants.PREVIEW_COUNT - 1;
+        this.shownQueue = new BrickShape[queueLength];
+        double pieceSize = QUEUE_BRICK_SIZE * 4;
+        this.queueCanvas = queuePane == null ? null
+                : new Canvas(queueLength * pieceSize + Math.max(0, queueLength - 1) * QUEUE_GAP, pieceSize);
+        this.queueAtlas = queuePane == null ? null : renderer.getAtlas(QUEUE_BRICK_SIZE);
         initPaneStructure();
+        initQueueStructure();
     }
 
     /**
      * Initializes the structure of the next piece preview pane.
-     * This method clears existing children, sets up a 4x4 grid of Rectangle objects,
-     * centers them within the pane, and adds a listener to re-center the grid
-     * if the pane is resized.
+     * This method clears existing children, adds the preview canvas centred
+     * within the pane, and adds a listener to re-center it if the pane is resized.
      */
     private void initPaneStructure() {
         // Clear the pane before re-adding elements on new game.
         nextPane.getChildren().clear();
+        nextPane.getChildren().add(nextCanvas);
+        center(nextCanvas, nextPane.getLayoutBounds());
 
-        // Initial setup for centering the 4x4 grid
-        Bounds bounds = nextPane.getLayoutBounds();
-        double paneWInit = bounds.getWidth();
-        double paneHInit = bounds.getHeight();
-        double offsetXInit = (paneWInit - gridSize) / 2.0;
-        double offsetYInit = (paneHInit - gridSize) / 2.0;
-
-        for (int r = 0; r < 4; r++) {
-            for (int c = 0; c < 4; c++) {
-                Rectangle rect = new Rectangle(GameBoardView.BRICK_SIZE, GameBoardView.BRICK_SIZE);
-                renderer.styleBrickRectangle(0, rect); // Start transparent
-                nextRects[r][c] = rect;
-
-                rect.setLayoutX(offsetXInit + c * GameBoardView.BRICK_SIZE);
-                rect.setLayoutY(offsetYInit + r * GameBoardView.BRICK_SIZE);
+        // Listener to keep the preview centered when the pane is resized
+        nextPane.layoutBoundsProperty().addListener((obs, oldB, newB) -> center(nextCanvas, newB));
+    }
 
-                nextPane.getChildren().add(rect);
-            }
+    /**
+     * Adds the queue canvas, centred in the queue pane, with the queued pieces
+     * laid out left to right on it.
+     */
+    private void initQueueStructure() {
+        if (queuePane == null) {
+            return;
         }
+        queuePane.getChildren().clear();
+        queuePane.getChildren().add(queueCanvas);
+        center(queueCanvas, queuePane.getLayoutBounds());
+        queuePane.layoutBoundsProperty().addListener((obs, oldB, newB) -> center(queueCanvas, newB));
+    }
 
-        // Listener to keep the preview centered when the pane is resized
-        nextPane.layoutBoundsProperty().addListener((obs, oldB, newB) -> {
-            double paneW = newB.getWidth();
-            double paneH = newB.getHeight();
-            double offsetX = (paneW - gridSize) / 2.0;
-            double offsetY = (paneH - gridSize) / 2.0;
+    /**
+     * Positions a canvas in the middle of its pane.
+     *
+     * @param canvas The canvas.
+     * @param bounds The current layout bounds of the pane.
+     */
+    private static void center(Canvas canvas, Bounds bounds) {
+        canvas.setLayoutX((bounds.getWidth() - canvas.getWidth()) / 2.0);
+        canvas.setLayoutY((bounds.getHeight() - canvas.getHeight()) / 2.0);
+    }
 
-            for (int r = 0; r < 4; r++) {
-                for (int c = 0; c < 4; c++) {
-                    Rectangle rect = nextRects[r][c];
-                    rect.setLayoutX(offsetX + c * GameBoardView.BRICK_SIZE);
-                    rect.setLayoutY(offsetY + r * GameBoardView.BRICK_SIZE);
-                }
+    /**
+     * Updates the whole preview from the engine's view data: the next piece in the
+     * main pane and the following ones in the queue. Queue slots beyond the
+     * preview length are cleared.
+     *
+     * @param viewData The current view data, read without copying.
+     */
+    public void update(ViewData viewData) {
+        update(viewData.getPreviewShape(0));
+        double pieceSize = QUEUE_BRICK_SIZE * 4;
+        for (int piece = 0; piece < shownQueue.length; piece++) {
+            int index = piece + 1;
+            BrickShape shape = index < viewData.getPreviewCount() ? viewData.getPreviewShape(index) : null;
+            // Shapes are shared immutable instances, so an unchanged slot is the same object
+            if (shape != shownQueue[piece]) {
+                shownQueue[piece] = shape;
+                drawShape(queueCanvas.getGraphicsContext2D(), queueAtlas, shape,
+                        piece * (pieceSize + QUEUE_GAP), 0);
             }
-        });
+        }
     }
 
     /**
@@ -85,10 +142,40 @@ public class NextPieceView {
      * @param nextData A 2D array representing the shape and color of the next piece.
      */
     public void update(int[][] nextData) {
-        for (int r = 0; r < 4; r++) {
-            for (int c = 0; c < 4; c++) {
-                renderer.styleBrickRectangle(nextData[r][c], nextRects[r][c]);
-            }
+        update(BrickShape.of(nextData));
+    }
+
+    /**
+     * Updates the colors of the next piece preview from a shared brick shape,
+     * without copying its matrix.
+     * @param nextShape The shape of the next piece.
+     */
+    public void update(BrickShape nextShape) {
+        if (nextShape != shownNext) {
+            shownNext = nextShape;
+            drawShape(nextCanvas.getGraphicsContext2D(), nextAtlas, nextShape, 0, 0);
+        }
+    }
+
+    /**
+     * Clears a 4x4 grid area of a canvas and blits a shape's cells into it.
+     *
+     * @param gc The canvas's graphics context.
+     * @param atlas The tiles, whose size sets the cell size.
+     * @param shape The shape to draw, or null to leave the area empty.
+     * @param x The left edge of the grid area.
+     * @param y The top edge of the grid area.
+     */
+    private static void drawShape(GraphicsContext gc, TileAtlas atlas, BrickShape shape, double x, double y) {
+        int size = atlas.getTileSize();
+        gc.clearRect(x, y, size * 4, size * 4);
+        if (shape == null) {
+            return;
+        }
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int row = shape.getCellRow(cell);
+            int col = shape.getCellColumn(cell);
+            atlas.draw(gc, shape.getCell(row, col), false, x + col * size, y + row * size);
         }
     }
-}
\ No newline at end of file
+}
@@ -4,9 +4,16 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Utility class to manage Tetris brick colors and styling.
  * Separates styling logic from the UI controller and view components.
+ * For canvas drawing it keeps a {@link TileAtlas} per tile size, rasterized on
+ * first use, so bricks are blitted rather than filled during play. Brick colours
+ * do not depend on the theme, and a new renderer is created with every game view,
+ * so the atlases never need rebuilding while they are in use.
  */
 public class PieceRenderer {
 
@@ -18,6 +25,20 @@ public class PieceRenderer {
     /** The opacity level for ghost pieces. */
     private static final double GHOST_OPACITY = 0.40;
 
+    /** Translucent ghost colour of each brick ID, built once. */
+    private final Paint[] ghostColors = new Paint[TileAtlas.COLOR_COUNT];
+    /** Tile atlases by tile size, rasterized on first use. */
+    private final Map<Integer, TileAtlas> atlases = new HashMap<>();
+
+    /**
+     * Creates a renderer and precomputes the ghost colours.
+     */
+    public PieceRenderer() {
+        for (int i = 0; i < ghostColors.length; i++) {
+            ghostColors[i] = ghostColor(i);
+        }
+    }
+
     /**
      * Maps the brick ID (1-7) to its JavaFX Color.
      */
@@ -43,41 +64,122 @@ public class PieceRenderer {
     }
 
     /**
-     * Applies the appropriate fill color and rounded corner styling to a given Rectangle
-     * based on the provided color ID for an active or landed brick.
+     * Creates a transparent brick rectangle with the rounded corners every brick
+     * uses; the styling methods then only change its fill.
+     *
+     * @param size The edge length of the rectangle in pixels.
+     * @return The new rectangle.
+     */
+    public Rectangle createBrickRectangle(double size) {
+        Rectangle rectangle = new Rectangle(size, size);
+        rectangle.setFill(Color.TRANSPARENT);
+        rectangle.setArcHeight(ARC_HEIGHT);
+        rectangle.setArcWidth(ARC_WIDTH);
+        return rectangle;
+    }
+
+    /**
+     * Applies the appropriate fill color to a rectangle made by
+     * {@link #createBrickRectangle(double)}, for an active or landed brick.
      *
      * @param colorId The integer ID of the brick's color.
      * @param rectangle The JavaFX Rectangle to style.
      */
     public void styleBrickRectangle(int colorId, Rectangle rectangle) {
         rectangle.setFill(getFillColor(colorId));
-        rectangle.setArcHeight(ARC_HEIGHT);
-        rectangle.setArcWidth(ARC_WIDTH);
     }
 
     /**
-     * Applies a translucent fill color and rounded corner styling to a given Rectangle
-     * to represent a ghost piece. The opacity is determined by GHOST_OPACITY.
+     * Applies a translucent fill color to a rectangle made by
+     * {@link #createBrickRectangle(double)} to represent a ghost piece.
      * If colorId is 0, the rectangle will be transparent.
      *
      * @param colorId The integer ID of the brick's color.
      * @param rectangle The JavaFX Rectangle to style as a ghost piece.
      */
     public void styleGhostRectangle(int colorId, Rectangle rectangle) {
+        rectangle.setFill(getGhostColor(colorId));
+    }
+
+    /**
+     * Returns the translucent Paint used for a ghost cell of the given brick ID.
+     *
+     * @param colorId The integer ID of the brick's color.
+     * @return The ghost Paint, transparent for ID 0.
+     */
+    public Paint getGhostColor(int colorId) {
+        if (colorId >= 0 && colorId < ghostColors.length) {
+            return ghostColors[colorId];
+        }
+        return ghostColor(colorId);
+    }
+
+    /**
+     * Returns the tile atlas for a tile size, rasterizing it on first use.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param tileSize The edge length of a tile in pixels.
+     * @return The atlas.
+     */
+    public TileAtlas getAtlas(int tileSize) {
+        TileAtlas atlas = atlases.get(tileSize);
+        if (atlas == null) {
+            atlas = new TileAtlas(this, tileSize, ARC_WIDTH);
+            atlases.put(tileSize, atlas);
+        }
+        return atlas;
+    }
+
+    /**
+     * Builds the brick and ghost tiles for software rendering from the pixels of the
+     * tile atlas, so they match the bricks blitted on a canvas pixel for pixel.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param tileSize The edge length of a brick in pixels.
+     * @param gap The width of the gap between two bricks, drawn in the grid colour.
+     * @param gridColor The colour of the grid lines.
+     * @return The tiles.
+     */
+    public TileSet createTileSet(int tileSize, int gap, Color gridColor) {
+        TileAtlas atlas = getAtlas(tileSize);
+        int[][] solid = new int[TileAtlas.COLOR_COUNT][];
+        int[][] ghost = new int[TileAtlas.COLOR_COUNT][];
+        for (int id = 1; id < TileAtlas.COLOR_COUNT; id++) {
+            solid[id] = atlas.getPixels(id, false);
+            ghost[id] = atlas.getPixels(id, true);
+        }
+        return new TileSet(solid, ghost, toArgb(gridColor), tileSize, gap);
+    }
+
+    /**
+     * Converts a Paint to a non-premultiplied ARGB int.
+     *
+     * @param paint The paint; anything but a Color gives white.
+     * @return The ARGB value.
+     */
+    private static int toArgb(Paint paint) {
+        Color c = paint instanceof Color color ? color : Color.WHITE;
+        return (int) Math.round(c.getOpacity() * 255) << 24
+                | (int) Math.round(c.getRed() * 255) << 16
+                | (int) Math.round(c.getGreen() * 255) << 8
+                | (int) Math.round(c.getBlue() * 255);
+    }
+
+    /**
+     * Builds the translucent ghost colour of a brick ID. The opacity is determined by GHOST_OPACITY.
+     *
+     * @param colorId The integer ID of the brick's color.
+     * @return The ghost Paint, transparent for ID 0.
+     */
+    private Paint ghostColor(int colorId) {
         if (colorId == 0) {
-            rectangle.setFill(Color.TRANSPARENT);
-        } else {
-            Paint base = getFillColor(colorId);
-            if (base instanceof Color c) {
-                // Set the translucent color
-                rectangle.setFill(
-                        Color.color(c.getRed(), c.getGreen(), c.getBlue(), GHOST_OPACITY)
-                );
-            } else {
-                rectangle.setFill(base); // Fallback for non-Color Paints
-            }
+            return Color.TRANSPARENT;
         }
-        rectangle.setArcHeight(ARC_HEIGHT);
-        rectangle.setArcWidth(ARC_WIDTH);
+        Paint base = getFillColor(colorId);
+        if (base instanceof Color c) {
+            // The translucent color
+            return Color.color(c.getRed(), c.getGreen(), c.getBlue(), GHOST_OPACITY);
+        }
+        return base; // Fallback for non-Color Paints
     }
 }
@@ -0,0 +1,182 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.GameSimulation;
+import com.comp2042.logic.RenderFrame;
+import com.comp2042.logic.TripleBuffer;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.util.Callback;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Software board renderer: the simulation thread rasterizes the board, ghost and
+ * active brick into {@link BoardRaster}s as it publishes each frame, and the FX
+ * thread only copies the tiles that changed into a {@link PixelBuffer} shown by an
+ * {@link ImageView}.
+ * Rasters reach the FX thread through a {@link TripleBuffer}, so the simulation
+ * never waits for a pulse. Copying happens inside {@link PixelBuffer#updateBuffer},
+ * as JavaFX requires, and only the dirty region is reported, so the texture upload
+ * is limited to the cells that changed.
+ */
+public class PixelBoardRenderer implements BoardRenderer {
+
+    /** The landed-blocks panel; kept at the image size while attached so the layout does not shrink. */
+    private final GridPane gamePanel;
+    /** The grid canvas; sized to the board but left empty, since the image includes the grid. */
+    private final Canvas gridCanvas;
+    /** The game whose frames are rasterized. */
+    private final GameSimulation simulation;
+    private final int boardRows;
+    private final int boardCols;
+    /** Tiles the rasters are drawn with. */
+    private final TileSet tiles;
+    /** The pixels on screen, shared with the image. */
+    private final IntBuffer buffer;
+    private final PixelBuffer<IntBuffer> pixelBuffer;
+    private final ImageView view;
+    /** Content of each visible cell in {@link #buffer}. */
+    private final int[] shownCells;
+    /** Region written by the last copy: x, y, width, height. */
+    private final int[] dirty = new int[4];
+    /** Raster drawn on the FX thread when attaching, before the simulation publishes again. */
+    private final BoardRaster attachRaster;
+    /** Rasters from the simulation thread; a new buffer per attach, so a late write to an old one is harmless. */
+    private TripleBuffer<BoardRaster> rasters;
+    /** The raster being copied into {@link #buffer}. */
+    private BoardRaster pending;
+    /** Whether the ghost is drawn; read by the simulation thread. */
+    private volatile boolean ghostVisible;
+    /** {@link #copyPending(PixelBuffer)}, created once. */
+    private final Callback<PixelBuffer<IntBuffer>, Rectangle2D> copyPending = this::copyPending;
+
+    /**
+     * Creates a renderer for a board of the given size. Nothing is shown until it is attached.
+     *
+     * @param gamePanel The GridPane the node renderer puts the landed blocks in; its gaps set the tile pitch.
+     * @param gridCanvas The grid canvas, left empty while this renderer is attached.
+     * @param simulation The game; frames are rasterized on its thread.
+     * @param renderer The PieceRenderer for the brick colours.
+     * @param boardRows The number of board rows, including the hidden ones.
+     * @param boardCols The number of board columns.
+     */
+    public PixelBoardRenderer(GridPane gamePanel, Canvas gridCanvas, GameSimulation simulation,
+                              PieceRenderer renderer, int boardRows, int boardCols) {
+        this.gamePanel = gamePanel;
+        this.gridCanvas = gridCanvas;
+        this.simulation = simulation;
+        this.boardRows = boardRows;
+        this.boardCols = boardCols;
+        this.tiles = renderer.createTileSet(GameBoardView.BRICK_SIZE, (int) gamePanel.getHgap(), GRID_COLOR);
+        this.attachRaster = new BoardRaster(tiles, boardRows, boardCols, HIDDEN_ROWS);
+        int width = attachRaster.getWidth();
+        int height = attachRaster.getHeight();
+        this.buffer = ByteBuffer.allocateDirect(width * height * Integer.BYTES)
+                .order(ByteOrder.nativeOrder()).asIntBuffer();
+        this.pixelBuffer = new PixelBuffer<>(width, height, buffer, PixelFormat.getIntArgbPreInstance());
+        this.view = new ImageView(new WritableImage(pixelBuffer));
+        this.view.setSmooth(false);
+        this.shownCells = new int[attachRaster.getCellCount()];
+    }
+
+    /**
+     * Shows the image in place of the grid canvas, draws the frame on screen into it
+     * directly, then has the simulation rasterize every frame it publishes.
+     *
+     * @param frame The frame on screen.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void attach(RenderFrame frame, boolean ghostVisible) {
+        this.ghostVisible = ghostVisible;
+        int width = attachRaster.getWidth();
+        int height = attachRaster.getHeight();
+        gridCanvas.setWidth(width);
+        gridCanvas.setHeight(height);
+        gridCanvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+        gamePanel.setMinSize(width, height);
+        if (view.getParent() == null) {
+            // Bottom of the board stack, under the danger line like the grid canvas
+            ((Pane) gamePanel.getParent()).getChildren().add(0, view);
+        }
+
+        attachRaster.render(frame, ghostVisible);
+        Arrays.fill(shownCells, BoardRaster.UNPAINTED);
+        pending = attachRaster;
+        pixelBuffer.updateBuffer(copyPending);
+
+        TripleBuffer<BoardRaster> target = new TripleBuffer<>(
+                () -> new BoardRaster(tiles, boardRows, boardCols, HIDDEN_ROWS));
+        rasters = target;
+        simulation.setFrameObserver(published -> {
+            target.getWriteSlot().render(published, this.ghostVisible);
+            target.publish();
+        });
+    }
+
+    /**
+     * Shows the newest raster from the simulation thread, copying only the cells
+     * that differ from what is on screen. The frame itself is not read: the
+     * raster of the same frame was drawn when it was published.
+     *
+     * @param frame The frame to draw.
+     * @param ghostVisible Whether the ghost piece is shown.
+     */
+    @Override
+    public void render(RenderFrame frame, boolean ghostVisible) {
+        this.ghostVisible = ghostVisible;
+        if (!rasters.hasFresh()) {
+            return;
+        }
+        BoardRaster raster = rasters.acquire();
+        if (raster.hasChanges(shownCells)) {
+            pending = raster;
+            pixelBuffer.updateBuffer(copyPending);
+        }
+    }
+
+    /**
+     * Stops the rasterizing on the simulation thread and removes the image.
+     */
+    @Override
+    public void detach() {
+        simulation.setFrameObserver(null);
+        rasters = null;
+        pending = null;
+        ((Pane) gamePanel.getParent()).getChildren().remove(view);
+        gamePanel.setMinSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
+    }
+
+    /**
+     * Returns one: the whole board is the image view.
+     *
+     * @return The node count.
+     */
+    @Override
+    public int getNodeCount() {
+        return 1;
+    }
+
+    /**
+     * Copies the cells of {@link #pending} that differ from the screen into the
+     * buffer; called by {@link PixelBuffer#updateBuffer} on the FX thread.
+     *
+     * @param pixels The pixel buffer being updated.
+     * @return The region that changed.
+     */
+    private Rectangle2D copyPending(PixelBuffer<IntBuffer> pixels) {
+        return pending.copyChanges(shownCells, buffer, dirty)
+                ? new Rectangle2D(dirty[0], dirty[1], dirty[2], dirty[3])
+                : Rectangle2D.EMPTY;
+    }
+}
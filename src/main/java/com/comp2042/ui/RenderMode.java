@@ -0,0 +1,61 @@
+package com.comp2042.ui;
+
+/**
+ * Enum representing the ways the game board can be drawn.
+
+ * Design Patterns Used:
+ * - Strategy Pattern: Each mode selects a different {@link BoardRenderer}
+ * - Enum Pattern: Type-safe renderer selection with predefined constants
+ */
+
+public enum RenderMode {
+    /** One Rectangle node per board cell, restyled as the board changes. */
+    NODES("Nodes"),
+    /** A single Canvas, repainting only the cells that changed. */
+    CANVAS("Canvas"),
+    /** An image rasterized on the simulation thread, uploading only the cells that changed. */
+    PIXELS("Pixels");
+
+    /** The human-readable name of the mode. */
+    private final String displayName;
+
+    /**
+     * Constructs a new RenderMode enum constant.
+     * @param displayName The display name of the mode.
+     */
+    RenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the human-readable display name of the mode.
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the mode after this one, wrapping around to the first.
+     * @return The next mode.
+     */
+    public RenderMode next() {
+        RenderMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+
+    /**
+     * Converts a string representation to a RenderMode enum constant (case-insensitive).
+     * Defaults to CANVAS if no matching mode is found.
+     * @param name The string name of the mode.
+     * @return The corresponding RenderMode enum constant.
+     */
+    public static RenderMode fromString(String name) {
+        for (RenderMode mode : RenderMode.values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return CANVAS;
+    }
+}
@@ -0,0 +1,162 @@
+package com.comp2042.ui;
+
+import com.comp2042.audio.AudioManager;
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.GameSimulation;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.sim.AutoPlayer;
+import com.comp2042.logic.sim.HeuristicPolicy;
+import javafx.animation.PauseTransition;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * Compares the board renderers in the real game window. The bot plays while each
+ * {@link RenderMode} in turn draws the board; after a warm-up, every pulse is
+ * measured for {@link #MEASURE_SECONDS} seconds. For each mode it prints the scene's
+ * node count, the board renderer's own node count, the pulse time percentiles, the
+ * bytes the FX thread allocates per pulse and the heap in use after a GC.
+ * Run with {@code mvn javafx:run@renderer-benchmark}. The saved renderer setting is
+ * restored afterwards.
+ */
+public class RendererBenchmark extends Application {
+
+    /** Seconds each mode runs before measuring, to let the JIT and caches settle. */
+    private static final int WARMUP_SECONDS = 5;
+    /** Seconds each mode is measured for. */
+    private static final int MEASURE_SECONDS = 15;
+
+    /** The game view under test. */
+    private GuiController gui;
+    /** The game window's scene. */
+    private Scene scene;
+    /** The renderer setting before the benchmark. */
+    private RenderMode savedMode;
+    /** The report, one line per mode. */
+    private final StringBuilder report = new StringBuilder();
+
+    /**
+     * Opens the game window, starts a bot game and runs the first mode.
+     *
+     * @param stage The primary stage.
+     * @throws Exception if the game layout cannot be loaded.
+     */
+    @Override
+    public void start(Stage stage) throws Exception {
+        savedMode = GameSettings.getInstance().getRenderMode();
+
+        FXMLLoader loader = new FXMLLoader(getClass().getResource("/gameLayout.fxml"));
+        Pane root = loader.load();
+        gui = loader.getController();
+        gui.setPrimaryStage(stage);
+        // A fresh board each game, without touching the player's high score
+        gui.startGame(new GameSimulation(
+                new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT),
+                AutoPlayer.factory(new HeuristicPolicy()), false));
+        gui.setBotEnabled(true);
+
+        scene = new Scene(root, 690, 640);
+        stage.setScene(scene);
+        stage.setTitle("Renderer benchmark");
+        stage.show();
+
+        report.append(String.format("%-8s %11s %11s %10s %10s %10s %12s %10s%n", "mode", "scene nodes",
+                "board nodes", "pulses", "p50 ms", "p99 ms", "B/pulse", "heap MB"));
+        runMode(0);
+    }
+
+    /**
+     * Switches to a mode, warms it up and measures it, then moves on to the next one.
+     *
+     * @param index The index of the mode in {@link RenderMode#values()}.
+     */
+    private void runMode(int index) {
+        RenderMode[] modes = RenderMode.values();
+        if (index == modes.length) {
+            finish();
+            return;
+        }
+        RenderMode mode = modes[index];
+        gui.setRenderMode(mode);
+        gui.newGame(null);
+        after(WARMUP_SECONDS, () -> {
+            gui.getPulseMeter().reset();
+            after(MEASURE_SECONDS, () -> {
+                record(mode);
+                runMode(index + 1);
+            });
+        });
+    }
+
+    /**
+     * Adds a mode's measurements to the report.
+     *
+     * @param mode The mode just measured.
+     */
+    private void record(RenderMode mode) {
+        PulseMeter meter = gui.getPulseMeter();
+        long pulses = meter.getPulseTime().getCount();
+        double p50 = meter.getPulseTime().getPercentileNanos(50) / 1e6;
+        double p99 = meter.getPulseTime().getPercentileNanos(99) / 1e6;
+        long bytesPerPulse = meter.getBytesPerPulse();
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        double heapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024.0 * 1024.0);
+        report.append(String.format("%-8s %11d %11d %10d %10.3f %10.3f %12d %10.1f%n", mode.getDisplayName(),
+                countNodes(scene.getRoot()), gui.getBoardNodeCount(), pulses, p50, p99, bytesPerPulse, heapMb));
+    }
+
+    /**
+     * Prints the report, restores the renderer setting and closes the application.
+     */
+    private void finish() {
+        System.out.print(report);
+        GameSettings.getInstance().setRenderMode(savedMode);
+        AudioManager.getInstance().dispose();
+        Platform.exit();
+    }
+
+    /**
+     * Runs an action on the FX thread after a delay.
+     *
+     * @param seconds The delay.
+     * @param action The action.
+     */
+    private static void after(int seconds, Runnable action) {
+        PauseTransition pause = new PauseTransition(Duration.seconds(seconds));
+        pause.setOnFinished(event -> action.run());
+        pause.play();
+    }
+
+    /**
+     * Counts a node and all its descendants.
+     *
+     * @param node The root of the subtree.
+     * @return The number of nodes.
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Launches the benchmark.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
@@ -54,6 +54,7 @@ public class SettingsController {
     @FXML private Button btnAudio;
     @FXML private Button btnTheme;
     @FXML private Button btnGhostMode;
+    @FXML private Button btnRenderMode;
     @FXML private Button btnBack;
 
     /** The primary stage of the application, used to set new scenes. */
@@ -73,6 +74,7 @@ public class SettingsController {
 
         updateGhostModeButtonText();
         updateThemeButtonText();
+        updateRenderModeButtonText();
     }
 
     /**
@@ -114,6 +116,25 @@ public class SettingsController {
         }
     }
 
+    /**
+     * Switches the board renderer to the next mode and updates the UI accordingly.
+     * Plays a button click sound effect.
+     */
+    @FXML
+    private void cycleRenderMode() {
+        audioManager.playSound(com.comp2042.audio.SoundEffect.BUTTON_CLICK);
+
+        gameSettings.setRenderMode(gameSettings.getRenderMode().next());
+        updateRenderModeButtonText();
+    }
+
+    /**
+     * Updates the text of the renderer button to reflect the selected mode.
+     */
+    private void updateRenderModeButtonText() {
+        btnRenderMode.setText("Renderer: " + gameSettings.getRenderMode().getDisplayName());
+    }
+
     /**
      * Opens the audio settings screen.
      * Plays a button click sound effect.
@@ -0,0 +1,101 @@
+package com.comp2042.ui;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Sprite atlas holding one pre-rendered rounded tile per brick colour, in a solid
+ * and a ghost variant, for one tile size.
+ * The tiles are rasterized once into a {@link WritableImage}, so drawing a brick on
+ * a canvas is a single image blit rather than a rounded-rectangle fill: the top row
+ * of the atlas holds the solid tiles and the bottom row the ghost tiles, indexed by
+ * colour id. Tiles are separated by a transparent pixel so that scaled blits on
+ * high-DPI screens do not pick up a neighbour's edge.
+ * Must be created on the JavaFX application thread.
+ */
+public final class TileAtlas {
+
+    /** Number of colour ids with a tile; id 0 (empty) is left transparent. */
+    static final int COLOR_COUNT = 8;
+
+    /** The edge length of a tile in pixels. */
+    private final int tileSize;
+    /** Distance between the origins of two neighbouring tiles. */
+    private final int stride;
+    /** The rasterized tiles. */
+    private final WritableImage image;
+
+    /**
+     * Rasterizes the tiles of every colour id.
+     *
+     * @param renderer Gives the solid and ghost colour of each id.
+     * @param tileSize The edge length of a tile in pixels.
+     * @param arc The corner arc of the rounded tiles.
+     */
+    TileAtlas(PieceRenderer renderer, int tileSize, double arc) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        this.stride = tileSize + 1;
+
+        Canvas canvas = new Canvas(COLOR_COUNT * stride, 2 * stride);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (int id = 1; id < COLOR_COUNT; id++) {
+            gc.setFill(renderer.getFillColor(id));
+            gc.fillRoundRect(id * stride, 0, tileSize, tileSize, arc, arc);
+            gc.setFill(renderer.getGhostColor(id));
+            gc.fillRoundRect(id * stride, stride, tileSize, tileSize, arc, arc);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        this.image = canvas.snapshot(parameters, new WritableImage(COLOR_COUNT * stride, 2 * stride));
+    }
+
+    /**
+     * Returns the edge length of the tiles.
+     *
+     * @return The tile size in pixels.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Blits the tile of a colour id onto a canvas. Id 0 draws nothing.
+     *
+     * @param gc The canvas's graphics context.
+     * @param colorId The integer ID of the brick's color.
+     * @param ghost True for the translucent ghost variant.
+     * @param x The left edge of the tile in pixels.
+     * @param y The top edge of the tile in pixels.
+     */
+    public void draw(GraphicsContext gc, int colorId, boolean ghost, double x, double y) {
+        if (colorId <= 0 || colorId >= COLOR_COUNT) {
+            return;
+        }
+        gc.drawImage(image, colorId * stride, ghost ? stride : 0, tileSize, tileSize, x, y, tileSize, tileSize);
+    }
+
+    /**
+     * Reads back the pixels of a colour id's tile, e.g. to draw the same tile into a
+     * pixel buffer.
+     *
+     * @param colorId The integer ID of the brick's color, from 1 to {@link #COLOR_COUNT} - 1.
+     * @param ghost True for the translucent ghost variant.
+     * @return The tile's {@code tileSize * tileSize} premultiplied ARGB pixels, row-major.
+     */
+    public int[] getPixels(int colorId, boolean ghost) {
+        if (colorId <= 0 || colorId >= COLOR_COUNT) {
+            throw new IllegalArgumentException("No tile for colour id " + colorId);
+        }
+        int[] pixels = new int[tileSize * tileSize];
+        image.getPixelReader().getPixels(colorId * stride, ghost ? stride : 0, tileSize, tileSize,
+                PixelFormat.getIntArgbPreInstance(), pixels, 0, tileSize);
+        return pixels;
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.BoardComposition;
+
+/**
+ * Board tiles for software rendering, in the premultiplied ARGB format pixel
+ * buffers use.
+ * A tile covers one cell pitch: a brick of {@code tileSize} pixels, and the gap
+ * to its right and below filled with the grid colour. There is one tile per
+ * colour id in a solid and a ghost variant, plus an empty tile showing only the
+ * grid. The brick pixels are given ready-made, normally read back from a
+ * {@link TileAtlas}, so the software renderer draws exactly the bricks the canvas
+ * renderer does, and blitting a tile is a plain row copy.
+ */
+public final class TileSet {
+
+    private final int tileSize;
+    private final int pitch;
+    /** Tile pixels by colour id, row-major, {@code pitch * pitch} each; index 0 is the empty tile. */
+    private final int[][] solid;
+    /** Ghost tile pixels by colour id; index 0 is the empty tile. */
+    private final int[][] ghost;
+
+    /**
+     * Builds the tiles from the brick pixels of each colour id.
+     *
+     * @param solidBricks Premultiplied ARGB pixels of each id's brick, row-major,
+     *                    {@code tileSize * tileSize} each; index 0 is ignored.
+     * @param ghostBricks Premultiplied ARGB pixels of each id's ghost, laid out the same way.
+     * @param gridArgb Non-premultiplied ARGB colour of the grid lines in the gaps.
+     * @param tileSize The edge length of a brick in pixels.
+     * @param gap The width of the gap between two bricks.
+     * @throws IllegalArgumentException if the sizes are invalid or the arrays do not match them.
+     */
+    public TileSet(int[][] solidBricks, int[][] ghostBricks, int gridArgb, int tileSize, int gap) {
+        if (solidBricks.length != ghostBricks.length || solidBricks.length == 0) {
+            throw new IllegalArgumentException("Need the same non-zero number of solid and ghost bricks");
+        }
+        if (tileSize <= 0 || gap < 0) {
+            throw new IllegalArgumentException("Invalid tile size " + tileSize + " or gap " + gap);
+        }
+        this.tileSize = tileSize;
+        this.pitch = tileSize + gap;
+        this.solid = new int[solidBricks.length][];
+        this.ghost = new int[ghostBricks.length][];
+        int grid = premultiply(gridArgb);
+        int[] empty = tile(new int[tileSize * tileSize], grid);
+        solid[0] = empty;
+        ghost[0] = empty;
+        for (int id = 1; id < solidBricks.length; id++) {
+            solid[id] = tile(solidBricks[id], grid);
+            ghost[id] = tile(ghostBricks[id], grid);
+        }
+    }
+
+    /**
+     * Returns the edge length of a brick.
+     *
+     * @return The tile size in pixels, without the gap.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Returns the distance between the origins of two neighbouring cells.
+     *
+     * @return The brick size plus the gap, in pixels.
+     */
+    public int getPitch() {
+        return pitch;
+    }
+
+    /**
+     * Returns the pixels of the tile for a cell's content.
+     *
+     * @param content A colour id, with {@link BoardComposition#GHOST} set for a ghost cell;
+     *                0 or an id without a colour gives the empty tile.
+     * @return The tile's {@code pitch * pitch} premultiplied ARGB pixels, row-major; not to be modified.
+     */
+    public int[] getTile(int content) {
+        int id = content & ~BoardComposition.GHOST;
+        int[][] variant = (content & BoardComposition.GHOST) != 0 ? ghost : solid;
+        return id > 0 && id < variant.length ? variant[id] : solid[0];
+    }
+
+    /**
+     * Builds one tile: the brick pixels, and the grid in the gaps.
+     *
+     * @param brick The brick pixels, {@code tileSize * tileSize}.
+     * @param grid The premultiplied grid colour.
+     * @return The tile pixels.
+     */
+    private int[] tile(int[] brick, int grid) {
+        if (brick.length != tileSize * tileSize) {
+            throw new IllegalArgumentException("Brick has " + brick.length + " pixels, expected " + tileSize * tileSize);
+        }
+        int[] pixels = new int[pitch * pitch];
+        for (int y = 0; y < pitch; y++) {
+            for (int x = 0; x < pitch; x++) {
+                pixels[y * pitch + x] = x < tileSize && y < tileSize ? brick[y * tileSize + x] : grid;
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts a colour to premultiplied ARGB.
+     *
+     * @param argb The non-premultiplied colour.
+     * @return The premultiplied pixel.
+     */
+    static int premultiply(int argb) {
+        int a = argb >>> 24;
+        int r = ((argb >> 16) & 0xFF) * a / 255;
+        int g = ((argb >> 8) & 0xFF) * a / 255;
+        int b = (argb & 0xFF) * a / 255;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+}
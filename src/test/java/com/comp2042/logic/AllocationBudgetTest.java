@@ -0,0 +1,219 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.logic.sim.AutoPlayer;
+import com.comp2042.logic.sim.HeuristicPolicy;
+import com.comp2042.model.DownData;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.EventType;
+import com.comp2042.model.MoveEvent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the work the engine does on every input and every tick.
+ * Plays scripted games through {@link GameController} and {@link SimpleBoard} and
+ * charges the bytes the thread allocates inside each controller call to that call's
+ * kind of operation, measured with the JVM's per-thread allocation counter.
+ * A budget is the average number of bytes one operation may allocate; lower one
+ * whenever an optimisation lowers the real cost, so it cannot creep back up.
+ */
+class AllocationBudgetTest {
+
+    /** Budget of a LEFT, RIGHT or ROTATE input, in bytes. */
+    private static final long MOVE_BUDGET = 0;
+    /** Budget of a gravity tick that does not land the brick, in bytes. */
+    private static final long GRAVITY_BUDGET = 0;
+    /** Budget of a lock that clears no line: the ClearRow result and the row-refresh snapshot. */
+    private static final long LOCK_BUDGET = 88;
+    /** Budget of a lock that clears lines, whose ClearRow also carries the cleared row indices (up to four). */
+    private static final long LINE_CLEAR_BUDGET = 120;
+
+    /** Bricks played before measuring, so the JIT has compiled the engine. */
+    private static final int WARMUP_PIECES = 3_000;
+    /** Bricks played per measured trial. */
+    private static final int TRIAL_PIECES = 500;
+    /** Measured trials; the cheapest counts, so a one-off JIT or GC event cannot fail the build. */
+    private static final int TRIALS = 3;
+
+    private static final MoveEvent LEFT = MoveEvent.of(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = MoveEvent.of(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = MoveEvent.of(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent TICK = MoveEvent.of(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = MoveEvent.of(EventType.HARD_DROP, EventSource.USER);
+
+    /** Kinds of engine work, each with its own budget. */
+    private enum Operation { MOVE, GRAVITY, LOCK, LINE_CLEAR }
+
+    @Test
+    void inputsAndGravityTicks_stayWithinBudget() {
+        double[] cost = bytesPerOperation();
+
+        assertWithinBudget(Operation.MOVE, MOVE_BUDGET, cost);
+        assertWithinBudget(Operation.GRAVITY, GRAVITY_BUDGET, cost);
+    }
+
+    @Test
+    void locksAndLineClears_stayWithinBudget() {
+        double[] cost = bytesPerOperation();
+
+        assertWithinBudget(Operation.LOCK, LOCK_BUDGET, cost);
+        assertWithinBudget(Operation.LINE_CLEAR, LINE_CLEAR_BUDGET, cost);
+    }
+
+    @Test
+    void meter_chargesAllocationsToTheirOperation() {
+        Meter meter = new Meter();
+        int[][] sink = new int[1][];
+        for (int i = 0; i < 10; i++) {
+            long start = meter.start();
+            sink[0] = new int[256];
+            meter.stop(Operation.MOVE, start);
+        }
+
+        assertEquals(10, meter.count[Operation.MOVE.ordinal()]);
+        assertTrue(meter.bytes[Operation.MOVE.ordinal()] >= 10 * 256 * Integer.BYTES, "The harness must see allocations");
+        assertEquals(0, meter.count[Operation.LOCK.ordinal()]);
+        assertNotNull(sink[0]);
+    }
+
+    /**
+     * Plays the scripted game and measures every operation.
+     *
+     * @return The bytes allocated per operation, indexed by {@link Operation#ordinal()},
+     *         from the cheapest of the measured trials.
+     */
+    private static double[] bytesPerOperation() {
+        Meter meter = new Meter();
+        Script script = new Script(meter);
+        script.play(WARMUP_PIECES);
+        double[] best = new double[Operation.values().length];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            meter.reset();
+            script.play(TRIAL_PIECES);
+            for (Operation op : Operation.values()) {
+                assertTrue(meter.count[op.ordinal()] > 0, "The script must exercise " + op);
+                best[op.ordinal()] = Math.min(best[op.ordinal()],
+                        (double) meter.bytes[op.ordinal()] / meter.count[op.ordinal()]);
+            }
+        }
+        return best;
+    }
+
+    private static void assertWithinBudget(Operation op, long budget, double[] cost) {
+        assertTrue(cost[op.ordinal()] <= budget,
+                String.format("%s allocates %.1f bytes per operation, budget is %d", op, cost[op.ordinal()], budget));
+    }
+
+    /** Charges the allocations of individual calls to their operation. */
+    private static final class Meter {
+        private final com.sun.management.ThreadMXBean bean;
+        private final long[] bytes = new long[Operation.values().length];
+        private final long[] count = new long[Operation.values().length];
+
+        Meter() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+            bean = (com.sun.management.ThreadMXBean) threads;
+            assumeTrue(bean.isThreadAllocatedMemorySupported());
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        long start() {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+
+        void stop(Operation op, long start) {
+            long end = bean.getCurrentThreadAllocatedBytes();
+            bytes[op.ordinal()] += end - start;
+            count[op.ordinal()]++;
+        }
+
+        void reset() {
+            Arrays.fill(bytes, 0);
+            Arrays.fill(count, 0);
+        }
+    }
+
+    /**
+     * A seeded game steered by the heuristic bot: every input the bot picks is sent
+     * through the controller, with a gravity tick after every third input, and bricks
+     * are alternately soft-dropped tick by tick and hard-dropped once in place.
+     */
+    private static final class Script {
+        private final Meter meter;
+        private final HeadlessGameView view = new HeadlessGameView();
+        private final GameController controller;
+        private final AutoPlayer bot;
+        private int inputs;
+        private int pieces;
+
+        Script(Meter meter) {
+            this.meter = meter;
+            SimpleBoard board = new SimpleBoard(10, 25, new SevenBagBrickGenerator(new SplittableRandom(17L)));
+            controller = new GameController(view, board);
+            bot = new AutoPlayer(board, controller, new HeuristicPolicy(), new SplittableRandom(17L));
+        }
+
+        void play(int pieceCount) {
+            int target = pieces + pieceCount;
+            while (pieces < target) {
+                EventType move = bot.nextMove();
+                long start = meter.start();
+                switch (move) {
+                    case LEFT: controller.onLeftEvent(LEFT); break;
+                    case RIGHT: controller.onRightEvent(RIGHT); break;
+                    case ROTATE: controller.onRotateEvent(ROTATE); break;
+                    default:
+                        land();
+                        continue;
+                }
+                meter.stop(Operation.MOVE, start);
+                if (++inputs % 3 == 0) {
+                    tick();
+                }
+            }
+        }
+
+        private void land() {
+            if (pieces % 2 == 0) {
+                while (!tick()) { }
+            } else {
+                long start = meter.start();
+                DownData result = controller.onHardDrop(HARD_DROP);
+                meter.stop(result.getClearRow().getLinesRemoved() > 0 ? Operation.LINE_CLEAR : Operation.LOCK, start);
+                locked();
+            }
+        }
+
+        private boolean tick() {
+            long start = meter.start();
+            DownData result = controller.onDownEvent(TICK);
+            boolean landed = result.isPieceLanded();
+            meter.stop(!landed ? Operation.GRAVITY
+                    : result.getClearRow().getLinesRemoved() > 0 ? Operation.LINE_CLEAR : Operation.LOCK, start);
+            if (landed) {
+                locked();
+            }
+            return landed;
+        }
+
+        /**
+         * Counts a locked brick and restarts a finished game, outside any measurement.
+         */
+        private void locked() {
+            pieces++;
+            if (view.isGameOver()) {
+                view.clearGameOver();
+                controller.createNewGame();
+            }
+        }
+    }
+}
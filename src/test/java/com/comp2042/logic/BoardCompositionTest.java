@@ -0,0 +1,71 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCompositionTest {
+
+    private static final BrickShape BAR = BrickShape.of(new int[][]{{1, 1}});
+
+    private static RenderFrame frame(int[][] board, int x, int y, int ghostY) {
+        RenderFrame frame = new RenderFrame(board[0].length, board.length);
+        frame.copyBoard(board);
+        frame.setActiveBrick(new ViewData(BAR, x, y, BAR, ghostY));
+        return frame;
+    }
+
+    @Test
+    void activeBrick_isDrawnOverTheGhost_overTheLandedBlocks() {
+        int[][] board = new int[5][3];
+        board[4][0] = 2;
+        BoardComposition composition = new BoardComposition(5, 3);
+
+        composition.compose(frame(board, 0, 1, 3), true);
+
+        assertEquals(1, composition.get(1, 0));
+        assertEquals(1, composition.get(1, 1));
+        assertEquals(1 | BoardComposition.GHOST, composition.get(3, 0));
+        assertEquals(2, composition.get(4, 0));
+        assertEquals(0, composition.get(4, 1));
+
+        composition.compose(frame(board, 0, 3, 3), true);
+        assertEquals(1, composition.get(3, 0), "Brick and ghost on the same row: the brick wins");
+        assertEquals(0, composition.get(1, 0), "Cells the brick left are restored");
+    }
+
+    @Test
+    void hiddenGhost_andCellsOffTheBoard_areSkipped() {
+        BoardComposition composition = new BoardComposition(4, 3);
+
+        composition.compose(frame(new int[4][3], 2, 0, 3), false);
+
+        assertEquals(1, composition.get(0, 2));
+        assertEquals(0, composition.get(3, 2), "Ghost not drawn");
+        assertEquals(0, composition.get(0, 0));
+    }
+
+    @Test
+    void landedBlocks_areOnlyReadWhenTheBoardVersionChanges() {
+        int[][] board = new int[3][2];
+        board[2][1] = 4;
+        RenderFrame first = frame(new int[3][2], 0, 0, 0);
+        RenderFrame sameVersion = frame(board, 0, 0, 0);
+        assertEquals(first.getBoardVersion(), sameVersion.getBoardVersion());
+        BoardComposition composition = new BoardComposition(3, 2);
+
+        composition.compose(first, false);
+        composition.compose(sameVersion, false);
+        assertEquals(0, composition.get(2, 1), "Same version, so the cached cells are used");
+
+        composition.reset();
+        composition.compose(sameVersion, false);
+        assertEquals(4, composition.get(2, 1));
+    }
+
+    @Test
+    void emptyBoard_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardComposition(0, 10));
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotTest {
+
+    private GameBoard gameBoard;
+
+    @BeforeEach
+    void setUp() {
+        gameBoard = new GameBoard(10, 20);
+        gameBoard.mergeBrick(2, 18, BrickShape.of(new int[][]{{3, 3}}));
+    }
+
+    @Test
+    void snapshot_sharesBoardStorageUntilTheBoardChanges() {
+        try (BoardSnapshot snapshot = gameBoard.snapshot()) {
+            assertFalse(snapshot.isDetached());
+            assertEquals(3, snapshot.getCell(18, 2));
+            assertEquals(0b1100L, snapshot.getRowMask(18));
+            assertEquals(10, snapshot.getWidth());
+            assertEquals(20, snapshot.getHeight());
+            assertEquals(gameBoard.getVersion(), snapshot.getVersion());
+            assertFalse(snapshot.isDetached(), "Reading must not copy the board");
+        }
+    }
+
+    @Test
+    void openSnapshot_keepsItsVersionWhenTheBoardChanges() {
+        BoardSnapshot snapshot = gameBoard.snapshot();
+        long version = snapshot.getVersion();
+
+        gameBoard.mergeBrick(0, 19, BrickShape.of(new int[][]{{5}}));
+
+        assertTrue(snapshot.isDetached());
+        assertEquals(0, snapshot.getCell(19, 0), "The snapshot must not see later changes");
+        assertEquals(3, snapshot.getCell(18, 3));
+        assertEquals(0L, snapshot.getRowMask(19));
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(5, gameBoard.getCell(19, 0));
+        snapshot.close();
+    }
+
+    @Test
+    void closedSnapshot_isNotCopiedAndRejectsReads() {
+        BoardSnapshot snapshot = gameBoard.snapshot();
+        snapshot.close();
+
+        gameBoard.reset();
+
+        assertFalse(snapshot.isDetached(), "A closed snapshot must not cost a copy");
+        assertThrows(IllegalStateException.class, () -> snapshot.getCell(0, 0));
+        assertThrows(IllegalStateException.class, snapshot::toMatrix);
+        snapshot.close();
+    }
+
+    @Test
+    void toMatrix_matchesGameMatrix() {
+        try (BoardSnapshot snapshot = gameBoard.snapshot()) {
+            assertArrayEquals(gameBoard.getGameMatrix(), snapshot.toMatrix());
+        }
+    }
+}
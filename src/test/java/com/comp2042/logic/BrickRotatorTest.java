@@ -1,6 +1,7 @@
 package com.comp2042.logic;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceTable;
 import com.comp2042.logic.bricks.TBrick;
 import org.junit.jupiter.api.Test;
 
@@ -21,4 +22,18 @@ class BrickRotatorTest {
 
         assertNotEquals(original, rotated);  // must be different
     }
+
+    @Test
+    void brickShapesAreReadFromThePieceTableWithoutCopying() {
+        BrickRotator rotator = new BrickRotator();
+        rotator.setBrick(new TBrick());
+
+        assertSame(PieceTable.getShape(PieceTable.T, 0), rotator.getCurrentBrickShape());
+        assertSame(PieceTable.getShape(PieceTable.T, 1), rotator.getNextBrickShape());
+        assertEquals(1, rotator.getNextShapeIndex());
+
+        rotator.setCurrentShape(3);
+        assertEquals(0, rotator.getNextShapeIndex(), "Rotation index must wrap around");
+        assertSame(rotator.getCurrentBrickShape(), PieceTable.getShape(PieceTable.T, 3));
+    }
 }
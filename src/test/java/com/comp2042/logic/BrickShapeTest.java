@@ -0,0 +1,75 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickShapeTest {
+
+    @Test
+    void of_buildsOneBitPerOccupiedCell() {
+        BrickShape shape = BrickShape.of(new int[][]{
+                {0, 0, 0, 0},
+                {6, 6, 6, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+        });
+
+        assertEquals(0b0000L, shape.getRowMask(0));
+        assertEquals(0b0111L, shape.getRowMask(1));
+        assertEquals(0b0010L, shape.getRowMask(2));
+        assertEquals(4, shape.getHeight());
+    }
+
+    @Test
+    void of_computesOccupiedBounds() {
+        BrickShape shape = BrickShape.of(new int[][]{
+                {0, 0, 0, 0},
+                {0, 2, 2, 0},
+                {0, 2, 0, 0},
+                {0, 2, 0, 0}
+        });
+
+        assertEquals(1, shape.getMinColumn());
+        assertEquals(2, shape.getMaxColumn());
+        assertEquals(1, shape.getMinRow());
+        assertEquals(3, shape.getMaxRow());
+        assertFalse(shape.isEmpty());
+    }
+
+    @Test
+    void of_keepsColourIdsAndCopiesInput() {
+        int[][] matrix = {
+                {0, 5},
+                {5, 5}
+        };
+        BrickShape shape = BrickShape.of(matrix);
+        matrix[1][0] = 9;
+
+        assertEquals(5, shape.getCell(1, 0), "Shape must not share the caller's array");
+        assertArrayEquals(new int[]{0, 5}, shape.toMatrix()[0]);
+    }
+
+    @Test
+    void emptyShape_reportsNoBounds() {
+        BrickShape shape = BrickShape.of(new int[2][2]);
+
+        assertTrue(shape.isEmpty());
+        assertEquals(-1, shape.getMinColumn());
+        assertEquals(-1, shape.getMaxRow());
+    }
+
+    @Test
+    void of_computesBottomProfilePerColumn() {
+        BrickShape shape = BrickShape.of(new int[][]{
+                {0, 3, 0, 0},
+                {3, 3, 0, 0},
+                {0, 3, 0, 0}
+        });
+
+        assertEquals(1, shape.getColumnBottom(0));
+        assertEquals(2, shape.getColumnBottom(1));
+        assertEquals(-1, shape.getColumnBottom(2));
+        assertEquals(-1, shape.getColumnBottom(3));
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void irregularFrames_payOutStepsAtTheExactAverageRate() {
+        FixedStepClock clock = new FixedStepClock(100 * MS, 4);
+        long now = 5_000 * MS;
+        assertEquals(0, clock.advance(now), "The first frame only starts the clock");
+
+        int steps = 0;
+        long[] frames = {16, 17, 16, 33, 7, 16, 16, 17, 50, 12};
+        for (int i = 0; i < 1_000; i++) {
+            now += frames[i % frames.length] * MS;
+            steps += clock.advance(now);
+        }
+
+        // 1000 frames averaging 20 ms is 20 s, or 200 steps of 100 ms.
+        assertEquals(200, steps);
+        assertEquals(0.0, clock.getProgress(), 1e-9);
+    }
+
+    @Test
+    void stall_isCaughtUpOnlyUpToTheBound() {
+        FixedStepClock clock = new FixedStepClock(50 * MS, 4);
+        clock.advance(0);
+
+        assertEquals(4, clock.advance(2_000 * MS), "Two seconds is 40 steps, but only 4 are paid out");
+        assertTrue(clock.getProgress() < 1.0);
+        assertEquals(1, clock.advance(2_050 * MS), "The backlog was dropped");
+    }
+
+    @Test
+    void speedChange_keepsProgressWithoutABurst() {
+        FixedStepClock clock = new FixedStepClock(400 * MS, 4);
+        clock.advance(0);
+        assertEquals(0, clock.advance(300 * MS));
+        assertEquals(0.75, clock.getProgress(), 1e-9);
+
+        clock.setStepNanos(100 * MS);
+        assertEquals(400 * MS, 4 * clock.getStepNanos());
+        assertEquals(1, clock.advance(300 * MS + 1), "Progress is capped at one new step");
+
+        clock.setStepNanos(400 * MS);
+        assertEquals(0, clock.advance(500 * MS));
+        assertEquals(0.5, clock.getProgress(), 1e-6);
+    }
+
+    @Test
+    void pause_ignoresTheTimeInBetweenAndResetForgetsProgress() {
+        FixedStepClock clock = new FixedStepClock(100 * MS, 4);
+        clock.advance(0);
+        clock.advance(60 * MS);
+        clock.pause();
+
+        assertEquals(0, clock.advance(10_000 * MS));
+        assertEquals(1, clock.advance(10_040 * MS), "60 ms before the pause plus 40 ms after it");
+
+        clock.advance(10_090 * MS);
+        clock.reset();
+        assertEquals(0, clock.advance(20_000 * MS));
+        assertEquals(0, clock.advance(20_099 * MS));
+        assertEquals(1, clock.advance(20_100 * MS));
+    }
+
+    @Test
+    void backwardsTimestamps_countAsNoTime() {
+        FixedStepClock clock = new FixedStepClock(10 * MS, 4);
+        clock.advance(100 * MS);
+
+        assertEquals(0, clock.advance(50 * MS));
+        assertEquals(1, clock.advance(60 * MS));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveValues() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepClock(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepClock(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepClock(10, 1).setStepNanos(-1));
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Point;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -90,7 +93,8 @@ class GameBoardTest {
         }
 
         assertNotNull(clearRow, "ClearRow result should never be null");
-        assertNotNull(clearRow.getNewMatrix(), "ClearRow must contain a new matrix");
+        assertArrayEquals(new int[]{gameBoard.getHeight() - 1}, clearRow.getClearedRows(),
+                "ClearRow must report which row was removed");
     }
 
     @Test
@@ -110,4 +114,387 @@ class GameBoardTest {
             }
         }
     }
+
+    @Test
+    void isCollision_detectsWallsFloorAndCeiling() {
+        BrickShape square = BrickShape.of(new int[][]{
+                {0, 0, 0},
+                {0, 4, 4},
+                {0, 4, 4}
+        });
+
+        assertFalse(gameBoard.isCollision(-1, 0, square), "Empty left column may hang over the wall");
+        assertTrue(gameBoard.isCollision(-2, 0, square));
+        assertFalse(gameBoard.isCollision(7, 0, square));
+        assertTrue(gameBoard.isCollision(8, 0, square));
+        assertFalse(gameBoard.isCollision(0, gameBoard.getHeight() - 3, square));
+        assertTrue(gameBoard.isCollision(0, gameBoard.getHeight() - 2, square));
+        assertFalse(gameBoard.isCollision(0, -1, square), "Empty top row may sit above the board");
+        assertTrue(gameBoard.isCollision(0, -2, square));
+    }
+
+    @Test
+    void isCollision_matchesMatrixOperationsOnRandomBoards() {
+        Random random = new Random(42);
+        BrickShape[] shapes = {
+                BrickShape.of(new int[][]{{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}}),
+                BrickShape.of(new int[][]{{0, 6, 0, 0}, {6, 6, 0, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}}),
+                BrickShape.of(new int[][]{{5, 0, 0, 0}, {5, 5, 0, 0}, {0, 5, 0, 0}, {0, 0, 0, 0}})
+        };
+
+        for (int round = 0; round < 20; round++) {
+            GameBoard board = new GameBoard(10, 20);
+            for (int row = 8; row < 20; row++) {
+                for (int col = 0; col < 10; col++) {
+                    if (random.nextInt(100) < 45) {
+                        board.mergeBrick(col, row, BrickShape.of(new int[][]{{3}}));
+                    }
+                }
+            }
+            int[][] matrix = board.getGameMatrix();
+
+            for (BrickShape shape : shapes) {
+                int[][] cells = shape.toMatrix();
+                for (int y = -3; y < 21; y++) {
+                    for (int x = -3; x < 11; x++) {
+                        assertEquals(
+                                MatrixOperations.intersect(matrix, cells, x, y),
+                                board.isCollision(x, y, shape),
+                                "Mismatch at (" + x + ", " + y + ")"
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void clearRows_shiftsRemainingRowsDownAndKeepsMasksInSync() {
+        int width = gameBoard.getWidth();
+        int bottom = gameBoard.getHeight() - 1;
+        int[] fullRow = new int[width];
+        Arrays.fill(fullRow, 2);
+
+        gameBoard.mergeBrick(new Point(0, bottom), new int[][]{fullRow});
+        gameBoard.mergeBrick(new Point(3, bottom - 1), new int[][]{{7}});
+        assertTrue(gameBoard.isRowFull(bottom));
+
+        ClearRow clearRow = gameBoard.clearRows();
+
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(50, clearRow.getScoreBonus());
+        assertEquals(7, gameBoard.getGameMatrix()[bottom][3], "Row above the cleared one must drop by one");
+        assertEquals(1L << 3, gameBoard.getRowMask(bottom));
+        assertEquals(0L, gameBoard.getRowMask(bottom - 1));
+        assertFalse(gameBoard.isRowFull(bottom));
+    }
+
+    @Test
+    void constructor_rejectsBoardsWiderThanARowMask() {
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(BrickShape.MAX_WIDTH + 1, 20));
+    }
+
+    @Test
+    void clearRows_reportsNonAdjacentRowsAndReusesFreedSlotsAsEmptyTopRows() {
+        int width = gameBoard.getWidth();
+        int bottom = gameBoard.getHeight() - 1;
+        int[] fullRow = new int[width];
+        Arrays.fill(fullRow, 3);
+
+        gameBoard.mergeBrick(new Point(0, bottom), new int[][]{fullRow});
+        gameBoard.mergeBrick(new Point(1, bottom - 1), new int[][]{{5}});
+        gameBoard.mergeBrick(new Point(0, bottom - 2), new int[][]{fullRow});
+        gameBoard.mergeBrick(new Point(4, bottom - 3), new int[][]{{6}});
+
+        ClearRow clearRow = gameBoard.clearRows();
+
+        assertArrayEquals(new int[]{bottom - 2, bottom}, clearRow.getClearedRows());
+        assertEquals(200, clearRow.getScoreBonus());
+        assertNull(clearRow.getNewMatrix(), "The engine reports row indices, not a matrix snapshot");
+        assertEquals(5, gameBoard.getCell(bottom, 1));
+        assertEquals(6, gameBoard.getCell(bottom - 1, 4));
+        for (int row = 0; row < bottom - 1; row++) {
+            assertEquals(0L, gameBoard.getRowMask(row), "Row " + row + " must be empty");
+            for (int col = 0; col < width; col++) {
+                assertEquals(0, gameBoard.getCell(row, col));
+            }
+        }
+    }
+
+    @Test
+    void insertGarbageRow_pushesRowsUpAndReportsTopOut() {
+        int bottom = gameBoard.getHeight() - 1;
+        gameBoard.mergeBrick(new Point(2, bottom), new int[][]{{4}});
+
+        assertFalse(gameBoard.insertGarbageRow(5, 8));
+
+        assertEquals(4, gameBoard.getCell(bottom - 1, 2), "Existing rows move up by one");
+        assertEquals(gameBoard.getRowMask(bottom), ((1L << gameBoard.getWidth()) - 1) & ~(1L << 5));
+        assertEquals(0, gameBoard.getCell(bottom, 5));
+        assertEquals(8, gameBoard.getCell(bottom, 0));
+
+        gameBoard.mergeBrick(new Point(0, 0), new int[][]{{1}});
+        assertTrue(gameBoard.insertGarbageRow(0, 8), "An occupied top row pushed off the board is a top-out");
+        assertEquals(0L, gameBoard.getRowMask(0));
+
+        assertThrows(IllegalArgumentException.class, () -> gameBoard.insertGarbageRow(-1, 8));
+        assertThrows(IllegalArgumentException.class, () -> gameBoard.insertGarbageRow(gameBoard.getWidth(), 8));
+        assertThrows(IllegalArgumentException.class, () -> gameBoard.insertGarbageRow(0, 0));
+    }
+
+    @Test
+    void ringStorage_matchesReferenceMatrixAcrossRandomMergesClearsAndGarbage() {
+        Random random = new Random(4L);
+        int width = gameBoard.getWidth();
+        int height = gameBoard.getHeight();
+        int[][] expected = new int[height][width];
+
+        for (int step = 0; step < 2_000; step++) {
+            int action = random.nextInt(10);
+            if (action < 6) {
+                int row = random.nextInt(height);
+                int col = random.nextInt(width);
+                int colour = 1 + random.nextInt(7);
+                if (expected[row][col] == 0) {
+                    gameBoard.mergeBrick(new Point(col, row), new int[][]{{colour}});
+                    expected[row][col] = colour;
+                }
+            } else if (action < 9) {
+                int row = random.nextInt(height);
+                int[] fill = new int[width];
+                for (int col = 0; col < width; col++) {
+                    fill[col] = expected[row][col] == 0 ? 2 : 0;
+                    expected[row][col] = expected[row][col] == 0 ? 2 : expected[row][col];
+                }
+                gameBoard.mergeBrick(new Point(0, row), new int[][]{fill});
+                ClearRow reference = MatrixOperations.checkRemoving(expected);
+                ClearRow actual = gameBoard.clearRows();
+                assertEquals(reference.getLinesRemoved(), actual.getLinesRemoved());
+                expected = reference.getNewMatrix();
+            } else {
+                int hole = random.nextInt(width);
+                boolean topOut = false;
+                for (int col = 0; col < width; col++) {
+                    topOut |= expected[0][col] != 0;
+                }
+                System.arraycopy(expected, 1, expected, 0, height - 1);
+                expected[height - 1] = new int[width];
+                Arrays.fill(expected[height - 1], 9);
+                expected[height - 1][hole] = 0;
+                assertEquals(topOut, gameBoard.insertGarbageRow(hole, 9));
+            }
+
+            int[][] matrix = gameBoard.getGameMatrix();
+            for (int row = 0; row < height; row++) {
+                assertArrayEquals(expected[row], matrix[row], "Row " + row + " differs at step " + step);
+                long mask = 0L;
+                for (int col = 0; col < width; col++) {
+                    if (expected[row][col] != 0) mask |= 1L << col;
+                }
+                assertEquals(mask, gameBoard.getRowMask(row));
+            }
+            for (int col = 0; col < width; col++) {
+                int top = 0;
+                while (top < height && expected[top][col] == 0) {
+                    top++;
+                }
+                assertEquals(height - top, gameBoard.getColumnHeight(col), "Column " + col + " at step " + step);
+            }
+        }
+    }
+
+    @Test
+    void getRowFillCount_tracksMergedCells() {
+        int bottom = gameBoard.getHeight() - 1;
+        assertEquals(0, gameBoard.getRowFillCount(bottom));
+
+        gameBoard.mergeBrick(new Point(0, bottom - 1), new int[][]{{1, 1, 0}, {0, 1, 1}});
+
+        assertEquals(2, gameBoard.getRowFillCount(bottom - 1));
+        assertEquals(2, gameBoard.getRowFillCount(bottom));
+        assertEquals(0, gameBoard.getRowFillCount(bottom - 2));
+    }
+
+    @Test
+    void clearRows_findsTouchedFullRowAfterGarbageMovesItUp() {
+        int width = gameBoard.getWidth();
+        int bottom = gameBoard.getHeight() - 1;
+        int[] fullRow = new int[width];
+        Arrays.fill(fullRow, 1);
+        gameBoard.mergeBrick(new Point(0, bottom), new int[][]{fullRow});
+
+        gameBoard.insertGarbageRow(0, 8);
+        ClearRow clearRow = gameBoard.clearRows();
+
+        assertArrayEquals(new int[]{bottom - 1}, clearRow.getClearedRows());
+        assertEquals(width - 1, gameBoard.getRowFillCount(bottom), "Garbage row must stay in place");
+        assertEquals(0, gameBoard.clearRows().getLinesRemoved(), "Nothing is pending after a clear");
+    }
+
+    @Test
+    void dropDistance_matchesSteppingCollisionChecksIncludingOverhangs() {
+        Random random = new Random(6L);
+        BrickShape[] shapes = {
+                BrickShape.of(new int[][]{{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}}),
+                BrickShape.of(new int[][]{{0, 0, 3, 0}, {0, 0, 3, 0}, {0, 3, 3, 0}, {0, 0, 0, 0}}),
+                BrickShape.of(new int[][]{{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}}),
+                BrickShape.of(new int[][]{{5, 0, 0, 0}, {5, 5, 0, 0}, {0, 5, 0, 0}, {0, 0, 0, 0}})
+        };
+
+        for (int trial = 0; trial < 50; trial++) {
+            GameBoard board = new GameBoard(10, 20);
+            for (int row = 8; row < 20; row++) {
+                for (int col = 0; col < 10; col++) {
+                    if (random.nextInt(100) < 45) {
+                        board.mergeBrick(col, row, BrickShape.of(new int[][]{{1}}));
+                    }
+                }
+            }
+            board.clearRows();
+
+            for (BrickShape shape : shapes) {
+                for (int y = -1; y < 20; y++) {
+                    for (int x = -2; x < 10; x++) {
+                        if (board.isCollision(x, y, shape)) {
+                            continue;
+                        }
+                        int expected = 0;
+                        while (!board.isCollision(x, y + expected + 1, shape)) {
+                            expected++;
+                        }
+                        assertEquals(expected, board.dropDistance(x, y, shape),
+                                "Mismatch at (" + x + ", " + y + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void columnHeights_followMergesClearsAndGarbage() {
+        int width = gameBoard.getWidth();
+        int height = gameBoard.getHeight();
+        int[] fullRow = new int[width];
+        Arrays.fill(fullRow, 1);
+
+        gameBoard.mergeBrick(new Point(0, height - 1), new int[][]{fullRow});
+        gameBoard.mergeBrick(new Point(4, height - 3), new int[][]{{2}, {2}});
+        assertEquals(3, gameBoard.getColumnHeight(4));
+        assertEquals(1, gameBoard.getColumnHeight(0));
+
+        gameBoard.clearRows();
+        assertEquals(2, gameBoard.getColumnHeight(4));
+        assertEquals(0, gameBoard.getColumnHeight(0));
+
+        gameBoard.insertGarbageRow(0, 8);
+        assertEquals(3, gameBoard.getColumnHeight(4));
+        assertEquals(0, gameBoard.getColumnHeight(0), "The garbage hole leaves its column empty");
+        assertEquals(1, gameBoard.getColumnHeight(1));
+
+        gameBoard.reset();
+        for (int col = 0; col < width; col++) {
+            assertEquals(0, gameBoard.getColumnHeight(col));
+        }
+    }
+
+    @Test
+    void version_increasesOnEveryBoardChangeOnly() {
+        long start = gameBoard.getVersion();
+        gameBoard.isCollision(0, 0, BrickShape.of(new int[][]{{1}}));
+        gameBoard.clearRows();
+        assertEquals(start, gameBoard.getVersion(), "Reads and empty clears do not change the board");
+
+        int[] fullRow = new int[gameBoard.getWidth()];
+        Arrays.fill(fullRow, 1);
+        gameBoard.mergeBrick(new Point(0, gameBoard.getHeight() - 1), new int[][]{fullRow});
+        long afterMerge = gameBoard.getVersion();
+        assertTrue(afterMerge > start);
+
+        gameBoard.clearRows();
+        long afterClear = gameBoard.getVersion();
+        assertTrue(afterClear > afterMerge);
+
+        gameBoard.insertGarbageRow(0, 8);
+        assertTrue(gameBoard.getVersion() > afterClear);
+
+        long beforeReset = gameBoard.getVersion();
+        gameBoard.reset();
+        assertTrue(gameBoard.getVersion() > beforeReset, "Reset must not rewind the version");
+    }
+
+    @Test
+    void drainDirtyRows_reportsMergedRowsThenShiftedRangeAfterClear() {
+        BitSet dirty = new BitSet();
+        int bottom = gameBoard.getHeight() - 1;
+
+        gameBoard.mergeBrick(1, bottom - 2, BrickShape.of(new int[][]{{1, 1}, {0, 1}}));
+        gameBoard.drainDirtyRows(dirty);
+        assertEquals(BitSet.valueOf(new long[]{(1L << (bottom - 2)) | (1L << (bottom - 1))}), dirty);
+
+        gameBoard.drainDirtyRows(dirty);
+        assertTrue(dirty.isEmpty(), "Draining starts a new, empty set");
+
+        int[] fullRow = new int[gameBoard.getWidth()];
+        Arrays.fill(fullRow, 2);
+        gameBoard.mergeBrick(new Point(0, bottom - 1), new int[][]{fullRow});
+        gameBoard.clearRows();
+        gameBoard.drainDirtyRows(dirty);
+        assertEquals(0, dirty.nextSetBit(0));
+        assertEquals(bottom, dirty.nextClearBit(0), "Rows from the top to the cleared row have moved");
+
+        gameBoard.reset();
+        gameBoard.drainDirtyRows(dirty);
+        assertEquals(gameBoard.getHeight(), dirty.cardinality());
+    }
+
+    @Test
+    void hash_matchesRecomputedHashAcrossRandomMergesClearsAndGarbage() {
+        Random random = new Random(6L);
+        int width = gameBoard.getWidth();
+        int height = gameBoard.getHeight();
+        assertEquals(0L, gameBoard.getHash());
+
+        for (int step = 0; step < 2_000; step++) {
+            int action = random.nextInt(10);
+            if (action < 6) {
+                int row = random.nextInt(height);
+                int col = random.nextInt(width - 1);
+                // May overlap existing cells: occupancy, not merge count, defines the hash.
+                gameBoard.mergeBrick(col, row, BrickShape.of(new int[][]{{1, 1}}));
+            } else if (action < 9) {
+                int row = random.nextInt(height);
+                int[] fill = new int[width];
+                Arrays.fill(fill, 3);
+                fill[random.nextInt(width)] = random.nextBoolean() ? 3 : 0;
+                gameBoard.mergeBrick(new Point(0, row), new int[][]{fill});
+                gameBoard.clearRows();
+            } else {
+                gameBoard.insertGarbageRow(random.nextInt(width), 8);
+            }
+            long expected = 0L;
+            for (int row = 0; row < height; row++) {
+                expected ^= Zobrist.rowHash(row, gameBoard.getRowMask(row));
+            }
+            assertEquals(expected, gameBoard.getHash(), "Hash differs at step " + step);
+        }
+
+        try (BoardSnapshot snapshot = gameBoard.snapshot()) {
+            assertEquals(gameBoard.getHash(), snapshot.getHash());
+        }
+        gameBoard.reset();
+        assertEquals(0L, gameBoard.getHash());
+    }
+
+    @Test
+    void hash_dependsOnOccupancyNotOnPlacementOrder() {
+        GameBoard other = new GameBoard(10, 20);
+        gameBoard.mergeBrick(2, 18, BrickShape.of(new int[][]{{1, 1}}));
+        gameBoard.mergeBrick(4, 19, BrickShape.of(new int[][]{{5}}));
+        other.mergeBrick(4, 19, BrickShape.of(new int[][]{{2}}));
+        other.mergeBrick(2, 18, BrickShape.of(new int[][]{{7, 7}}));
+
+        assertEquals(gameBoard.getHash(), other.getHash(), "Colours and order do not matter");
+        other.mergeBrick(0, 0, BrickShape.of(new int[][]{{1}}));
+        assertNotEquals(gameBoard.getHash(), other.getHash());
+    }
 }
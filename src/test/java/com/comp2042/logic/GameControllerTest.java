@@ -0,0 +1,118 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.model.DownData;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.EventType;
+import com.comp2042.model.MoveEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs GameController headless, with a recording GameView instead of the JavaFX GUI.
+ */
+class GameControllerTest {
+
+    /** Minimal view that only records what the controller reported. */
+    private static final class RecordingView extends HeadlessGameView {
+        InputEventListener listener;
+        ScoreModel score;
+        int gameOvers;
+        int rowRefreshes;
+        int linesCleared;
+
+        @Override public void setEventListener(InputEventListener eventListener) { listener = eventListener; }
+        @Override public void bindScore(ScoreModel score) { this.score = score; }
+        @Override public void recordCombo(int lines) { linesCleared += lines; }
+        @Override public void gameOver() { super.gameOver(); gameOvers++; }
+        @Override public void refreshGameRows(BoardSnapshot board, BitSet dirtyRows) {
+            rowRefreshes++;
+            assertFalse(dirtyRows.isEmpty(), "A lock always changes at least one row");
+        }
+    }
+
+    @Test
+    void constructor_wiresViewToInjectedBoard() {
+        RecordingView view = new RecordingView();
+        SimpleBoard board = new SimpleBoard(10, 25);
+
+        GameController controller = new GameController(view, board);
+
+        assertSame(controller, view.listener);
+        assertSame(board.getScore(), view.score);
+    }
+
+    @Test
+    void hardDrops_runWholeGamesWithoutTheFxToolkit() {
+        RecordingView view = new RecordingView();
+        GameController controller = new GameController(view, new SimpleBoard(10, 25));
+        MoveEvent drop = MoveEvent.of(EventType.HARD_DROP, EventSource.USER);
+
+        int pieces = 0;
+        while (view.gameOvers == 0 && pieces < 10_000) {
+            DownData result = controller.onHardDrop(drop);
+            assertTrue(result.isPieceLanded());
+            pieces++;
+        }
+
+        assertEquals(1, view.gameOvers, "Stacking pieces in the centre must eventually top out");
+        assertEquals(pieces, view.rowRefreshes);
+        assertEquals(view.linesCleared, view.score.getTotalLines());
+
+        controller.createNewGame();
+        assertEquals(0, view.score.getScore());
+    }
+
+    @Test
+    void seededGames_giveIdenticalResultsSequentiallyAndInParallel() {
+        int games = 32;
+        SplittableRandom sequentialRoot = new SplittableRandom(2042L);
+        SplittableRandom parallelRoot = new SplittableRandom(2042L);
+        SplittableRandom[] sequentialStreams = new SplittableRandom[games];
+        SplittableRandom[] parallelStreams = new SplittableRandom[games];
+        // Splits are taken in order on one thread, so game i gets the same stream in both runs.
+        for (int i = 0; i < games; i++) {
+            sequentialStreams[i] = sequentialRoot.split();
+            parallelStreams[i] = parallelRoot.split();
+        }
+
+        long[] sequential = new long[games];
+        for (int i = 0; i < games; i++) {
+            sequential[i] = playGame(sequentialStreams[i]);
+        }
+        long[] parallel = IntStream.range(0, games).parallel()
+                .mapToLong(i -> playGame(parallelStreams[i]))
+                .toArray();
+
+        assertArrayEquals(sequential, parallel);
+    }
+
+    /**
+     * Plays one game of hard drops while shuffling pieces sideways, and returns
+     * a fingerprint of the outcome (pieces placed and final score).
+     */
+    private static long playGame(SplittableRandom stream) {
+        RecordingView view = new RecordingView();
+        SimpleBoard board = new SimpleBoard(10, 25, new SevenBagBrickGenerator(stream));
+        GameController controller = new GameController(view, board);
+        MoveEvent left = MoveEvent.of(EventType.LEFT, EventSource.USER);
+        MoveEvent right = MoveEvent.of(EventType.RIGHT, EventSource.USER);
+        MoveEvent drop = MoveEvent.of(EventType.HARD_DROP, EventSource.USER);
+
+        long pieces = 0;
+        while (view.gameOvers == 0 && pieces < 5_000) {
+            int shift = (int) (pieces % 9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) controller.onLeftEvent(left); else controller.onRightEvent(right);
+            }
+            controller.onHardDrop(drop);
+            pieces++;
+        }
+        return pieces * 1_000_003L + view.score.getScore();
+    }
+}
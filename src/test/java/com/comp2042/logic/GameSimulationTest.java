@@ -0,0 +1,246 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.logic.sim.AutoPlayer;
+import com.comp2042.logic.sim.HeuristicPolicy;
+import com.comp2042.model.EventType;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives GameSimulation synchronously through {@code step} for the rules, and on its
+ * own thread for the concurrency checks.
+ */
+class GameSimulationTest {
+
+    private static final long MS = 1_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private static GameSimulation simulation(long seed) {
+        SimpleBoard board = new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT,
+                new SevenBagBrickGenerator(new SplittableRandom(seed)));
+        return new GameSimulation(board, AutoPlayer.factory(new HeuristicPolicy()), false);
+    }
+
+    @Test
+    void constructor_publishesTheFirstFrame() {
+        RenderFrame frame = simulation(1L).acquireFrame();
+
+        assertEquals(1, frame.getSequence());
+        assertEquals(Constants.BOARD_WIDTH, frame.getWidth());
+        assertNotNull(frame.getActiveBrick().getBrickShape());
+        assertFalse(frame.isGameOver());
+        assertEquals(0, frame.getLocks());
+    }
+
+    @Test
+    void queuedInput_isAppliedOnTheNextStep() {
+        GameSimulation simulation = simulation(2L);
+        int x = simulation.acquireFrame().getActiveBrick().getxPosition();
+
+        assertTrue(simulation.submit(EventType.LEFT));
+        assertEquals(x, simulation.acquireFrame().getActiveBrick().getxPosition(), "Nothing runs until the step");
+        assertTrue(simulation.step(0));
+
+        RenderFrame frame = simulation.acquireFrame();
+        assertEquals(x - 1, frame.getActiveBrick().getxPosition());
+        assertEquals(1, frame.getAppliedInputs());
+        assertFalse(simulation.step(1), "No command and no tick due, so no new frame");
+    }
+
+    @Test
+    void frameObserver_seesEveryPublishedFrameOnTheSimulationThread() {
+        GameSimulation simulation = simulation(12L);
+        long[] sequences = new long[2];
+        int[] calls = new int[1];
+        simulation.setFrameObserver(frame -> sequences[calls[0]++] = frame.getSequence());
+
+        simulation.submit(EventType.LEFT);
+        simulation.step(0);
+        simulation.submit(EventType.RIGHT);
+        simulation.step(1);
+        assertFalse(simulation.step(2), "Nothing published, so nothing observed");
+
+        assertEquals(2, calls[0]);
+        assertArrayEquals(new long[]{2, 3}, sequences, "The constructor's frame is not replayed");
+
+        simulation.setFrameObserver(null);
+        simulation.submit(EventType.LEFT);
+        simulation.step(3);
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    void hardDrop_publishesTheLockedBoard() {
+        GameSimulation simulation = simulation(3L);
+        simulation.submit(EventType.HARD_DROP);
+        simulation.step(0);
+
+        RenderFrame frame = simulation.acquireFrame();
+        assertEquals(1, frame.getLocks());
+        assertEquals(4, occupiedCells(frame));
+        assertEquals(2, frame.getBoardVersion(), "The initial board, then the lock");
+    }
+
+    @Test
+    void lineClears_keepTheFrameBoardInStepWithTheGame() {
+        SimpleBoard board = new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT,
+                new SevenBagBrickGenerator(new SplittableRandom(13L)));
+        GameSimulation simulation = new GameSimulation(board, AutoPlayer.factory(new HeuristicPolicy()), false);
+        simulation.setBotEnabled(true);
+
+        long now = 0;
+        for (int i = 0; i < 20_000 && simulation.acquireFrame().getLineClears() < 3; i++) {
+            now += Constants.BOT_MOVE_MILLIS * MS;
+            simulation.step(now);
+            assertArrayEquals(board.getBoardMatrix(), simulation.acquireFrame().toMatrix(),
+                    "Only the dirty rows are copied, so the frame must still match the board");
+        }
+        assertTrue(simulation.acquireFrame().getLineClears() >= 3);
+    }
+
+    @Test
+    void gravity_ticksOnTheSimulationClock() {
+        GameSimulation simulation = simulation(4L);
+        simulation.step(0);
+        int y = simulation.acquireFrame().getActiveBrick().getyPosition();
+
+        assertFalse(simulation.step(Constants.LEVEL_SPEED[0] * MS - 1));
+        assertTrue(simulation.step(Constants.LEVEL_SPEED[0] * MS));
+        assertEquals(y + 1, simulation.acquireFrame().getActiveBrick().getyPosition());
+    }
+
+    @Test
+    void paused_ignoresInputsAndGravityButCountsThem() {
+        GameSimulation simulation = simulation(5L);
+        simulation.step(0);
+        simulation.setPaused(true);
+        simulation.submit(EventType.HARD_DROP);
+        simulation.step(1);
+        simulation.step(10_000 * MS);
+
+        RenderFrame frame = simulation.acquireFrame();
+        assertEquals(0, frame.getLocks());
+        assertEquals(1, frame.getAppliedInputs(), "Ignored inputs still count, for latency matching");
+    }
+
+    @Test
+    void topOut_endsTheGameUntilANewOneStarts() {
+        GameSimulation simulation = simulation(6L);
+        for (int i = 0; i < 200 && !simulation.acquireFrame().isGameOver(); i++) {
+            simulation.submit(EventType.HARD_DROP);
+            simulation.step(0);
+        }
+        RenderFrame over = simulation.acquireFrame();
+        assertTrue(over.isGameOver());
+        long locks = over.getLocks();
+
+        simulation.submit(EventType.HARD_DROP);
+        simulation.step(0);
+        assertEquals(locks, simulation.acquireFrame().getLocks(), "No input acts after game over");
+
+        simulation.newGame();
+        simulation.step(0);
+        RenderFrame fresh = simulation.acquireFrame();
+        assertFalse(fresh.isGameOver());
+        assertEquals(1, fresh.getGameNumber());
+        assertEquals(0, fresh.getGameLocks());
+        assertEquals(0, occupiedCells(fresh));
+    }
+
+    @Test
+    void runningThread_neverPublishesATornFrame() throws InterruptedException {
+        GameSimulation simulation = simulation(7L);
+        simulation.setBotEnabled(true);
+        simulation.start();
+        EventType[] inputs = {EventType.LEFT, EventType.ROTATE, EventType.RIGHT, EventType.HARD_DROP, EventType.DOWN};
+        long lastSequence = 0;
+        int checked = 0;
+        int gamesSeen = 0;
+        try {
+            long deadline = System.nanoTime() + 1_500 * MS;
+            for (int i = 0; System.nanoTime() < deadline; i++) {
+                simulation.submit(inputs[i % inputs.length]);
+                RenderFrame frame = simulation.acquireFrame();
+                if (frame.getSequence() == lastSequence) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertTrue(frame.getSequence() > lastSequence, "Frames never go backwards");
+                lastSequence = frame.getSequence();
+                assertConsistent(frame);
+                checked++;
+                if (frame.isGameOver() && frame.getGameNumber() == gamesSeen) {
+                    gamesSeen++;
+                    simulation.newGame();
+                }
+            }
+        } finally {
+            simulation.stop();
+        }
+        assertTrue(checked > 100, "Only " + checked + " frames were checked");
+    }
+
+    /**
+     * Checks that every part of a frame comes from the same moment of the game.
+     */
+    private static void assertConsistent(RenderFrame frame) {
+        long expected = 4 * frame.getGameLocks() - (long) frame.getWidth() * frame.getTotalLines();
+        assertEquals(expected, occupiedCells(frame),
+                "Board cells must match the lock and line counters of the same frame");
+
+        ViewData brick = frame.getActiveBrick();
+        assertTrue(brick.getGhostYPosition() >= brick.getyPosition(), "The ghost is never above the brick");
+        if (!frame.isGameOver()) {
+            BrickShape shape = brick.getBrickShape();
+            for (int i = 0; i < shape.getCellCount(); i++) {
+                int row = brick.getyPosition() + shape.getCellRow(i);
+                int col = brick.getxPosition() + shape.getCellColumn(i);
+                assertEquals(0, frame.getCell(row, col), "The active brick never overlaps the board of its own frame");
+            }
+        }
+    }
+
+    private static int occupiedCells(RenderFrame frame) {
+        int count = 0;
+        for (int row = 0; row < frame.getHeight(); row++) {
+            for (int col = 0; col < frame.getWidth(); col++) {
+                if (frame.getCell(row, col) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void persistence_loadsTheSavedHighScoreAndSavesABeatenOne() {
+        String saved = System.getProperty(HighScorePersistence.FILE_PROPERTY);
+        System.setProperty(HighScorePersistence.FILE_PROPERTY, tempDir.resolve("highscore.dat").toString());
+        try {
+            HighScorePersistence.saveHighScore(30);
+            SimpleBoard board = new SimpleBoard(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT,
+                    new SevenBagBrickGenerator(new SplittableRandom(1L)));
+            GameSimulation simulation = new GameSimulation(board, AutoPlayer.factory(new HeuristicPolicy()), true);
+
+            assertEquals(30, simulation.acquireFrame().getHighScore());
+
+            board.getScore().add(50);
+            assertEquals(50, HighScorePersistence.loadHighScore());
+        } finally {
+            if (saved == null) {
+                System.clearProperty(HighScorePersistence.FILE_PROPERTY);
+            } else {
+                System.setProperty(HighScorePersistence.FILE_PROPERTY, saved);
+            }
+        }
+    }
+}
@@ -22,9 +22,15 @@ class HighScorePersistenceTest {
 
     private File tempFile;
 
+    /** The high score file location before the test redirected it, or null. */
+    private String savedFileProperty;
+
     @BeforeEach
     void setUp() throws Exception {
         tempFile = tempDir.resolve("test_highscore.dat").toFile();
+        savedFileProperty = System.getProperty(HighScorePersistence.FILE_PROPERTY);
+        System.setProperty(HighScorePersistence.FILE_PROPERTY,
+                tempDir.resolve("HighScore").resolve("highscore.dat").toString());
     }
 
     @AfterEach
@@ -32,6 +38,11 @@ class HighScorePersistenceTest {
         if (tempFile.exists()) {
             tempFile.delete();
         }
+        if (savedFileProperty == null) {
+            System.clearProperty(HighScorePersistence.FILE_PROPERTY);
+        } else {
+            System.setProperty(HighScorePersistence.FILE_PROPERTY, savedFileProperty);
+        }
     }
 
     private void writeToTempFile(byte[] data) throws IOException {
@@ -88,4 +99,24 @@ class HighScorePersistenceTest {
         assertTrue(tempFile.exists());
         assertEquals(expectedScore, loadIsolatedHighScore());
     }
-}
\ No newline at end of file
+
+    @Test
+    void persistence_reads_and_writes_only_the_redirected_file() {
+        File redirected = tempDir.resolve("HighScore").resolve("highscore.dat").toFile();
+        assertEquals(0, HighScorePersistence.loadHighScore());
+
+        HighScorePersistence.saveHighScore(1234);
+
+        assertTrue(redirected.exists(), "The parent directory is created inside the temporary directory");
+        assertEquals(1234, HighScorePersistence.loadHighScore());
+    }
+
+    @Test
+    void scoreAdapterPersistsABeatenHighScoreToTheRedirectedFile() {
+        Score score = new Score(true);
+        score.add(500);
+
+        assertEquals(500, HighScorePersistence.loadHighScore());
+        assertEquals(500, new Score(true).getHighScore(), "A new adapter loads the saved high score");
+    }
+}
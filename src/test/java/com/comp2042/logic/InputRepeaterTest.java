@@ -0,0 +1,125 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRepeaterTest {
+
+    private static final long MS = 1_000_000L;
+
+    /** Records every delivered input as "TYPE@ms". */
+    private final List<String> log = new ArrayList<>();
+    private final InputRepeater.Sink sink = (type, at) -> log.add(type + "@" + at / MS);
+
+    private InputRepeater repeater() {
+        return new InputRepeater(170 * MS, 50 * MS, 30 * MS, 10);
+    }
+
+    @Test
+    void press_isDeliveredOnceWithItsOwnTimestamp() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.ROTATE, 1_003 * MS);
+
+        assertEquals(1, input.poll(1_016 * MS, sink));
+        assertEquals(List.of("ROTATE@1003"), log);
+        assertEquals(0, input.poll(1_500 * MS, sink), "Rotation does not repeat while held");
+    }
+
+    @Test
+    void osKeyRepeat_isIgnoredWhileHeld() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.HARD_DROP, 0);
+        input.keyPressed(EventType.HARD_DROP, 30 * MS);
+        input.keyPressed(EventType.HARD_DROP, 60 * MS);
+        input.poll(100 * MS, sink);
+        assertEquals(List.of("HARD_DROP@0"), log);
+
+        input.keyReleased(EventType.HARD_DROP, 110 * MS);
+        input.keyPressed(EventType.HARD_DROP, 120 * MS);
+        input.poll(130 * MS, sink);
+        assertEquals(List.of("HARD_DROP@0", "HARD_DROP@120"), log);
+    }
+
+    @Test
+    void heldSideways_repeatsAfterDasAtArr() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.LEFT, 0);
+        input.poll(16 * MS, sink);
+        assertEquals(List.of("LEFT@0"), log);
+
+        input.poll(169 * MS, sink);
+        assertEquals(1, log.size(), "Nothing repeats before DAS has passed");
+
+        input.poll(300 * MS, sink);
+        assertEquals(List.of("LEFT@0", "LEFT@170", "LEFT@220", "LEFT@270"), log,
+                "Repeats carry their scheduled time, not the frame's");
+
+        input.keyReleased(EventType.LEFT, 310 * MS);
+        assertEquals(0, input.poll(1_000 * MS, sink));
+    }
+
+    @Test
+    void lastPressedDirectionWins_andReleaseHandsBackAfterFreshDas() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.LEFT, 0);
+        input.keyPressed(EventType.RIGHT, 100 * MS);
+        input.poll(260 * MS, sink);
+        assertEquals(List.of("LEFT@0", "RIGHT@100"), log, "RIGHT took over and restarted DAS");
+
+        input.poll(270 * MS, sink);
+        assertEquals("RIGHT@270", log.get(log.size() - 1));
+
+        input.keyReleased(EventType.RIGHT, 300 * MS);
+        log.clear();
+        input.poll(469 * MS, sink);
+        assertTrue(log.isEmpty(), "Still held LEFT waits a full DAS again");
+        input.poll(470 * MS, sink);
+        assertEquals(List.of("LEFT@470"), log);
+    }
+
+    @Test
+    void softDrop_repeatsAtItsOwnRate() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.DOWN, 0);
+        input.poll(100 * MS, sink);
+        assertEquals(List.of("DOWN@0", "DOWN@30", "DOWN@60", "DOWN@90"), log);
+    }
+
+    @Test
+    void stall_deliversAtMostTheCapAndDropsTheBacklog() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.RIGHT, 0);
+        input.poll(0, sink);
+        log.clear();
+
+        assertEquals(10, input.poll(10_000 * MS, sink));
+        log.clear();
+        input.poll(10_040 * MS, sink);
+        assertTrue(log.isEmpty(), "The backlog was dropped, the next repeat is one ARR later");
+        input.poll(10_050 * MS, sink);
+        assertEquals(List.of("RIGHT@10050"), log);
+    }
+
+    @Test
+    void releaseAll_forgetsHeldKeysAndQueuedPresses() {
+        InputRepeater input = repeater();
+        input.keyPressed(EventType.LEFT, 0);
+        input.keyPressed(EventType.DOWN, 0);
+        input.releaseAll();
+
+        assertEquals(0, input.poll(1_000 * MS, sink));
+        assertFalse(input.isHeld(EventType.LEFT));
+    }
+
+    @Test
+    void invalidTimings_areRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRepeater(-1, 50 * MS, 30 * MS, 10));
+        assertThrows(IllegalArgumentException.class, () -> new InputRepeater(170 * MS, 0, 30 * MS, 10));
+        assertThrows(IllegalArgumentException.class, () -> new InputRepeater(170 * MS, 50 * MS, 30 * MS, 0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void percentiles_roundUpToTheBucketEdge() {
+        LatencyHistogram histogram = new LatencyHistogram(MS, 100);
+        for (int ms = 1; ms <= 100; ms++) {
+            histogram.record(ms * MS - MS / 2);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50 * MS, histogram.getPercentileNanos(50));
+        assertEquals(90 * MS, histogram.getPercentileNanos(90));
+        assertEquals(99 * MS, histogram.getPercentileNanos(99));
+        assertEquals(50 * MS, histogram.getMeanNanos(), 1.0);
+    }
+
+    @Test
+    void overflow_reportsTheExactMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram(MS, 10);
+        histogram.record(2 * MS);
+        histogram.record(250 * MS);
+
+        assertEquals(250 * MS, histogram.getMaxNanos());
+        assertEquals(250 * MS, histogram.getPercentileNanos(100));
+        assertEquals(3 * MS, histogram.getPercentileNanos(50), "The upper edge of the 2-3 ms bucket");
+    }
+
+    @Test
+    void reset_andEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertTrue(histogram.toString().startsWith("n=0"));
+
+        histogram.record(-5);
+        histogram.record(3 * MS);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(0));
+    }
+}
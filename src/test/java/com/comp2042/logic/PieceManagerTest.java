@@ -1,10 +1,16 @@
 package com.comp2042.logic;
 
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
 import com.comp2042.model.ViewData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Integration-style tests for PieceManager using the real GameBoard,
@@ -125,4 +131,152 @@ class PieceManagerTest {
                 "Ghost Y position must be within board height"
         );
     }
+
+    @Test
+    void refreshViewData_reusesOneInstanceAndTracksState() {
+        pieceManager.spawnNewBrick();
+
+        ViewData first = pieceManager.refreshViewData();
+        int startX = first.getxPosition();
+        pieceManager.moveRight();
+        ViewData second = pieceManager.refreshViewData();
+
+        assertSame(first, second, "The live view data must be refreshed in place");
+        assertEquals(startX + 1, second.getxPosition());
+        assertNotSame(pieceManager.getViewData(), pieceManager.getViewData(),
+                "getViewData() must still hand out independent snapshots");
+    }
+
+    @Test
+    void steadyStateMoves_allocateZeroBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Warm up so class loading and lazy initialisation are not counted
+        for (int i = 0; i < 5_000; i++) {
+            playSteadyStateRound();
+            threadBean.getCurrentThreadAllocatedBytes();
+        }
+
+        // The cheapest window counts, so a one-off JIT recompilation cannot fail the build
+        long allocated = Long.MAX_VALUE;
+        for (int window = 0; window < 5; window++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 1_000; i++) {
+                playSteadyStateRound();
+            }
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0L, allocated, "LEFT/RIGHT/ROTATE/DOWN/HARD_DROP plus the view refresh must not allocate");
+    }
+
+    /**
+     * Two pieces' worth of inputs: spawn, wiggle and rotate a full turn, then
+     * fall to the floor one row at a time; then the same again, but hard dropped.
+     * The pieces are never merged, so the board stays empty and every round does
+     * the same work.
+     */
+    private void playSteadyStateRound() {
+        pieceManager.spawnNewBrick();
+        pieceManager.moveLeft();
+        pieceManager.refreshViewData();
+        pieceManager.moveRight();
+        pieceManager.refreshViewData();
+        for (int r = 0; r < 4; r++) {
+            pieceManager.rotateLeft();
+            pieceManager.refreshViewData();
+        }
+        while (pieceManager.moveDown()) {
+            pieceManager.refreshViewData();
+        }
+
+        pieceManager.spawnNewBrick();
+        pieceManager.moveLeft();
+        pieceManager.refreshViewData();
+        pieceManager.rotateLeft();
+        pieceManager.refreshViewData();
+        pieceManager.hardDrop();
+        pieceManager.refreshViewData();
+    }
+
+    @Test
+    void viewData_previewFollowsTheGeneratorLookahead() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(11L);
+        PieceManager manager = new PieceManager(gameBoard, generator);
+        manager.spawnNewBrick();
+
+        ViewData viewData = manager.refreshViewData();
+
+        assertEquals(Math.min(generator.getLookahead(), Constants.PREVIEW_COUNT), viewData.getPreviewCount());
+        for (int k = 0; k < viewData.getPreviewCount(); k++) {
+            assertSame(PieceTable.shapesOf(generator.peek(k)).get(0), viewData.getPreviewShape(k));
+        }
+        assertSame(viewData.getPreviewShape(1), manager.getViewData().getPreviewShape(1));
+    }
+
+    @Test
+    void hardDrop_landsOnGhostRowInOneStep() {
+        pieceManager.spawnNewBrick();
+        int ghostY = pieceManager.getViewData().getGhostYPosition();
+        int startY = pieceManager.getViewData().getyPosition();
+
+        int distance = pieceManager.hardDrop();
+
+        assertEquals(ghostY - startY, distance);
+        assertEquals(ghostY, pieceManager.getViewData().getyPosition());
+        assertFalse(pieceManager.moveDown(), "After a hard drop the brick must be resting");
+        assertEquals(0, pieceManager.hardDrop());
+    }
+
+    @Test
+    void ghostCache_hitsOnGravityAndMissesWhenColumnOrBoardChanges() {
+        pieceManager.spawnNewBrick();
+        int ghostY = pieceManager.refreshViewData().getGhostYPosition();
+        long misses = pieceManager.getGhostCacheMisses();
+
+        pieceManager.moveDown();
+        assertEquals(ghostY, pieceManager.refreshViewData().getGhostYPosition());
+        pieceManager.moveDown();
+        assertEquals(ghostY, pieceManager.refreshViewData().getGhostYPosition());
+        assertEquals(misses, pieceManager.getGhostCacheMisses(), "Falling straight down must not recompute");
+        assertEquals(2, pieceManager.getGhostCacheHits());
+
+        pieceManager.moveLeft();
+        pieceManager.refreshViewData();
+        assertEquals(misses + 1, pieceManager.getGhostCacheMisses(), "A new column needs a new ghost");
+
+        gameBoard.mergeBrick(0, gameBoard.getHeight() - 1, BrickShape.of(new int[][]{{1}}));
+        pieceManager.refreshViewData();
+        assertEquals(misses + 2, pieceManager.getGhostCacheMisses(), "A board change invalidates the ghost");
+    }
+
+    @Test
+    void ghostCache_alwaysAgreesWithUncachedComputation() {
+        Random random = new Random(7L);
+        for (int piece = 0; piece < 40; piece++) {
+            if (pieceManager.spawnNewBrick()) {
+                gameBoard.reset();
+                continue;
+            }
+            for (int step = 0; step < 30; step++) {
+                switch (random.nextInt(4)) {
+                    case 0 -> pieceManager.moveLeft();
+                    case 1 -> pieceManager.moveRight();
+                    case 2 -> pieceManager.rotateLeft();
+                    default -> pieceManager.moveDown();
+                }
+                ViewData view = pieceManager.refreshViewData();
+                int expected = GhostCalculator.computeGhostY(
+                        gameBoard, view.getBrickShape(), view.getxPosition(), view.getyPosition());
+                assertEquals(expected, view.getGhostYPosition());
+            }
+            pieceManager.hardDrop();
+            pieceManager.mergeBrickToBackground();
+            gameBoard.clearRows();
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.ViewData;
+
+/**
+ * Builds {@link RenderFrame}s for tests outside this package, whose setters are
+ * package-private so that only the game logic publishes frames.
+ */
+public final class RenderFrames {
+
+    private RenderFrames() {
+    }
+
+    /**
+     * Creates a frame showing a board and an active brick.
+     *
+     * @param board The landed blocks, indexed [row][column].
+     * @param activeBrick The active brick and its ghost.
+     * @return A new frame of the board's size.
+     */
+    public static RenderFrame of(int[][] board, ViewData activeBrick) {
+        RenderFrame frame = new RenderFrame(board[0].length, board.length);
+        frame.copyBoard(board);
+        frame.setActiveBrick(activeBrick);
+        return frame;
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreModelTest {
+
+    private ScoreModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new ScoreModel();
+    }
+
+    @Test
+    void addAndAddLines_updateCountersAndLevel() {
+        model.add(300);
+        model.addLines(Constants.LINES_PER_LEVEL);
+
+        assertEquals(300, model.getScore());
+        assertEquals(300, model.getHighScore());
+        assertEquals(Constants.LINES_PER_LEVEL, model.getTotalLines());
+        assertEquals(2, model.getLevel());
+
+        model.addLines(Constants.LINES_PER_LEVEL * Constants.MAX_LEVEL);
+        assertEquals(Constants.MAX_LEVEL, model.getLevel(), "Level is capped");
+    }
+
+    @Test
+    void listener_isNotifiedOnEveryChangeOnly() {
+        int[] calls = new int[1];
+        model.setListener(changed -> {
+            assertSame(model, changed);
+            calls[0]++;
+        });
+
+        model.add(0);
+        model.addLines(-1);
+        assertEquals(0, calls[0], "Ignored updates must not notify");
+
+        model.add(10);
+        model.addLines(1);
+        model.reset();
+        model.setHighScore(500);
+        assertEquals(4, calls[0]);
+        assertEquals(500, model.getHighScore());
+    }
+
+    @Test
+    void scoreAdapter_mirrorsModelIntoProperties() {
+        Score adapter = new Score(model, false);
+
+        model.add(250);
+        model.addLines(3);
+
+        assertEquals(250, adapter.scoreProperty().get());
+        assertEquals(250, adapter.highScoreProperty().get());
+        assertEquals(3, adapter.totalLinesProperty().get());
+        assertSame(model, adapter.getModel());
+    }
+}
@@ -107,7 +107,7 @@ class SimpleBoardTest {
     void newGame_resetsScoreState() {
         board.newGame();
 
-        Score score = board.getScore();
+        ScoreModel score = board.getScore();
         score.add(100);
         score.addLines(5);
         assertTrue(score.getScore() > 0);
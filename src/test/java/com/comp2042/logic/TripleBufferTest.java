@@ -0,0 +1,79 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+
+    @Test
+    void reader_seesOnlyTheNewestPublishedValue() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        assertFalse(buffer.hasFresh());
+
+        for (long value = 1; value <= 3; value++) {
+            buffer.getWriteSlot()[0] = value;
+            buffer.publish();
+        }
+        assertTrue(buffer.hasFresh());
+        assertEquals(3, buffer.acquire()[0], "Values 1 and 2 were skipped");
+        assertFalse(buffer.hasFresh());
+        assertEquals(3, buffer.acquire()[0], "Without a publish the reader keeps its value");
+    }
+
+    @Test
+    void writer_neverGetsTheSlotTheReaderHolds() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        buffer.getWriteSlot()[0] = 1;
+        buffer.publish();
+        long[] held = buffer.acquire();
+
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(held, buffer.getWriteSlot());
+            buffer.getWriteSlot()[0] = 100 + i;
+            buffer.publish();
+        }
+        assertEquals(1, held[0]);
+    }
+
+    @Test
+    void concurrentWriterAndReader_neverProduceATornValue() throws InterruptedException {
+        int words = 64;
+        long publishes = 2_000_000L;
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[words]);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            for (long value = 1; value <= publishes; value++) {
+                Arrays.fill(buffer.getWriteSlot(), value);
+                buffer.publish();
+            }
+        });
+        writer.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        writer.start();
+
+        long last = 0;
+        long distinct = 0;
+        while (last < publishes) {
+            long[] slot = buffer.acquire();
+            long first = slot[0];
+            for (int i = 1; i < words; i++) {
+                if (slot[i] != first) {
+                    fail("Torn value: word 0 is " + first + " but word " + i + " is " + slot[i]);
+                }
+            }
+            assertTrue(first >= last, "Values never go backwards");
+            if (first != last) {
+                distinct++;
+            }
+            last = first;
+        }
+        writer.join();
+
+        assertNull(failure.get());
+        assertTrue(distinct > 1, "The reader saw the stream advance");
+    }
+}
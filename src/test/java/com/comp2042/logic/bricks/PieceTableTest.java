@@ -0,0 +1,70 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.BrickShape;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceTableTest {
+
+    @Test
+    void table_matches_every_brick_definition() {
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            Brick brick = PieceTable.getBrick(id);
+            List<int[][]> matrices = brick.getShapeMatrix();
+
+            assertEquals(id, brick.getPieceId());
+            assertEquals(matrices.size(), PieceTable.getRotationCount(id));
+            for (int rotation = 0; rotation < matrices.size(); rotation++) {
+                assertArrayEquals(matrices.get(rotation), PieceTable.getShape(id, rotation).toMatrix());
+            }
+        }
+    }
+
+    @Test
+    void shapesOf_returns_shared_instances_for_built_in_bricks() {
+        List<BrickShape> first = PieceTable.shapesOf(new TBrick());
+        List<BrickShape> second = PieceTable.shapesOf(new TBrick());
+
+        assertSame(first, second);
+        assertSame(PieceTable.getShape(PieceTable.T, 2), first.get(2));
+        assertThrows(UnsupportedOperationException.class, () -> first.set(0, first.get(1)));
+    }
+
+    @Test
+    void shapesOf_converts_custom_bricks() {
+        Brick custom = () -> List.<int[][]>of(new int[][]{{9, 9}});
+
+        List<BrickShape> shapes = PieceTable.shapesOf(custom);
+
+        assertEquals(PieceTable.UNTABULATED, custom.getPieceId());
+        assertEquals(1, shapes.size());
+        assertEquals(0b11L, shapes.get(0).getRowMask(0));
+    }
+
+    @Test
+    void i_brick_rotations_have_trimmed_bounds_and_cell_lists() {
+        BrickShape horizontal = PieceTable.getShape(PieceTable.I, 0);
+        BrickShape vertical = PieceTable.getShape(PieceTable.I, 1);
+
+        assertEquals(4, horizontal.getBoundingWidth());
+        assertEquals(1, horizontal.getBoundingHeight());
+        assertEquals(1, vertical.getBoundingWidth());
+        assertEquals(4, vertical.getBoundingHeight());
+
+        assertEquals(4, horizontal.getCellCount());
+        for (int i = 0; i < horizontal.getCellCount(); i++) {
+            assertEquals(1, horizontal.getCellRow(i));
+            assertEquals(i, horizontal.getCellColumn(i));
+        }
+    }
+
+    @Test
+    void spawn_offset_centres_the_four_wide_matrix() {
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            assertEquals(-2, PieceTable.getShape(id, 0).getSpawnColumnOffset());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededBrickGeneratorTest {
+
+    private static final int DRAWS = 5_000;
+
+    private static int[] draw(SeededBrickGenerator generator, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generator.nextBrickId();
+        }
+        return ids;
+    }
+
+    @Test
+    void sameSeed_givesSameSequenceForEveryStrategy() {
+        assertArrayEquals(draw(new UniformBrickGenerator(42L), DRAWS), draw(new UniformBrickGenerator(42L), DRAWS));
+        assertArrayEquals(draw(new SevenBagBrickGenerator(42L), DRAWS), draw(new SevenBagBrickGenerator(42L), DRAWS));
+        assertArrayEquals(draw(new HistoryBrickGenerator(42L), DRAWS), draw(new HistoryBrickGenerator(42L), DRAWS));
+    }
+
+    @Test
+    void splitStreams_areRepeatableAndIndependent() {
+        SplittableRandom first = new SplittableRandom(7L);
+        SplittableRandom second = new SplittableRandom(7L);
+
+        int[] a = draw(new UniformBrickGenerator(first.split()), DRAWS);
+        int[] b = draw(new UniformBrickGenerator(first.split()), DRAWS);
+        int[] a2 = draw(new UniformBrickGenerator(second.split()), DRAWS);
+
+        assertArrayEquals(a, a2, "The n-th split of the same seed must repeat");
+        assertFalse(Arrays.equals(a, b), "Sibling splits must differ");
+    }
+
+    @Test
+    void sevenBag_dealsEveryBrickOncePerBagAcrossRefills() {
+        int[] ids = draw(new SevenBagBrickGenerator(3L), PieceTable.PIECE_COUNT * 200);
+
+        for (int bag = 0; bag < ids.length; bag += PieceTable.PIECE_COUNT) {
+            boolean[] seen = new boolean[PieceTable.PIECE_COUNT + 1];
+            for (int i = bag; i < bag + PieceTable.PIECE_COUNT; i++) {
+                assertFalse(seen[ids[i]], "Piece " + ids[i] + " repeated within bag at " + bag);
+                seen[ids[i]] = true;
+            }
+        }
+    }
+
+    @Test
+    void history_makesImmediateRepeatsRare() {
+        int[] uniform = draw(new UniformBrickGenerator(9L), DRAWS);
+        int[] history = draw(new HistoryBrickGenerator(9L), DRAWS);
+
+        assertTrue(repeats(history) * 10 < repeats(uniform),
+                "History rerolls should cut back-to-back repeats far below uniform picks");
+    }
+
+    @Test
+    void bricks_areSharedTableInstancesAndPeekMatchesNext() {
+        SeededBrickGenerator generator = new SevenBagBrickGenerator(1L);
+        for (int i = 0; i < 50; i++) {
+            Brick next = generator.getNextBrick();
+            Brick brick = generator.getBrick();
+            assertSame(next, brick);
+            assertSame(PieceTable.getBrick(brick.getPieceId()), brick);
+        }
+    }
+
+    @Test
+    void peek_readsTheUpcomingBricksWithoutConsumingThem() {
+        SeededBrickGenerator generator = new SevenBagBrickGenerator(new SplittableRandom(9L), Constants.MAX_LOOKAHEAD);
+        assertEquals(Constants.MAX_LOOKAHEAD, generator.getLookahead());
+        for (int round = 0; round < 200; round++) {
+            int[] ahead = new int[generator.getLookahead()];
+            for (int k = 0; k < ahead.length; k++) {
+                ahead[k] = generator.peekBrickId(k);
+                assertSame(PieceTable.getBrick(ahead[k]), generator.peek(k));
+            }
+            assertEquals(ahead[0], generator.nextBrickId());
+            for (int k = 1; k < ahead.length; k++) {
+                assertEquals(ahead[k], generator.peekBrickId(k - 1), "The queue must shift by one per draw");
+            }
+        }
+    }
+
+    @Test
+    void lookahead_doesNotChangeTheSequence() {
+        assertArrayEquals(draw(new UniformBrickGenerator(new SplittableRandom(3L), 1), DRAWS),
+                draw(new UniformBrickGenerator(new SplittableRandom(3L), Constants.MAX_LOOKAHEAD), DRAWS));
+        assertArrayEquals(draw(new HistoryBrickGenerator(new SplittableRandom(3L), 2, 1), DRAWS),
+                draw(new HistoryBrickGenerator(new SplittableRandom(3L), 2, 7), DRAWS));
+    }
+
+    @Test
+    void lookahead_isBoundedAndValidated() {
+        SeededBrickGenerator generator = new UniformBrickGenerator(new SplittableRandom(5L), 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peek(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peekBrickId(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UniformBrickGenerator(new SplittableRandom(5L), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SevenBagBrickGenerator(new SplittableRandom(5L), Constants.MAX_LOOKAHEAD + 1));
+    }
+
+    private static int repeats(int[] ids) {
+        int count = 0;
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) count++;
+        }
+        return count;
+    }
+}
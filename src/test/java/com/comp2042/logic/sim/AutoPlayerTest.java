@@ -0,0 +1,66 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.HeadlessGameView;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.EventType;
+import com.comp2042.model.MoveEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoPlayerTest {
+
+    @Test
+    void playPiece_feedsTheControllerAndClearsLines() {
+        HeadlessGameView view = new HeadlessGameView();
+        SimpleBoard board = new SimpleBoard(10, 25, new SevenBagBrickGenerator(3L));
+        GameController controller = new GameController(view, board);
+        AutoPlayer player = new AutoPlayer(board, controller, new HeuristicPolicy(), new SplittableRandom(3L));
+
+        long slowest = 0;
+        for (int piece = 0; piece < 300 && !view.isGameOver(); piece++) {
+            player.playPiece();
+            slowest = Math.max(slowest, player.getLastDecisionNanos());
+        }
+
+        assertFalse(view.isGameOver(), "The heuristic bot should survive 300 bricks");
+        assertTrue(board.getScore().getTotalLines() > 50);
+        long budget = Constants.LEVEL_SPEED[Constants.LEVEL_SPEED.length - 1] * 1_000_000L;
+        assertTrue(slowest < budget, "A decision must fit inside a level-10 tick, took " + slowest + " ns");
+    }
+
+    @Test
+    void nextMove_stillLandsPiecesWhileGravityRuns() {
+        HeadlessGameView view = new HeadlessGameView();
+        SimpleBoard board = new SimpleBoard(10, 25, new SevenBagBrickGenerator(8L));
+        GameController controller = new GameController(view, board);
+        AutoPlayer player = new AutoPlayer(board, controller, new HeuristicPolicy(), new SplittableRandom(8L));
+        MoveEvent gravity = MoveEvent.of(EventType.DOWN, EventSource.THREAD);
+
+        int drops = 0;
+        for (int step = 0; step < 5_000 && drops < 100 && !view.isGameOver(); step++) {
+            EventType move = player.nextMove();
+            switch (move) {
+                case LEFT: controller.onLeftEvent(MoveEvent.of(move, EventSource.THREAD)); break;
+                case RIGHT: controller.onRightEvent(MoveEvent.of(move, EventSource.THREAD)); break;
+                case ROTATE: controller.onRotateEvent(MoveEvent.of(move, EventSource.THREAD)); break;
+                default:
+                    controller.onHardDrop(MoveEvent.of(move, EventSource.THREAD));
+                    drops++;
+            }
+            if (step % 2 == 1) {
+                controller.onDownEvent(gravity);
+            }
+        }
+
+        assertEquals(100, drops);
+        assertFalse(view.isGameOver());
+        assertTrue(board.getScore().getTotalLines() > 10);
+    }
+}
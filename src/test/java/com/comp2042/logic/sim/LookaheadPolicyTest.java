@@ -0,0 +1,83 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.BoardSnapshot;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.GameBoard;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookaheadPolicyTest {
+
+    @Test
+    void withoutANextBrick_playsLikeItsHeuristic() {
+        GameBoard board = new GameBoard(10, 20);
+        board.mergeBrick(0, 19, BrickShape.of(new int[][]{{1, 1, 1, 0, 1, 1, 1, 1, 1, 1}}));
+        Placements placements = new Placements(10, 20);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.T), 3, 2);
+        }
+        LookaheadPolicy policy = new LookaheadPolicy();
+
+        assertEquals(new HeuristicPolicy().choose(placements, null), policy.choose(placements, null));
+        assertEquals(0, policy.getTable().getHits() + policy.getTable().getMisses());
+    }
+
+    @Test
+    void transpositions_reuseSecondPlyEvaluations() {
+        GameBoard board = new GameBoard(10, 20);
+        board.mergeBrick(0, 19, BrickShape.of(new int[][]{{1, 1, 1, 1, 1, 1, 0, 0, 0, 0}}));
+        Placements placements = new Placements(10, 20);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.I), 3, 2);
+        }
+        placements.setNextBrick(PieceTable.getBrick(PieceTable.O));
+        LookaheadPolicy policy = new LookaheadPolicy(new HeuristicPolicy(), new TranspositionTable(1 << 10));
+
+        int first = policy.choose(placements, null);
+        TranspositionTable table = policy.getTable();
+        Set<Long> boards = new HashSet<>();
+        for (int i = 0; i < placements.size(); i++) {
+            boards.add(placements.getResultHash(i));
+        }
+        // Candidates that leave the same board share one entry; the rest are hits.
+        assertEquals(boards.size(), table.getStores());
+        assertEquals(placements.size() - boards.size(), table.getHits());
+
+        assertEquals(first, policy.choose(placements, null));
+        assertEquals(boards.size(), table.getStores(), "A repeated decision is served entirely from the table");
+    }
+
+    @Test
+    void sharedTable_reusesEvaluationsAcrossParallelGames() {
+        LookaheadPolicy policy = new LookaheadPolicy(new HeuristicPolicy(), new TranspositionTable(1 << 16));
+        // Every game draws the same bricks, so each position is met by all four games.
+        SimulationSummary summary = new SelfPlaySimulator(policy,
+                random -> new SevenBagBrickGenerator(new SplittableRandom(5L)), 10, 25, 150).run(3L, 4);
+
+        for (int i = 0; i < summary.getGameCount(); i++) {
+            assertEquals(150, summary.getResult(i).getPieces());
+            assertEquals(summary.getResult(0).getScore(), summary.getResult(i).getScore());
+        }
+        assertTrue(policy.getTable().getHitRate() >= 0.5, policy.getTable().toString());
+    }
+
+    @Test
+    void choose_ignoresTheRandomStream() {
+        GameBoard board = new GameBoard(10, 20);
+        Placements placements = new Placements(10, 20);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.S), 3, 2);
+        }
+        placements.setNextBrick(PieceTable.getBrick(PieceTable.Z));
+        LookaheadPolicy policy = new LookaheadPolicy();
+
+        assertEquals(policy.choose(placements, new SplittableRandom(1)), policy.choose(placements, new SplittableRandom(2)));
+    }
+}
@@ -0,0 +1,253 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.BoardSnapshot;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.GameBoard;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PlacementsTest {
+
+    private static final BrickShape CELL = BrickShape.of(new int[][]{{1}});
+
+    @Test
+    void everyCandidateRestsOnTheStackAndIsCollisionFree() {
+        GameBoard board = new GameBoard(10, 20);
+        Random random = new Random(13);
+        for (int row = 12; row < 20; row++) {
+            for (int col = 0; col < 10; col++) {
+                if (random.nextInt(100) < 55) board.mergeBrick(col, row, CELL);
+            }
+        }
+        Placements placements = new Placements(10, 20);
+
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            try (BoardSnapshot snapshot = board.snapshot()) {
+                placements.enumerate(snapshot, PieceTable.getBrick(id), 3, 2);
+            }
+            assertTrue(placements.size() > 0);
+            for (int i = 0; i < placements.size(); i++) {
+                BrickShape shape = PieceTable.getShape(id, placements.getRotation(i));
+                int x = placements.getColumn(i);
+                int y = placements.getLandingRow(i) - shape.getMaxRow();
+                assertFalse(board.isCollision(x, y, shape));
+                assertTrue(board.isCollision(x, y + 1, shape), "A hard-dropped brick must be resting");
+                assertEquals(2 + board.dropDistance(x, 2, shape), y);
+            }
+        }
+    }
+
+    @Test
+    void oBrick_reachesEveryColumnOnAnEmptyBoard() {
+        Placements placements = new Placements(10, 20);
+        BrickShape o = PieceTable.getShape(PieceTable.O, 0);
+        try (BoardSnapshot snapshot = new GameBoard(10, 20).snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.O), 3, 2);
+        }
+
+        assertEquals(10 - o.getBoundingWidth() + 1, placements.size() / PieceTable.getRotationCount(PieceTable.O));
+    }
+
+    @Test
+    void evaluate_measuresLinesHeightHolesAndBumpiness() {
+        GameBoard board = new GameBoard(4, 6);
+        board.mergeBrick(1, 5, CELL);
+        Placements placements = new Placements(4, 6);
+        BrickShape o = PieceTable.getShape(PieceTable.O, 0);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.O), 1 - o.getMinColumn(), 0);
+        }
+        placements.evaluate();
+
+        int onTheBump = -1;
+        for (int i = 0; i < placements.size(); i++) {
+            if (placements.getRotation(i) == 0 && placements.getColumn(i) + o.getMinColumn() == 0) onTheBump = i;
+        }
+        assertTrue(onTheBump >= 0);
+        assertEquals(0, placements.getLinesCleared(onTheBump));
+        assertEquals(1, placements.getHoles(onTheBump));
+        assertEquals(6, placements.getAggregateHeight(onTheBump));
+        assertEquals(3, placements.getBumpiness(onTheBump));
+    }
+
+    @Test
+    void evaluate_clearsCompletedLinesBeforeMeasuring() {
+        GameBoard board = new GameBoard(4, 6);
+        Placements placements = new Placements(4, 6);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.I), 0, 0);
+        }
+        placements.evaluate();
+
+        int tetrisLine = -1;
+        for (int i = 0; i < placements.size(); i++) {
+            if (placements.getLinesCleared(i) == 1) tetrisLine = i;
+        }
+        assertTrue(tetrisLine >= 0, "A flat I brick fills the whole 4-wide row");
+        assertEquals(0, placements.getAggregateHeight(tetrisLine));
+        assertEquals(0, placements.getHoles(tetrisLine));
+        assertEquals(0, placements.getBumpiness(tetrisLine));
+    }
+
+    @Test
+    void paths_replayOnTheBoardToEveryCandidate() {
+        GameBoard board = randomStack(21);
+        Placements placements = new Placements(10, 20);
+        EventType[] moves = new EventType[64];
+
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            int rotations = PieceTable.getRotationCount(id);
+            for (int start = 0; start < rotations; start++) {
+                if (board.isCollision(3, 2, PieceTable.getShape(id, start))) continue;
+                try (BoardSnapshot snapshot = board.snapshot()) {
+                    placements.enumerate(snapshot, PieceTable.getBrick(id), start, 3, 2);
+                }
+                for (int i = 0; i < placements.size(); i++) {
+                    int r = start;
+                    int x = 3;
+                    int length = placements.getPath(i, moves);
+                    assertEquals(placements.getPathLength(i), length);
+                    for (int m = 0; m < length; m++) {
+                        if (moves[m] == EventType.ROTATE) r = (r + 1) % rotations;
+                        else x += moves[m] == EventType.LEFT ? -1 : 1;
+                        assertFalse(board.isCollision(x, 2, PieceTable.getShape(id, r)), "Every step must be legal");
+                    }
+                    assertEquals(placements.getRotation(i), r);
+                    assertEquals(placements.getColumn(i), x);
+                    assertEquals(length == 0 ? null : moves[0], placements.getFirstMove(i));
+                    assertEquals(i, placements.indexOf(r, x));
+                }
+            }
+        }
+    }
+
+    @Test
+    void search_findsEveryStateTheBrickCanReach() {
+        GameBoard board = new GameBoard(10, 20);
+        Placements placements = new Placements(10, 20);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.T), 2, 4, 2);
+        }
+
+        int expected = 0;
+        for (int r = 0; r < PieceTable.getRotationCount(PieceTable.T); r++) {
+            BrickShape shape = PieceTable.getShape(PieceTable.T, r);
+            expected += 10 - shape.getBoundingWidth() + 1;
+        }
+        assertEquals(expected, placements.size(), "On an empty board every rotation reaches every column");
+        assertEquals(-1, placements.indexOf(0, 20));
+    }
+
+    @Test
+    void deciding_allocatesNothingOnceWarm() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameBoard board = randomStack(5);
+        Placements placements = new Placements(10, 20);
+        HeuristicPolicy policy = new HeuristicPolicy();
+        SplittableRandom random = new SplittableRandom(1);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            for (int i = 0; i < 20_000; i++) {
+                decide(placements, snapshot, policy, random, i);
+                threadBean.getCurrentThreadAllocatedBytes();
+            }
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 1_000; i++) {
+                decide(placements, snapshot, policy, random, i);
+            }
+            assertEquals(0L, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+    }
+
+    @Test
+    void resultHash_matchesTheBoardTheGameLeavesBehind() {
+        GameBoard board = randomStack(8);
+        Placements placements = new Placements(10, 20);
+        for (int id = PieceTable.I; id <= PieceTable.PIECE_COUNT; id++) {
+            try (BoardSnapshot snapshot = board.snapshot()) {
+                placements.enumerate(snapshot, PieceTable.getBrick(id), 3, 2);
+                assertEquals(board.getHash(), placements.getBoardHash());
+            }
+            placements.evaluate();
+            for (int i = 0; i < placements.size(); i++) {
+                GameBoard copy = copyOf(board);
+                BrickShape shape = PieceTable.getShape(id, placements.getRotation(i));
+                copy.mergeBrick(placements.getColumn(i), placements.getLandingRow(i) - shape.getMaxRow(), shape);
+                assertEquals(placements.getLinesCleared(i), copy.clearRows().getLinesRemoved());
+                assertEquals(copy.getHash(), placements.getResultHash(i), "Piece " + id + ", candidate " + i);
+            }
+        }
+    }
+
+    @Test
+    void enumerateAfter_spawnsTheNextBrickOnTheResultingBoard() {
+        GameBoard board = randomStack(9);
+        Placements placements = new Placements(10, 20);
+        try (BoardSnapshot snapshot = board.snapshot()) {
+            placements.enumerate(snapshot, PieceTable.getBrick(PieceTable.T), 3, 2);
+        }
+        placements.evaluate();
+        Placements child = placements.child();
+        assertSame(child, placements.child());
+
+        for (int i = 0; i < placements.size(); i++) {
+            GameBoard copy = copyOf(board);
+            BrickShape shape = PieceTable.getShape(PieceTable.T, placements.getRotation(i));
+            copy.mergeBrick(placements.getColumn(i), placements.getLandingRow(i) - shape.getMaxRow(), shape);
+            copy.clearRows();
+            Placements expected = new Placements(10, 20);
+            try (BoardSnapshot snapshot = copy.snapshot()) {
+                expected.enumerate(snapshot, PieceTable.getBrick(PieceTable.I), 3, 2);
+            }
+            child.enumerateAfter(placements, i, PieceTable.getBrick(PieceTable.I));
+            assertEquals(placements.getResultHash(i), child.getBoardHash());
+            assertEquals(expected.size(), child.size());
+            for (int j = 0; j < child.size(); j++) {
+                assertEquals(expected.getLandingRow(j), child.getLandingRow(j));
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new Placements(8, 20).enumerateAfter(placements, 0, PieceTable.getBrick(PieceTable.O)));
+    }
+
+    private static GameBoard copyOf(GameBoard board) {
+        GameBoard copy = new GameBoard(board.getWidth(), board.getHeight());
+        int[][] matrix = board.getGameMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) copy.mergeBrick(col, row, CELL);
+            }
+        }
+        return copy;
+    }
+
+    private static int decide(Placements placements, BoardSnapshot snapshot, PlacementPolicy policy,
+                              SplittableRandom random, int round) {
+        int id = PieceTable.I + round % PieceTable.PIECE_COUNT;
+        placements.enumerate(snapshot, PieceTable.getBrick(id), 3, 2);
+        return policy.choose(placements, random);
+    }
+
+    private static GameBoard randomStack(long seed) {
+        GameBoard board = new GameBoard(10, 20);
+        Random random = new Random(seed);
+        for (int row = 11; row < 20; row++) {
+            for (int col = 0; col < 10; col++) {
+                if (random.nextInt(100) < 50) board.mergeBrick(col, row, CELL);
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlaySimulatorTest {
+
+    @Test
+    void batches_areReproducibleWhateverTheParallelism() {
+        SelfPlaySimulator simulator = new SelfPlaySimulator(new RandomPolicy());
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            SimulationSummary first = simulator.run(99L, 24, single);
+            SimulationSummary second = simulator.run(99L, 24, many);
+
+            for (int i = 0; i < first.getGameCount(); i++) {
+                GameResult a = first.getResult(i);
+                GameResult b = second.getResult(i);
+                assertEquals(a.getSeed(), b.getSeed());
+                assertEquals(a.getScore(), b.getScore());
+                assertEquals(a.getPieces(), b.getPieces());
+                assertEquals(a.getLines(), b.getLines());
+            }
+            GameResult replay = simulator.play(first.getResult(5).getSeed());
+            assertEquals(first.getResult(5).getScore(), replay.getScore());
+            assertEquals(first.getResult(5).getPieces(), replay.getPieces());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void heuristicPolicy_outplaysRandomPlacement() {
+        int games = 8;
+        SimulationSummary random = new SelfPlaySimulator(new RandomPolicy(), SevenBagBrickGenerator::new, 10, 25, 400)
+                .run(7L, games);
+        SimulationSummary heuristic = new SelfPlaySimulator(new HeuristicPolicy(), SevenBagBrickGenerator::new, 10, 25, 400)
+                .run(7L, games);
+
+        assertTrue(heuristic.getMeanLines() > 10 * Math.max(random.getMeanLines(), 1),
+                "heuristic " + heuristic + " vs random " + random);
+        assertEquals(400, heuristic.getResult(0).getPieces(), "The heuristic should survive to the piece cap");
+        assertTrue(heuristic.getPiecesPerSecond() > 0);
+    }
+
+    @Test
+    void summary_reportsDistributionStatistics() {
+        GameResult[] results = {
+                new GameResult(1, 300, 3, 1, 30, 1_000_000),
+                new GameResult(2, 100, 1, 1, 10, 1_000_000),
+                new GameResult(3, 200, 5, 2, 20, 1_000_000)
+        };
+        SimulationSummary summary = new SimulationSummary(results, 2_000_000);
+
+        assertEquals(200.0, summary.getMeanScore(), 1e-9);
+        assertEquals(100, summary.getMinScore());
+        assertEquals(300, summary.getMaxScore());
+        assertEquals(200, summary.getScorePercentile(50));
+        assertEquals(3.0, summary.getMeanLines(), 1e-9);
+        assertEquals(2, summary.getMaxLevel());
+        assertEquals(60, summary.getTotalPieces());
+        assertEquals(30_000.0, summary.getPiecesPerSecond(), 1e-6);
+        assertThrows(IllegalArgumentException.class, () -> new SimulationSummary(new GameResult[0], 1));
+    }
+}
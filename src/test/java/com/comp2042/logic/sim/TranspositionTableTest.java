@@ -0,0 +1,95 @@
+package com.comp2042.logic.sim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void storedValues_areFoundAndCountedAsHits() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.getCapacity());
+        long key = TranspositionTable.key(0x1234L, 3, 0);
+
+        assertTrue(Double.isNaN(table.get(key)));
+        table.put(key, -12.5);
+        assertEquals(-12.5, table.get(key));
+        assertEquals(Double.NEGATIVE_INFINITY, putAndGet(table, 0L, Double.NEGATIVE_INFINITY), "Key 0 is a valid key");
+
+        assertEquals(2, table.getHits());
+        assertEquals(1, table.getMisses());
+        assertEquals(2, table.getStores());
+        assertEquals(2.0 / 3.0, table.getHitRate(), 1e-12);
+
+        table.clear();
+        assertTrue(Double.isNaN(table.get(key)));
+        assertEquals(0, table.getHits());
+        assertThrows(IllegalArgumentException.class, () -> table.put(key, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    @Test
+    void keys_separatePieceAndHold() {
+        long board = 0xCAFEL;
+        assertNotEquals(TranspositionTable.key(board, 1, 0), TranspositionTable.key(board, 2, 0));
+        assertNotEquals(TranspositionTable.key(board, 1, 0), TranspositionTable.key(board, 1, 2));
+        assertNotEquals(TranspositionTable.key(board, 1, 2), TranspositionTable.key(board, 2, 1));
+    }
+
+    @Test
+    void replacedEntry_readsAsMissForTheOldKey() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.put(1L, 1.0);
+        table.put(2L, 2.0);
+
+        assertTrue(Double.isNaN(table.get(1L)));
+        assertEquals(2.0, table.get(2L));
+    }
+
+    @Test
+    void concurrentWriters_neverReturnAnotherKeysValue() throws Exception {
+        // A tiny table so that threads constantly overwrite each other's slots.
+        TranspositionTable table = new TranspositionTable(16);
+        AtomicInteger wrong = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] tasks = new Future<?>[4];
+            for (int t = 0; t < tasks.length; t++) {
+                long seed = t;
+                tasks[t] = pool.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = random.nextLong(64);
+                        double value = table.get(key);
+                        if (!Double.isNaN(value) && value != key) {
+                            wrong.incrementAndGet();
+                        }
+                        table.put(key, key);
+                    }
+                });
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertEquals(0, wrong.get());
+        assertEquals(800_000, table.getHits() + table.getMisses());
+        assertTrue(table.getHitRate() > 0);
+    }
+
+    private static double putAndGet(TranspositionTable table, long key, double value) {
+        table.put(key, value);
+        return table.get(key);
+    }
+}
@@ -51,4 +51,31 @@ class ClearRowTest {
         assertEquals(1, second[0][0],
                 "Modifying the returned matrix should not affect subsequent copies");
     }
+
+    @Test
+    void rowIndexConstructorCountsRowsAndCopiesIndices() {
+        int[] rows = {17, 19};
+
+        ClearRow clearRow = new ClearRow(rows, 200);
+        rows[0] = 0;
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(200, clearRow.getScoreBonus());
+        assertArrayEquals(new int[]{17, 19}, clearRow.getClearedRows());
+        assertNotSame(clearRow.getClearedRows(), clearRow.getClearedRows());
+        assertNull(clearRow.getNewMatrix());
+    }
+
+    @Test
+    void rangeConstructorCopiesOnlyTheRange() {
+        int[] scratch = {0, 0, 17, 19};
+
+        ClearRow clearRow = new ClearRow(scratch, 2, 4, 200);
+        scratch[2] = 0;
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertArrayEquals(new int[]{17, 19}, clearRow.getClearedRows());
+        assertEquals(0, new ClearRow(scratch, 4, 4, 0).getLinesRemoved());
+        assertThrows(IndexOutOfBoundsException.class, () -> new ClearRow(scratch, 3, 5, 0));
+    }
 }
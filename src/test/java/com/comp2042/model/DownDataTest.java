@@ -65,4 +65,22 @@ class DownDataTest {
         assertSame(board, downData.getBoard());
         assertFalse(downData.isPieceLanded(), "Convenience constructor with board should default pieceLanded to false");
     }
+
+    @Test
+    void reusableInstanceIsUpdatedInPlaceAndSnapshotsAreNot() {
+        ClearRow clearRow = new ClearRow(1, new int[][]{{0}}, 50);
+        DownData reusable = DownData.createReusable();
+
+        assertSame(reusable, reusable.update(clearRow, null, true));
+        assertSame(clearRow, reusable.getClearRow());
+        assertTrue(reusable.isPieceLanded());
+        assertNull(reusable.getBoard());
+
+        reusable.update(null, null, false);
+        assertNull(reusable.getClearRow());
+        assertFalse(reusable.isPieceLanded());
+
+        DownData snapshot = new DownData(clearRow, null, true);
+        assertThrows(IllegalStateException.class, () -> snapshot.update(null, null, false));
+    }
 }
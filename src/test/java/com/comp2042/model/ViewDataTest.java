@@ -1,5 +1,6 @@
 package com.comp2042.model;
 
+import com.comp2042.logic.BrickShape;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,4 +75,102 @@ class ViewDataTest {
         assertEquals(2, secondNext[0][0],
                 "Modifying one next data copy must not affect subsequent copies");
     }
+
+    @Test
+    void reusableInstanceIsUpdatedInPlaceAndSharesShapes() {
+        BrickShape brick = BrickShape.of(new int[][]{{1, 1}});
+        BrickShape next = BrickShape.of(new int[][]{{2}});
+        ViewData reusable = ViewData.createReusable();
+
+        ViewData returned = reusable.update(brick, 4, 6, next, 12);
+
+        assertSame(reusable, returned);
+        assertSame(brick, reusable.getBrickShape(), "Shapes are immutable and must not be copied");
+        assertSame(next, reusable.getNextBrickShape());
+        assertEquals(4, reusable.getxPosition());
+        assertEquals(6, reusable.getyPosition());
+        assertEquals(12, reusable.getGhostYPosition());
+    }
+
+    @Test
+    void snapshotsRejectInPlaceUpdates() {
+        ViewData snapshot = new ViewData(new int[][]{{1}}, 0, 0, new int[][]{{2}}, 0);
+
+        assertThrows(IllegalStateException.class,
+                () -> snapshot.update(snapshot.getBrickShape(), 1, 1, snapshot.getNextBrickShape(), 1));
+    }
+
+    @Test
+    void previewIsCopiedIntoSnapshotsAndReusableInstances() {
+        BrickShape brick = BrickShape.of(new int[][]{{1, 1}});
+        BrickShape[] preview = {
+                BrickShape.of(new int[][]{{2}}),
+                BrickShape.of(new int[][]{{3}}),
+                BrickShape.of(new int[][]{{4}})
+        };
+
+        ViewData snapshot = new ViewData(brick, 0, 0, preview, 2, 5);
+        ViewData reusable = ViewData.createReusable().update(brick, 0, 0, preview, 3, 5);
+        preview[0] = preview[2];
+
+        assertEquals(2, snapshot.getPreviewCount());
+        assertEquals(3, reusable.getPreviewCount());
+        assertNotSame(preview[0], snapshot.getPreviewShape(0), "Snapshots must copy the preview array");
+        assertSame(snapshot.getNextBrickShape(), snapshot.getPreviewShape(0));
+        assertSame(preview[1], reusable.getPreviewShape(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getPreviewShape(2));
+        assertThrows(IllegalArgumentException.class, () -> new ViewData(brick, 0, 0, preview, 0, 5));
+    }
+
+    @Test
+    void singleShapeConstructorsExposeTheNextBrickAsTheOnlyPreview() {
+        ViewData viewData = new ViewData(new int[][]{{1}}, 0, 0, new int[][]{{2}}, 0);
+
+        assertEquals(1, viewData.getPreviewCount());
+        assertSame(viewData.getNextBrickShape(), viewData.getPreviewShape(0));
+    }
+
+    @Test
+    void updatesReportOnlyWhatChanged() {
+        BrickShape brick = BrickShape.of(new int[][]{{1, 1}});
+        BrickShape rotated = BrickShape.of(new int[][]{{1}, {1}});
+        BrickShape next = BrickShape.of(new int[][]{{2}});
+        BrickShape after = BrickShape.of(new int[][]{{3}});
+        ViewData reusable = ViewData.createReusable();
+
+        assertEquals(ViewData.ALL, reusable.getChanges(), "Nothing has been drawn from an empty instance");
+        assertEquals(ViewData.ALL, reusable.update(brick, 4, 0, next, 10).getChanges());
+        assertEquals(0, reusable.update(brick, 4, 0, next, 10).getChanges());
+        assertEquals(ViewData.POSITION, reusable.update(brick, 4, 1, next, 10).getChanges(),
+                "A drop keeps the shape, ghost and preview");
+        assertEquals(ViewData.POSITION | ViewData.GHOST, reusable.update(brick, 3, 1, next, 11).getChanges());
+        assertEquals(ViewData.SHAPE, reusable.update(rotated, 3, 1, next, 11).getChanges());
+        assertEquals(ViewData.ALL, reusable.update(next, 4, 0, after, 12).getChanges(),
+                "A new brick changes everything");
+    }
+
+    @Test
+    void copyingAViewDataReportsTheDifferenceFromTheCopiesPreviousContent() {
+        BrickShape brick = BrickShape.of(new int[][]{{1, 1}});
+        BrickShape[] preview = {
+                BrickShape.of(new int[][]{{2}}),
+                BrickShape.of(new int[][]{{3}}),
+                BrickShape.of(new int[][]{{4}})
+        };
+        ViewData source = ViewData.createReusable().update(brick, 0, 0, preview, 3, 5);
+        ViewData shown = ViewData.createReusable().update(source);
+
+        source.update(brick, 1, 0, preview, 3, 5);
+        source.update(brick, 2, 0, preview, 3, 5);
+        assertEquals(ViewData.POSITION, shown.update(source).getChanges(),
+                "Skipped updates of the source are folded into one difference");
+        assertEquals(2, shown.getxPosition());
+        assertEquals(3, shown.getPreviewCount());
+
+        preview[2] = preview[0];
+        source.update(brick, 2, 0, preview, 3, 5);
+        assertEquals(ViewData.PREVIEW, shown.update(source).getChanges());
+        assertSame(preview[0], shown.getPreviewShape(2));
+        assertEquals(ViewData.ALL, new ViewData(brick, 0, 0, preview, 3, 5).getChanges());
+    }
 }
@@ -0,0 +1,130 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.RenderFrame;
+import com.comp2042.logic.RenderFrames;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Renders a 4x4 visible board (plus 2 hidden rows) of 4 px square tiles with a 1 px grid gap.
+ */
+class BoardRasterTest {
+
+    private static final int RED = 0xFFFF0000;
+    private static final int HALF_RED_PRE = 0x80800000;
+    private static final int GRID = 0xFF00FF00;
+    private static final int PITCH = 5;
+    private static final BrickShape DOT = BrickShape.of(new int[][]{{1}});
+
+    private static int[][] bricks(int argb, int tileSize) {
+        int[] brick = new int[tileSize * tileSize];
+        Arrays.fill(brick, argb);
+        return new int[][]{null, brick};
+    }
+
+    private static TileSet squareTiles() {
+        return new TileSet(bricks(RED, 4), bricks(HALF_RED_PRE, 4), GRID, 4, 1);
+    }
+
+    private static RenderFrame frame(int x, int y, int ghostY) {
+        int[][] board = new int[6][4];
+        board[5][0] = 1;
+        return RenderFrames.of(board, new ViewData(DOT, x, y, DOT, ghostY));
+    }
+
+    @Test
+    void render_blitsTilesForTheVisibleCells() {
+        BoardRaster raster = new BoardRaster(squareTiles(), 6, 4, 2);
+        assertEquals(4 * PITCH - 1, raster.getWidth(), "No gap after the last column");
+        assertEquals(4 * PITCH - 1, raster.getHeight());
+
+        raster.render(frame(2, 2, 4), true);
+
+        assertEquals(RED, raster.getPixel(0, 3 * PITCH), "Landed block at board row 5, visible row 3");
+        assertEquals(RED, raster.getPixel(2 * PITCH + 3, 3), "Active brick at board row 2, visible row 0");
+        assertEquals(HALF_RED_PRE, raster.getPixel(2 * PITCH, 2 * PITCH), "Ghost cell");
+        assertEquals(0, raster.getPixel(PITCH, 0), "Empty cells are transparent");
+        assertEquals(GRID, raster.getPixel(4, 0), "The gap holds the grid");
+        assertEquals(GRID, raster.getPixel(0, 4));
+    }
+
+    @Test
+    void copyChanges_copiesEverythingOnce_thenOnlyTheCellsThatMoved() {
+        BoardRaster raster = new BoardRaster(squareTiles(), 6, 4, 2);
+        IntBuffer screen = IntBuffer.allocate(raster.getWidth() * raster.getHeight());
+        int[] shown = new int[raster.getCellCount()];
+        Arrays.fill(shown, BoardRaster.UNPAINTED);
+        int[] dirty = new int[4];
+
+        raster.render(frame(1, 2, 4), false);
+        assertTrue(raster.hasChanges(shown));
+        assertTrue(raster.copyChanges(shown, screen, dirty));
+        assertArrayEquals(new int[]{0, 0, raster.getWidth(), raster.getHeight()}, dirty);
+        assertEquals(RED, screen.get(3 * PITCH * raster.getWidth()));
+        assertFalse(raster.hasChanges(shown));
+        assertFalse(raster.copyChanges(shown, screen, dirty));
+
+        raster.render(frame(2, 2, 4), false);
+        assertTrue(raster.copyChanges(shown, screen, dirty));
+        assertArrayEquals(new int[]{PITCH, 0, 2 * PITCH, PITCH}, dirty, "Only the two cells of row 0 that changed");
+        assertEquals(0, screen.get(PITCH));
+        assertEquals(RED, screen.get(2 * PITCH));
+    }
+
+    @Test
+    void copyChanges_bringsAnotherRastersCopyUpToDate() {
+        TileSet tiles = squareTiles();
+        BoardRaster behind = new BoardRaster(tiles, 6, 4, 2);
+        BoardRaster ahead = new BoardRaster(tiles, 6, 4, 2);
+        IntBuffer screen = IntBuffer.allocate(behind.getWidth() * behind.getHeight());
+        int[] shown = new int[behind.getCellCount()];
+        Arrays.fill(shown, BoardRaster.UNPAINTED);
+        int[] dirty = new int[4];
+
+        behind.render(frame(0, 2, 4), true);
+        behind.copyChanges(shown, screen, dirty);
+        ahead.render(frame(3, 3, 4), true);
+        ahead.copyChanges(shown, screen, dirty);
+
+        for (int y = 0; y < ahead.getHeight(); y++) {
+            for (int x = 0; x < ahead.getWidth(); x++) {
+                assertEquals(ahead.getPixel(x, y), screen.get(y * ahead.getWidth() + x), "Pixel " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void tiles_copyTheBrickPixels_andFillTheGapWithThePremultipliedGrid() {
+        int[] brick = new int[16];
+        for (int i = 0; i < brick.length; i++) {
+            brick[i] = i << 24;
+        }
+        TileSet tiles = new TileSet(new int[][]{null, brick}, new int[][]{null, brick}, 0x80FFFFFF, 4, 1);
+        int[] tile = tiles.getTile(1);
+
+        assertEquals(0, tile[0]);
+        assertEquals(6 << 24, tile[PITCH + 2], "Brick row 1, column 2");
+        assertEquals(0x80808080, tile[4], "Gap after the brick holds the grid");
+        assertEquals(0x80808080, tile[4 * PITCH]);
+        assertSame(tiles.getTile(0), tiles.getTile(9), "Ids without a colour draw the empty tile");
+        assertEquals(0, tiles.getTile(0)[0]);
+    }
+
+    @Test
+    void invalidSizes_areRejected() {
+        TileSet tiles = squareTiles();
+        assertThrows(IllegalArgumentException.class, () -> new BoardRaster(tiles, 2, 4, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileSet(bricks(RED, 4), new int[1][], GRID, 4, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileSet(bricks(RED, 4), bricks(RED, 4), GRID, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TileSet(bricks(RED, 3), bricks(RED, 3), GRID, 4, 1));
+    }
+}